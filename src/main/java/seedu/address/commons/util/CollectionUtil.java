@@ -4,7 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +37,56 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns an iterator over the elements of all of {@code sortedIterators} in the order of {@code comparator}.
+     * Each of {@code sortedIterators} must already be in that order, and may be infinite, since elements are only
+     * taken from them as the returned iterator advances.
+     */
+    public static <T> Iterator<T> mergeSorted(List<? extends Iterator<? extends T>> sortedIterators,
+                                              Comparator<? super T> comparator) {
+        requireAllNonNull(sortedIterators);
+        requireNonNull(comparator);
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(1, sortedIterators.size()),
+                (first, second) -> comparator.compare(first.value, second.value));
+        for (Iterator<? extends T> iterator : sortedIterators) {
+            Head.offerNext(heads, iterator);
+        }
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                Head<T> head = heads.poll();
+                if (head == null) {
+                    throw new NoSuchElementException();
+                }
+                Head.offerNext(heads, head.rest);
+                return head.value;
+            }
+        };
+    }
+
+    /**
+     * The next element of an iterator being merged, and the iterator it was taken from.
+     */
+    private static class Head<T> {
+        private final T value;
+        private final Iterator<? extends T> rest;
+
+        private Head(T value, Iterator<? extends T> rest) {
+            this.value = value;
+            this.rest = rest;
+        }
+
+        private static <T> void offerNext(PriorityQueue<Head<T>> heads, Iterator<? extends T> iterator) {
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+    }
 }
@@ -38,6 +38,96 @@ public class StringUtil {
                 .anyMatch(x -> x.contains(preppedWord));
     }
 
+    /**
+     * Returns {@code text} trimmed, with each run of whitespace inside it replaced by a single space.
+     * This is equivalent to {@code text.trim().replaceAll("\\s+", " ")}, but returns the trimmed string itself,
+     * without compiling a pattern or copying, if it has no whitespace other than single spaces.
+     *   <br>examples:<pre>
+     *       normalizeWhitespace("  Alice \t Pauline ") == "Alice Pauline"
+     *       </pre>
+     * @param text cannot be null
+     */
+    public static String normalizeWhitespace(String text) {
+        requireNonNull(text);
+        String trimmed = text.trim();
+        int firstIrregular = 0;
+        while (firstIrregular < trimmed.length() && !isIrregularWhitespace(trimmed, firstIrregular)) {
+            firstIrregular++;
+        }
+        if (firstIrregular == trimmed.length()) {
+            return trimmed;
+        }
+
+        StringBuilder builder = new StringBuilder(trimmed.length()).append(trimmed, 0, firstIrregular);
+        boolean isInWhitespace = false;
+        for (int i = firstIrregular; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (isWhitespace(c)) {
+                isInWhitespace = true;
+                continue;
+            }
+            if (isInWhitespace) {
+                builder.append(' ');
+                isInWhitespace = false;
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns true if the character at {@code index} of {@code text} is whitespace that
+     * {@link #normalizeWhitespace(String)} would change, that is, whitespace other than a space followed by
+     * non-whitespace.
+     */
+    private static boolean isIrregularWhitespace(String text, int index) {
+        char c = text.charAt(index);
+        if (c == ' ') {
+            return index + 1 < text.length() && isWhitespace(text.charAt(index + 1));
+        }
+        return isWhitespace(c);
+    }
+
+    /**
+     * Returns true if {@code c} is matched by the regular expression {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, that is, the least number of
+     * single-character insertions, deletions and substitutions needed to turn one into the other.
+     *   <br>examples:<pre>
+     *       levenshteinDistance("alice", "alcie") == 2
+     *       levenshteinDistance("bob", "bobby") == 2
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int levenshteinDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,121 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Allocation-free checks shared by the validators of the model value types.
+ * Each check scans its input once by hand instead of going through {@link String#matches(String)}, which compiles
+ * a fresh pattern on every call. Validators run for every field of every record when the address book is loaded.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} matches {@code [\p{Alnum}][\p{Alnum} ]*} and is at most {@code maxLength}
+     * characters long, that is, it starts with an ASCII letter or digit and contains only those and spaces.
+     */
+    public static boolean isAlphanumericWords(String test, int maxLength) {
+        requireNonNull(test);
+        if (test.isEmpty() || test.length() > maxLength || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code \d{minLength,}}, that is, it consists of at least
+     * {@code minLength} ASCII digits and nothing else.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        requireNonNull(test);
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test}, ignoring surrounding whitespace as {@link String#trim()} does, is not empty and
+     * is at most {@code maxLength} characters long.
+     */
+    public static boolean isNonBlank(String test, int maxLength) {
+        requireNonNull(test);
+        int start = 0;
+        int end = test.length();
+        while (start < end && test.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && test.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return start < end && end - start <= maxLength;
+    }
+
+    /**
+     * Returns true if {@code test} is an email address in lowercase dot-atom form, that is, {@code local@domain}
+     * where the local part is one or more dot-separated runs of letters, digits and
+     * {@code !#$%&'*+/=?^_`{|}~-}, and the domain is two or more dot-separated labels of letters, digits and
+     * hyphens that neither start nor end with a hyphen.
+     * This is the form that almost all addresses take; it does not accept quoted local parts or IP address literals.
+     */
+    public static boolean isDotAtomEmail(String test) {
+        requireNonNull(test);
+        int at = test.indexOf('@');
+        return at >= 0 && isDotAtom(test, 0, at) && isDomain(test, at + 1, test.length());
+    }
+
+    private static boolean isDotAtom(String test, int from, int to) {
+        int atomStart = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || test.charAt(i) == '.') {
+                if (i == atomStart) {
+                    return false;
+                }
+                atomStart = i + 1;
+            } else if (!isAtomCharacter(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDomain(String test, int from, int to) {
+        int labels = 0;
+        int labelStart = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || test.charAt(i) == '.') {
+                if (i == labelStart || test.charAt(labelStart) == '-' || test.charAt(i - 1) == '-') {
+                    return false;
+                }
+                labels++;
+                labelStart = i + 1;
+            } else if (!isLowerCaseAlphanumeric(test.charAt(i)) && test.charAt(i) != '-') {
+                return false;
+            }
+        }
+        return labels >= 2;
+    }
+
+    private static boolean isAtomCharacter(char c) {
+        return isLowerCaseAlphanumeric(c) || "!#$%&'*+/=?^_`{|}~-".indexOf(c) >= 0;
+    }
+
+    private static boolean isLowerCaseAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
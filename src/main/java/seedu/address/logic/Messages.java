@@ -1,11 +1,16 @@
 package seedu.address.logic;
 
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.Contact;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.animal.Animal;
+import seedu.address.model.feedingsession.FeedingSession;
 import seedu.address.model.person.Person;
 
 /**
@@ -31,6 +36,10 @@ public class Messages {
     public static final String MESSAGE_FEEDING_SESSION_NOT_FOUND =
             "No feeding session found with the specified details";
 
+    public static final String MESSAGE_DID_YOU_MEAN = "%1$s\nDid you mean: %2$s?";
+    public static final int MAX_SUGGESTIONS = 3;
+    public static final DateTimeFormatter SESSION_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy, HH:mm");
+
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "";
@@ -49,6 +58,22 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns {@code message} followed by the names of up to {@link #MAX_SUGGESTIONS} of {@code suggestions},
+     * or {@code message} alone if there are no suggestions.
+     */
+    public static String withSuggestions(String message, List<? extends Contact> suggestions) {
+        if (suggestions.isEmpty()) {
+            return message;
+        }
+
+        String names = suggestions.stream()
+                .limit(MAX_SUGGESTIONS)
+                .map(contact -> contact.getName().fullName)
+                .collect(Collectors.joining(", "));
+        return String.format(MESSAGE_DID_YOU_MEAN, message, names);
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
@@ -80,4 +105,17 @@ public class Messages {
         return builder.toString();
     }
 
+    /**
+     * Formats the {@code session} for display to the user, such as "24 Dec 2025, 08:00: James Tan fed Max".
+     * The feeder and the animal are looked up in {@code addressBook}.
+     */
+    public static String format(FeedingSession session, ReadOnlyAddressBook addressBook) {
+        Person feeder = addressBook.getPersonById(session.getPersonId());
+        Animal fed = addressBook.getAnimalById(session.getAnimalId());
+        return String.format("%1$s: %2$s fed %3$s%4$s", session.getDateTime().format(SESSION_TIME_FORMATTER),
+                feeder == null ? "Unknown person" : feeder.getName(),
+                fed == null ? "unknown animal" : fed.getName(),
+                session.getDuration().map(duration -> " for " + duration.toMinutes() + " min").orElse(""));
+    }
+
 }
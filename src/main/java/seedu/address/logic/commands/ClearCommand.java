@@ -17,8 +17,7 @@ public class ClearCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.saveState();
-        model.setAddressBook(new AddressBook());
+        model.transaction(() -> model.setAddressBook(new AddressBook()));
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
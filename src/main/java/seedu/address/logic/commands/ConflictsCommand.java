@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.feedingsession.FeedingSession;
+
+/**
+ * Lists every pair of recorded feeding sessions that book the same person at overlapping times.
+ */
+public class ConflictsCommand extends Command {
+
+    public static final String COMMAND_WORD = "conflicts";
+
+    public static final String MESSAGE_SUCCESS = "Found %1$d pair(s) of overlapping feeding sessions:";
+    public static final String MESSAGE_NO_CONFLICTS = "No person is booked for overlapping feeding sessions";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        List<Map.Entry<FeedingSession, FeedingSession>> conflicts = addressBook.getOverlappingFeedingSessions();
+        if (conflicts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CONFLICTS);
+        }
+
+        StringBuilder lines = new StringBuilder(String.format(MESSAGE_SUCCESS, conflicts.size()));
+        for (Map.Entry<FeedingSession, FeedingSession> conflict : conflicts) {
+            lines.append('\n').append(Messages.format(conflict.getKey(), addressBook))
+                    .append(" overlaps ").append(Messages.format(conflict.getValue(), addressBook));
+        }
+        return new CommandResult(lines.toString());
+    }
+}
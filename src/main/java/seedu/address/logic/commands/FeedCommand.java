@@ -1,15 +1,19 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FEEDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.Name;
@@ -28,11 +32,13 @@ public class FeedCommand extends Command {
             + "Parameters: "
             + PREFIX_FEEDER + "PERSON_NAME "
             + PREFIX_NAME + "ANIMAL_NAME "
-            + PREFIX_DATETIME + "DATETIME\n"
+            + PREFIX_DATETIME + "DATETIME "
+            + "[" + PREFIX_DURATION + "MINUTES]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_NAME + "Max "
             + PREFIX_FEEDER + "James Tan "
-            + PREFIX_DATETIME + "2025-12-25 09:00";
+            + PREFIX_DATETIME + "2025-12-25 09:00 "
+            + PREFIX_DURATION + "15";
 
     public static final String MESSAGE_SUCCESS = """
             Feeding session recorded successfully!
@@ -43,51 +49,77 @@ public class FeedCommand extends Command {
     public static final String MESSAGE_ANIMAL_NOT_FOUND = "The animal '%1$s' is not found in the address book";
     public static final String MESSAGE_DUPLICATE_FEEDING_SESSION =
             "This feeding session already exists in the address book";
+    public static final String MESSAGE_OVERLAPPING_SESSION =
+            "%1$s is already busy with another feeding session at that time: %2$s";
 
     private final Name personName;
     private final Name animalName;
     private final LocalDateTime feedingTime;
+    private final Optional<Duration> duration;
 
     /**
-     * Creates a FeedCommand to record a feeding session.
+     * Creates a FeedCommand to record a feeding session without a duration.
      *
      * @param personName Name of the person feeding the animal
      * @param animalName Name of the animal being fed
      * @param feedingTime Time when the feeding occurs
      */
     public FeedCommand(Name personName, Name animalName, LocalDateTime feedingTime) {
+        this(personName, animalName, feedingTime, Optional.empty());
+    }
+
+    /**
+     * Creates a FeedCommand to record a feeding session.
+     *
+     * @param personName Name of the person feeding the animal
+     * @param animalName Name of the animal being fed
+     * @param feedingTime Time when the feeding occurs
+     * @param duration How long the feeding lasts, or empty if not known
+     */
+    public FeedCommand(Name personName, Name animalName, LocalDateTime feedingTime, Optional<Duration> duration) {
         requireNonNull(personName);
         requireNonNull(animalName);
         requireNonNull(feedingTime);
+        requireNonNull(duration);
+        checkArgument(duration.map(FeedingSession::isValidDuration).orElse(true),
+                FeedingSession.MESSAGE_DURATION_CONSTRAINTS);
 
         this.personName = personName;
         this.animalName = animalName;
         this.feedingTime = feedingTime;
+        this.duration = duration;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Person> personList = model.getFilteredPersonList();
-        Person person = personList.stream()
-                .filter(p -> p.getName().equals(personName))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(
-                        String.format(MESSAGE_PERSON_NOT_FOUND, personName)));
+        Person person = model.getPersonByName(personName, true);
+        if (person == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(MESSAGE_PERSON_NOT_FOUND, personName),
+                    model.getPersonsWithSimilarName(personName.fullName)));
+        }
 
-        List<Animal> animalList = model.getFilteredAnimalList();
-        Animal animal = animalList.stream()
-                .filter(a -> a.getName().equals(animalName))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(
-                        String.format(MESSAGE_ANIMAL_NOT_FOUND, animalName)));
+        Animal animal = model.getAnimalByName(animalName, true);
+        if (animal == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(MESSAGE_ANIMAL_NOT_FOUND, animalName),
+                    model.getAnimalsWithSimilarName(animalName.fullName)));
+        }
 
         if (model.hasFeedingSessionByDetails(animal.getId(), person.getId(), feedingTime)) {
             throw new CommandException(MESSAGE_DUPLICATE_FEEDING_SESSION);
         }
 
-        FeedingSession newFeedingSession = new FeedingSession(animal.getId(), person.getId(), feedingTime);
+        FeedingSession newFeedingSession = new FeedingSession(animal.getId(), person.getId(), feedingTime, duration);
+
+        FeedingSession overlappingSession = model.getOverlappingFeedingSession(person.getId(), feedingTime,
+                newFeedingSession.getEndTime());
+        if (overlappingSession != null) {
+            throw new CommandException(String.format(MESSAGE_OVERLAPPING_SESSION, person.getName(),
+                    Messages.format(overlappingSession, model.getAddressBook())));
+        }
 
         Person updatedPerson = person.addFeedingSessionId(newFeedingSession.getId());
 
@@ -114,7 +146,8 @@ public class FeedCommand extends Command {
 
         return personName.equals(otherCommand.personName)
                 && animalName.equals(otherCommand.animalName)
-                && feedingTime.equals(otherCommand.feedingTime);
+                && feedingTime.equals(otherCommand.feedingTime)
+                && duration.equals(otherCommand.duration);
     }
 
     @Override
@@ -123,6 +156,7 @@ public class FeedCommand extends Command {
                 .add("personName", personName)
                 .add("animalName", animalName)
                 .add("feedingTime", feedingTime)
+                .add("duration", duration)
                 .toString();
     }
 }
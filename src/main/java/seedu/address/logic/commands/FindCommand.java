@@ -28,24 +28,30 @@ public class FindCommand<T extends Contact> extends Command {
             + "and/or tags.\n Use n/ for name substring (any-match, case-insensitive). "
             + "Use t/ for tag (exact-match, case-insensitive).\n"
             + "At least one of n/ or t/ must be provided. Multiple flags allowed.\n"
+            + "Add 'fuzzy' before the flags to also match names with a few typos.\n"
             + "Examples:\n"
             + "- find person n/bob n/al\n"
             + "- find person t/happy\n"
-            + "- find person n/bob t/angry t/happy";
+            + "- find person n/bob t/angry t/happy\n"
+            + "- find person fuzzy n/alcie";
 
     public static final String ANIMAL_MESSAGE_USAGE = COMMAND_WORD + " animal: Finds animals by name substrings "
             + " and/or tags.\n Use n/ for name substring (any-match, case-insensitive). "
             + "Use t/ for tag (exact-match, case-insensitive).\n"
             + "At least one of n/ or t/ must be provided. Multiple flags allowed.\n"
+            + "Add 'fuzzy' before the flags to also match names with a few typos.\n"
             + "Examples:\n"
             + "- find animal n/lu n/ma\n"
             + "- find animal t/happy\n"
-            + "- find animal n/lu t/friendly t/small";
+            + "- find animal n/lu t/friendly t/small\n"
+            + "- find animal fuzzy n/mxa";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons/animals whose names and/or tags "
             + "match the given keywords and displays them as a list with index numbers.\n"
             + "Use n/ for name substring (case-insensitive). Use t/ for tag (exact match, case-insensitive).\n"
             + "At least one of n/ or t/ must be provided. Multiple flags allowed.\n"
+            + "Add 'fuzzy' before the flags to also match names with a few typos, e.g. "
+            + COMMAND_WORD + " " + TYPE_PERSON + " fuzzy n/alcie\n"
             + "1. To find a person:\n"
             + "Example: " + COMMAND_WORD + " "
             + TYPE_PERSON + " n/luna n/bob\n"
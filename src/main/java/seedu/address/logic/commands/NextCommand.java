@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.feedingsession.FeedingSession;
+
+/**
+ * Lists the recorded and scheduled feeding sessions that are due next across the whole shelter.
+ */
+public class NextCommand extends Command {
+
+    public static final String COMMAND_WORD = "next";
+
+    public static final int DEFAULT_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the next feeding sessions that are due, "
+            + "soonest first.\n"
+            + "Parameters: [COUNT] (must be a positive integer, " + DEFAULT_COUNT + " if not given)\n"
+            + "Example: " + COMMAND_WORD + " 10";
+
+    public static final String MESSAGE_SUCCESS = "Next %1$d feeding sessions:";
+    public static final String MESSAGE_NO_UPCOMING_SESSIONS = "There are no upcoming feeding sessions.";
+
+    private final int count;
+    private final Clock clock;
+
+    /**
+     * Creates a NextCommand to list the next {@code count} feeding sessions from the current time.
+     */
+    public NextCommand(int count) {
+        this(count, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a NextCommand to list the next {@code count} feeding sessions from the current time of {@code clock}.
+     */
+    public NextCommand(int count, Clock clock) {
+        requireNonNull(clock);
+        checkArgument(count > 0, "Count must be positive");
+        this.count = count;
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+
+        StringBuilder lines = new StringBuilder();
+        int listed = 0;
+        Iterator<FeedingSession> upcoming = addressBook.getFeedingsFrom(LocalDateTime.now(clock)).iterator();
+        while (listed < count && upcoming.hasNext()) {
+            lines.append('\n').append(Messages.format(upcoming.next(), addressBook));
+            listed++;
+        }
+
+        if (listed == 0) {
+            return new CommandResult(MESSAGE_NO_UPCOMING_SESSIONS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, listed) + lines);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof NextCommand)) {
+            return false;
+        }
+
+        NextCommand otherCommand = (NextCommand) other;
+        return count == otherCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .toString();
+    }
+}
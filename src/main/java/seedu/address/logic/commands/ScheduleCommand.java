@@ -0,0 +1,127 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FEEDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.time.LocalDateTime;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.Name;
+import seedu.address.model.animal.Animal;
+import seedu.address.model.feedingsession.FeedingSchedule;
+import seedu.address.model.person.Person;
+
+/**
+ * Schedules a recurring feeding of an animal by a person.
+ */
+public class ScheduleCommand extends Command {
+
+    public static final String COMMAND_WORD = "schedule";
+
+    public static final int DEFAULT_INTERVAL_DAYS = 1;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Schedules a feeding of an animal by a person "
+            + "that repeats every given number of days.\n"
+            + "Parameters: "
+            + PREFIX_FEEDER + "PERSON_NAME "
+            + PREFIX_NAME + "ANIMAL_NAME "
+            + PREFIX_DATETIME + "FIRST_DATETIME "
+            + "[" + PREFIX_EVERY + "DAYS]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_NAME + "Max "
+            + PREFIX_FEEDER + "James Tan "
+            + PREFIX_DATETIME + "2025-12-25 08:00 "
+            + PREFIX_EVERY + "1";
+
+    public static final String MESSAGE_SUCCESS = "Scheduled %1$s to feed %2$s every %3$d day(s) at %4$s, "
+            + "starting %5$s";
+    public static final String MESSAGE_DUPLICATE_SCHEDULE = "This feeding is already scheduled";
+
+    private final Name personName;
+    private final Name animalName;
+    private final LocalDateTime start;
+    private final int intervalDays;
+
+    /**
+     * Creates a ScheduleCommand to schedule a recurring feeding.
+     *
+     * @param personName Name of the person to feed the animal.
+     * @param animalName Name of the animal to be fed.
+     * @param start Date and time of the first feeding.
+     * @param intervalDays Number of days from one feeding to the next, which must be positive.
+     */
+    public ScheduleCommand(Name personName, Name animalName, LocalDateTime start, int intervalDays) {
+        requireAllNonNull(personName, animalName, start);
+        checkArgument(FeedingSchedule.isValidInterval(intervalDays), FeedingSchedule.MESSAGE_CONSTRAINTS);
+
+        this.personName = personName;
+        this.animalName = animalName;
+        this.start = start;
+        this.intervalDays = intervalDays;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Person person = model.getPersonByName(personName, true);
+        if (person == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(Messages.MESSAGE_PERSON_NOT_FOUND_FOR_FEED, personName),
+                    model.getPersonsWithSimilarName(personName.fullName)));
+        }
+
+        Animal animal = model.getAnimalByName(animalName, true);
+        if (animal == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(Messages.MESSAGE_ANIMAL_NOT_FOUND_FOR_FEED, animalName),
+                    model.getAnimalsWithSimilarName(animalName.fullName)));
+        }
+
+        for (FeedingSchedule existing : model.getFeedingScheduleList()) {
+            if (existing.involvesAnimal(animal.getId()) && existing.involvesPerson(person.getId())
+                    && existing.occursAt(start)) {
+                throw new CommandException(MESSAGE_DUPLICATE_SCHEDULE);
+            }
+        }
+
+        model.addFeedingSchedule(new FeedingSchedule(animal.getId(), person.getId(), start, intervalDays));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, person.getName(), animal.getName(), intervalDays,
+                start.toLocalTime(), start.format(Messages.SESSION_TIME_FORMATTER)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ScheduleCommand)) {
+            return false;
+        }
+
+        ScheduleCommand otherCommand = (ScheduleCommand) other;
+        return personName.equals(otherCommand.personName)
+                && animalName.equals(otherCommand.animalName)
+                && start.equals(otherCommand.start)
+                && intervalDays == otherCommand.intervalDays;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personName", personName)
+                .add("animalName", animalName)
+                .add("start", start)
+                .add("intervalDays", intervalDays)
+                .toString();
+    }
+}
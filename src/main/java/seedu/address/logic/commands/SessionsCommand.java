@@ -0,0 +1,170 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FEEDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.Name;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.animal.Animal;
+import seedu.address.model.feedingsession.FeedingSession;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the recorded and scheduled feeding sessions in a time range, optionally only those of a given animal or
+ * person.
+ */
+public class SessionsCommand extends Command {
+
+    public static final String COMMAND_WORD = "sessions";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the feeding sessions between two date times, "
+            + "both inclusive, optionally only those of an animal or a person.\n"
+            + "Parameters: "
+            + PREFIX_FROM + "DATETIME "
+            + PREFIX_TO + "DATETIME "
+            + "[" + PREFIX_NAME + "ANIMAL_NAME] "
+            + "[" + PREFIX_FEEDER + "PERSON_NAME]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "2025-12-24 06:00 "
+            + PREFIX_TO + "2025-12-24 09:00 "
+            + PREFIX_NAME + "Max";
+
+    public static final String MESSAGE_SUCCESS = "Listed %1$d feeding sessions from %2$s to %3$s";
+    public static final String MESSAGE_INVALID_RANGE = "The start of the range must not be after its end";
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final Optional<Name> animalName;
+    private final Optional<Name> personName;
+
+    /**
+     * Creates a SessionsCommand to list the feeding sessions from {@code from} to {@code to}.
+     *
+     * @param from The earliest date and time to list, inclusive.
+     * @param to The latest date and time to list, inclusive, which must not be before {@code from}.
+     * @param animalName Name of the animal to list the sessions of, if any.
+     * @param personName Name of the person to list the sessions of, if any.
+     */
+    public SessionsCommand(LocalDateTime from, LocalDateTime to, Optional<Name> animalName,
+                           Optional<Name> personName) {
+        requireAllNonNull(from, to, animalName, personName);
+        checkArgument(!from.isAfter(to), MESSAGE_INVALID_RANGE);
+
+        this.from = from;
+        this.to = to;
+        this.animalName = animalName;
+        this.personName = personName;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Animal animal = animalName.isPresent() ? findAnimal(model, animalName.get()) : null;
+        Person person = personName.isPresent() ? findPerson(model, personName.get()) : null;
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        Iterator<FeedingSession> recorded = getSessions(addressBook, animal, person).iterator();
+        Iterator<FeedingSession> scheduled = addressBook.getScheduledFeedingsFrom(from)
+                .takeWhile(session -> !session.getDateTime().isAfter(to))
+                .iterator();
+        Iterator<FeedingSession> sessions =
+                CollectionUtil.mergeSorted(List.of(recorded, scheduled), FeedingSession.CHRONOLOGICAL_ORDER);
+
+        StringBuilder lines = new StringBuilder();
+        int count = 0;
+        while (sessions.hasNext()) {
+            FeedingSession session = sessions.next();
+            if ((animal == null || session.involvesAnimal(animal.getId()))
+                    && (person == null || session.involvesPerson(person.getId()))) {
+                lines.append('\n').append(Messages.format(session, addressBook));
+                count++;
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count,
+                from.format(Messages.SESSION_TIME_FORMATTER), to.format(Messages.SESSION_TIME_FORMATTER))
+                + lines);
+    }
+
+    /**
+     * Returns the recorded sessions in range of {@code animal} or {@code person}, or of everyone if both are null.
+     * If neither is null, returns the sessions of whichever has fewer of them in range, which the caller must filter
+     * by the other.
+     */
+    private NavigableSet<FeedingSession> getSessions(ReadOnlyAddressBook addressBook, Animal animal, Person person) {
+        NavigableSet<FeedingSession> ofAnimal = animal == null ? null
+                : FeedingSession.between(addressBook.getFeedingSessionsForAnimal(animal.getId()), from, to);
+        NavigableSet<FeedingSession> ofPerson = person == null ? null
+                : FeedingSession.between(addressBook.getFeedingSessionsForPerson(person.getId()), from, to);
+        if (ofAnimal == null && ofPerson == null) {
+            return addressBook.getFeedingSessionsBetween(from, to);
+        }
+        if (ofPerson == null || (ofAnimal != null && ofAnimal.size() <= ofPerson.size())) {
+            return ofAnimal;
+        }
+        return ofPerson;
+    }
+
+    private static Animal findAnimal(Model model, Name name) throws CommandException {
+        Animal animal = model.getAnimalByName(name, false);
+        if (animal == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(Messages.MESSAGE_ANIMAL_NOT_FOUND_FOR_FEED, name),
+                    model.getAnimalsWithSimilarName(name.fullName)));
+        }
+        return animal;
+    }
+
+    private static Person findPerson(Model model, Name name) throws CommandException {
+        Person person = model.getPersonByName(name, false);
+        if (person == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(Messages.MESSAGE_PERSON_NOT_FOUND_FOR_FEED, name),
+                    model.getPersonsWithSimilarName(name.fullName)));
+        }
+        return person;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SessionsCommand)) {
+            return false;
+        }
+
+        SessionsCommand otherCommand = (SessionsCommand) other;
+        return from.equals(otherCommand.from)
+                && to.equals(otherCommand.to)
+                && animalName.equals(otherCommand.animalName)
+                && personName.equals(otherCommand.personName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .add("animalName", animalName)
+                .add("personName", personName)
+                .toString();
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FEEDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.Name;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.animal.Animal;
+import seedu.address.model.feedingsession.FeedingStatistics;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows how many feeding sessions took place today and this week, overall and for each animal and person, and when
+ * each animal was last fed.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the number of feeding sessions today and "
+            + "this week, and when each animal was last fed, optionally only for an animal or a person.\n"
+            + "Parameters: "
+            + "[" + PREFIX_NAME + "ANIMAL_NAME] "
+            + "[" + PREFIX_FEEDER + "PERSON_NAME]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_NAME + "Max";
+
+    public static final String MESSAGE_SUCCESS = "Feeding statistics for %1$s and the week from %2$s:";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy");
+
+    private final Optional<Name> animalName;
+    private final Optional<Name> personName;
+    private final Clock clock;
+
+    /**
+     * Creates a StatsCommand to show the statistics as of the current time, of everyone if no names are given.
+     *
+     * @param animalName Name of the animal to show the statistics of, if any.
+     * @param personName Name of the person to show the statistics of, if any.
+     */
+    public StatsCommand(Optional<Name> animalName, Optional<Name> personName) {
+        this(animalName, personName, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a StatsCommand to show the statistics as of the current time of {@code clock}.
+     */
+    public StatsCommand(Optional<Name> animalName, Optional<Name> personName, Clock clock) {
+        requireAllNonNull(animalName, personName, clock);
+        this.animalName = animalName;
+        this.personName = personName;
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        boolean isForEveryone = animalName.isEmpty() && personName.isEmpty();
+        List<Animal> animals = List.of();
+        List<Person> persons = List.of();
+        if (isForEveryone) {
+            animals = addressBook.getAnimalList();
+            persons = addressBook.getPersonList();
+        }
+        if (animalName.isPresent()) {
+            animals = List.of(findAnimal(model, animalName.get()));
+        }
+        if (personName.isPresent()) {
+            persons = List.of(findPerson(model, personName.get()));
+        }
+
+        // Every count below is a lookup in statistics kept up to date as sessions change, not a pass over them
+        FeedingStatistics statistics = addressBook.getFeedingStatistics();
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDate today = now.toLocalDate();
+
+        StringBuilder lines = new StringBuilder(String.format(MESSAGE_SUCCESS, today.format(DATE_FORMATTER),
+                FeedingStatistics.getWeekStart(today).format(DATE_FORMATTER)));
+        if (isForEveryone) {
+            lines.append("\nAll feedings: ")
+                    .append(formatCounts(statistics.getDailyCount(today), statistics.getWeeklyCount(today)));
+        }
+        for (Animal animal : animals) {
+            lines.append('\n').append(animal.getName()).append(": ")
+                    .append(formatCounts(statistics.getDailyCountForAnimal(animal.getId(), today),
+                            statistics.getWeeklyCountForAnimal(animal.getId(), today)))
+                    .append(statistics.getLastFeedingTime(animal.getId(), now)
+                            .map(time -> ", last fed " + time.format(Messages.SESSION_TIME_FORMATTER))
+                            .orElse(", never fed"));
+        }
+        for (Person person : persons) {
+            lines.append('\n').append(person.getName()).append(": ")
+                    .append(formatCounts(statistics.getDailyCountForPerson(person.getId(), today),
+                            statistics.getWeeklyCountForPerson(person.getId(), today)));
+        }
+        return new CommandResult(lines.toString());
+    }
+
+    private static String formatCounts(int today, int thisWeek) {
+        return today + " today, " + thisWeek + " this week";
+    }
+
+    private static Animal findAnimal(Model model, Name name) throws CommandException {
+        Animal animal = model.getAnimalByName(name, false);
+        if (animal == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(Messages.MESSAGE_ANIMAL_NOT_FOUND_FOR_FEED, name),
+                    model.getAnimalsWithSimilarName(name.fullName)));
+        }
+        return animal;
+    }
+
+    private static Person findPerson(Model model, Name name) throws CommandException {
+        Person person = model.getPersonByName(name, false);
+        if (person == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(Messages.MESSAGE_PERSON_NOT_FOUND_FOR_FEED, name),
+                    model.getPersonsWithSimilarName(name.fullName)));
+        }
+        return person;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherCommand = (StatsCommand) other;
+        return animalName.equals(otherCommand.animalName)
+                && personName.equals(otherCommand.personName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("animalName", animalName)
+                .add("personName", personName)
+                .toString();
+    }
+}
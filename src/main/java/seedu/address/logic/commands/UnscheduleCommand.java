@@ -0,0 +1,132 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FEEDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.Name;
+import seedu.address.model.animal.Animal;
+import seedu.address.model.feedingsession.FeedingSchedule;
+import seedu.address.model.person.Person;
+
+/**
+ * Removes the scheduled feedings of an animal by a person, or skips one of them.
+ */
+public class UnscheduleCommand extends Command {
+
+    public static final String COMMAND_WORD = "unschedule";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Removes the feeding schedules of an animal by a "
+            + "person. If a date and time is given, only skips the scheduled feeding at that time.\n"
+            + "Parameters: "
+            + PREFIX_FEEDER + "PERSON_NAME "
+            + PREFIX_NAME + "ANIMAL_NAME "
+            + "[" + PREFIX_DATETIME + "DATETIME]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_NAME + "Max "
+            + PREFIX_FEEDER + "James Tan "
+            + PREFIX_DATETIME + "2025-12-26 08:00";
+
+    public static final String MESSAGE_SUCCESS = "Removed %1$d feeding schedule(s) of %2$s by %3$s";
+    public static final String MESSAGE_SKIPPED = "Skipped the feeding of %1$s by %2$s at %3$s";
+    public static final String MESSAGE_NO_SCHEDULE = "No feeding of %1$s by %2$s is scheduled";
+    public static final String MESSAGE_NO_SCHEDULED_FEEDING = "No feeding of %1$s by %2$s is scheduled at %3$s";
+
+    private final Name personName;
+    private final Name animalName;
+    private final Optional<LocalDateTime> dateTime;
+
+    /**
+     * Creates an UnscheduleCommand to remove or skip scheduled feedings.
+     *
+     * @param personName Name of the person in the schedules.
+     * @param animalName Name of the animal in the schedules.
+     * @param dateTime Date and time of the single scheduled feeding to skip, or empty to remove the schedules.
+     */
+    public UnscheduleCommand(Name personName, Name animalName, Optional<LocalDateTime> dateTime) {
+        requireAllNonNull(personName, animalName, dateTime);
+
+        this.personName = personName;
+        this.animalName = animalName;
+        this.dateTime = dateTime;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Person person = model.getPersonByName(personName, true);
+        if (person == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(Messages.MESSAGE_PERSON_NOT_FOUND_FOR_FEED, personName),
+                    model.getPersonsWithSimilarName(personName.fullName)));
+        }
+
+        Animal animal = model.getAnimalByName(animalName, true);
+        if (animal == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(Messages.MESSAGE_ANIMAL_NOT_FOUND_FOR_FEED, animalName),
+                    model.getAnimalsWithSimilarName(animalName.fullName)));
+        }
+
+        List<FeedingSchedule> schedules = model.getFeedingScheduleList().stream()
+                .filter(schedule -> schedule.involvesAnimal(animal.getId())
+                        && schedule.involvesPerson(person.getId()))
+                .collect(Collectors.toList());
+
+        if (dateTime.isEmpty()) {
+            if (schedules.isEmpty()) {
+                throw new CommandException(String.format(MESSAGE_NO_SCHEDULE, animal.getName(), person.getName()));
+            }
+            model.transaction(() -> schedules.forEach(model::deleteFeedingSchedule));
+            return new CommandResult(String.format(MESSAGE_SUCCESS, schedules.size(), animal.getName(),
+                    person.getName()));
+        }
+
+        LocalDateTime skipped = dateTime.get();
+        String formattedTime = skipped.format(Messages.SESSION_TIME_FORMATTER);
+        FeedingSchedule schedule = schedules.stream()
+                .filter(candidate -> candidate.occursAt(skipped))
+                .findFirst()
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_NO_SCHEDULED_FEEDING,
+                        animal.getName(), person.getName(), formattedTime)));
+        model.setFeedingSchedule(schedule, schedule.skipping(skipped));
+        return new CommandResult(String.format(MESSAGE_SKIPPED, animal.getName(), person.getName(), formattedTime));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof UnscheduleCommand)) {
+            return false;
+        }
+
+        UnscheduleCommand otherCommand = (UnscheduleCommand) other;
+        return personName.equals(otherCommand.personName)
+                && animalName.equals(otherCommand.animalName)
+                && dateTime.equals(otherCommand.dateTime);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personName", personName)
+                .add("animalName", animalName)
+                .add("dateTime", dateTime)
+                .toString();
+    }
+}
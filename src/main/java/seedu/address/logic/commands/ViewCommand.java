@@ -5,13 +5,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.TYPE_ANIMAL;
 import static seedu.address.logic.parser.CliSyntax.TYPE_PERSON;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.Type;
+import seedu.address.model.Contact;
 import seedu.address.model.Model;
+import seedu.address.model.Name;
 import seedu.address.model.animal.Animal;
 import seedu.address.model.person.Person;
 import seedu.address.ui.AnimalProfileWindow;
@@ -67,17 +67,13 @@ public class ViewCommand extends Command {
      * Views a person profile.
      */
     private CommandResult viewPerson(Model model) throws CommandException {
-        List<Person> personList = model.getFilteredPersonList();
-        Person person = personList.stream()
-                .filter(p -> p.getName().toString().equalsIgnoreCase(name))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, name)));
-
-        List<seedu.address.model.feedingsession.FeedingSession> feedingSessions =
-                new ArrayList<>(model.getFeedingSessionList());
-        List<Animal> animals = new ArrayList<>(model.getFilteredAnimalList());
+        Person person = Name.isValidName(name) ? model.getPersonByName(new Name(name), true) : null;
+        if (!isNamedExactly(person)) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(MESSAGE_PERSON_NOT_FOUND, name), model.getPersonsWithSimilarName(name)));
+        }
 
-        PersonProfileWindow.openProfile(person, feedingSessions, animals);
+        PersonProfileWindow.openProfile(person, model.getAddressBookSnapshot());
         return new CommandResult(String.format(MESSAGE_VIEW_PERSON_SUCCESS, person.getName().toString()));
     }
 
@@ -85,20 +81,24 @@ public class ViewCommand extends Command {
      * Views an animal profile.
      */
     private CommandResult viewAnimal(Model model) throws CommandException {
-        List<Animal> animalList = model.getFilteredAnimalList();
-        Animal animal = animalList.stream()
-                .filter(a -> a.getName().toString().equalsIgnoreCase(name))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(String.format(MESSAGE_ANIMAL_NOT_FOUND, name)));
-
-        List<seedu.address.model.feedingsession.FeedingSession> feedingSessions =
-                new ArrayList<>(model.getFeedingSessionList());
-        List<Person> persons = new ArrayList<>(model.getFilteredPersonList());
+        Animal animal = Name.isValidName(name) ? model.getAnimalByName(new Name(name), true) : null;
+        if (!isNamedExactly(animal)) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(MESSAGE_ANIMAL_NOT_FOUND, name), model.getAnimalsWithSimilarName(name)));
+        }
 
-        AnimalProfileWindow.openProfile(animal, feedingSessions, persons);
+        AnimalProfileWindow.openProfile(animal, model.getAddressBookSnapshot());
         return new CommandResult(String.format(MESSAGE_VIEW_ANIMAL_SUCCESS, animal.getName().toString()));
     }
 
+    /**
+     * Returns true if {@code contact} is non-null and its name is the requested name, ignoring case only.
+     * The name index also ignores surrounding and repeated spaces, which this command does not.
+     */
+    private boolean isNamedExactly(Contact contact) {
+        return contact != null && contact.getName().toString().equalsIgnoreCase(name);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -21,7 +22,8 @@ import seedu.address.model.person.Person;
 public class DeleteContactCommand<T extends Contact> extends DeleteCommand {
 
     private final Name name;
-    private final Function<Model, List<T>> listGetter;
+    private final BiFunction<Model, Name, T> nameLookup;
+    private final BiFunction<Model, String, List<T>> similarNameGetter;
     private final Function<Model, Void> deleteAction;
     private final String successMessageFormat;
     private final String notFoundMessage;
@@ -30,17 +32,20 @@ public class DeleteContactCommand<T extends Contact> extends DeleteCommand {
      * Creates a DeleteContactCommand with the specified name and model operations.
      */
     public DeleteContactCommand(Name name,
-                               Function<Model, List<T>> listGetter,
+                               BiFunction<Model, Name, T> nameLookup,
+                               BiFunction<Model, String, List<T>> similarNameGetter,
                                Function<Model, Void> deleteAction,
                                String successMessageFormat,
                                String notFoundMessage) {
         requireNonNull(name);
-        assert listGetter != null;
+        assert nameLookup != null;
+        assert similarNameGetter != null;
         assert successMessageFormat != null;
         assert notFoundMessage != null;
 
         this.name = name;
-        this.listGetter = listGetter;
+        this.nameLookup = nameLookup;
+        this.similarNameGetter = similarNameGetter;
         this.deleteAction = deleteAction;
         this.successMessageFormat = successMessageFormat;
         this.notFoundMessage = notFoundMessage;
@@ -52,7 +57,8 @@ public class DeleteContactCommand<T extends Contact> extends DeleteCommand {
     public static DeleteContactCommand<Person> forPerson(Name name) {
         return new DeleteContactCommand<>(
             name,
-            Model::getFilteredPersonList,
+            (model, target) -> model.getPersonByName(target, true),
+            Model::getPersonsWithSimilarName,
             null,
             Messages.MESSAGE_DELETED_PERSON_SUCCESS,
             Messages.MESSAGE_INVALID_PERSON_DISPLAYED_NAME
@@ -65,7 +71,8 @@ public class DeleteContactCommand<T extends Contact> extends DeleteCommand {
     public static DeleteContactCommand<Animal> forAnimal(Name name) {
         return new DeleteContactCommand<>(
             name,
-            Model::getFilteredAnimalList,
+            (model, target) -> model.getAnimalByName(target, true),
+            Model::getAnimalsWithSimilarName,
             null,
             Messages.MESSAGE_DELETED_ANIMAL_SUCCESS,
             Messages.MESSAGE_INVALID_ANIMAL_DISPLAYED_NAME
@@ -75,12 +82,11 @@ public class DeleteContactCommand<T extends Contact> extends DeleteCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<T> list = listGetter.apply(model);
-
-        T contactToDelete = list.stream()
-                .filter(contact -> contact.getName().equals(name))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(notFoundMessage));
+        T contactToDelete = nameLookup.apply(model, name);
+        if (contactToDelete == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    notFoundMessage, similarNameGetter.apply(model, name.fullName)));
+        }
 
         String formattedContact;
 
@@ -110,7 +116,7 @@ public class DeleteContactCommand<T extends Contact> extends DeleteCommand {
         @SuppressWarnings("unchecked")
         DeleteContactCommand<T> otherCommand = (DeleteContactCommand<T>) other;
         return name.equals(otherCommand.name)
-                && listGetter.equals(otherCommand.listGetter)
+                && nameLookup.equals(otherCommand.nameLookup)
                 && successMessageFormat.equals(otherCommand.successMessageFormat)
                 && notFoundMessage.equals(otherCommand.notFoundMessage);
     }
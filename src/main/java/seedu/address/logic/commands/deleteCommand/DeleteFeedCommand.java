@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -44,26 +43,24 @@ public class DeleteFeedCommand extends DeleteCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Person> personList = model.getFilteredPersonList();
-        Person person = personList.stream()
-                .filter(p -> p.getName().equals(personName))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(
-                        String.format(Messages.MESSAGE_PERSON_NOT_FOUND_FOR_FEED, personName)));
-
-        List<Animal> animalList = model.getFilteredAnimalList();
-        Animal animal = animalList.stream()
-                .filter(a -> a.getName().equals(animalName))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(
-                        String.format(Messages.MESSAGE_ANIMAL_NOT_FOUND_FOR_FEED, animalName)));
-
-        FeedingSession sessionToDelete = model.getFeedingSessionList().stream()
-                .filter(session -> session.getPersonId().equals(person.getId())
-                        && session.getAnimalId().equals(animal.getId())
-                        && session.getDateTime().equals(feedingTime))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(Messages.MESSAGE_FEEDING_SESSION_NOT_FOUND));
+        Person person = model.getPersonByName(personName, true);
+        if (person == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(Messages.MESSAGE_PERSON_NOT_FOUND_FOR_FEED, personName),
+                    model.getPersonsWithSimilarName(personName.fullName)));
+        }
+
+        Animal animal = model.getAnimalByName(animalName, true);
+        if (animal == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(Messages.MESSAGE_ANIMAL_NOT_FOUND_FOR_FEED, animalName),
+                    model.getAnimalsWithSimilarName(animalName.fullName)));
+        }
+
+        FeedingSession sessionToDelete = model.getFeedingSessionByDetails(animal.getId(), person.getId(), feedingTime);
+        if (sessionToDelete == null) {
+            throw new CommandException(Messages.MESSAGE_FEEDING_SESSION_NOT_FOUND);
+        }
 
         Person updatedPerson = person.removeFeedingSessionId(sessionToDelete.getId());
         Animal updatedAnimal = animal.removeFeedingSessionId(sessionToDelete.getId());
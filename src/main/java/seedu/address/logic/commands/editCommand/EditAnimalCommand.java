@@ -5,7 +5,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ANIMALS;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -50,11 +49,11 @@ public class EditAnimalCommand extends EditCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Animal> list = model.getFilteredAnimalList();
-        Animal animalToEdit = list.stream()
-                .filter(a -> a.getName().equals(name))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_ANIMAL_DISPLAYED_NAME));
+        Animal animalToEdit = model.getAnimalByName(name, true);
+        if (animalToEdit == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    Messages.MESSAGE_INVALID_ANIMAL_DISPLAYED_NAME, model.getAnimalsWithSimilarName(name.fullName)));
+        }
 
         Animal editedAnimal = createEditedAnimal(animalToEdit, editAnimalDescriptor);
 
@@ -5,7 +5,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -52,11 +51,11 @@ public class EditPersonCommand extends EditCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Person> list = model.getFilteredPersonList();
-        Person personToEdit = list.stream()
-                .filter(p -> p.getName().equals(name))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_NAME));
+        Person personToEdit = model.getPersonByName(name, true);
+        if (personToEdit == null) {
+            throw new CommandException(Messages.withSuggestions(
+                    Messages.MESSAGE_INVALID_PERSON_DISPLAYED_NAME, model.getPersonsWithSimilarName(name.fullName)));
+        }
 
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
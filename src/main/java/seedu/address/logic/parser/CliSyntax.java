@@ -14,6 +14,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_LOCATION = new Prefix("l/");
     public static final Prefix PREFIX_FEEDER = new Prefix("f/");
     public static final Prefix PREFIX_DATETIME = new Prefix("dt/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_EVERY = new Prefix("every/");
+    public static final Prefix PREFIX_DURATION = new Prefix("dur/");
 
     /* Type definitions */
     public static final Type TYPE_PERSON = new Type("person");
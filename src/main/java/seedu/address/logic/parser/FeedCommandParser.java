@@ -2,10 +2,13 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FEEDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.FeedCommand;
@@ -28,20 +31,23 @@ public class FeedCommandParser implements Parser<FeedCommand> {
     @Override
     public FeedCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_FEEDER, PREFIX_NAME, PREFIX_DATETIME);
+                ArgumentTokenizer.tokenize(args, PREFIX_FEEDER, PREFIX_NAME, PREFIX_DATETIME, PREFIX_DURATION);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_FEEDER, PREFIX_NAME, PREFIX_DATETIME)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FeedCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FEEDER, PREFIX_NAME, PREFIX_DATETIME);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FEEDER, PREFIX_NAME, PREFIX_DATETIME, PREFIX_DURATION);
 
         Name personName = ParserUtil.parseName(argMultimap.getValue(PREFIX_FEEDER).get());
         Name animalName = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
         LocalDateTime feedingTime = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_DATETIME).get());
+        Optional<Duration> duration = argMultimap.getValue(PREFIX_DURATION).isPresent()
+                ? Optional.of(ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get()))
+                : Optional.empty();
 
-        return new FeedCommand(personName, animalName, feedingTime);
+        return new FeedCommand(personName, animalName, feedingTime, duration);
     }
 
     /**
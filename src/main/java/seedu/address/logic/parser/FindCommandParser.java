@@ -21,6 +21,9 @@ import seedu.address.model.person.Person;
  */
 public class FindCommandParser implements Parser<FindCommand<?>> {
 
+    /** Preamble that makes name keywords also match names within a few typos. */
+    public static final String FUZZY_KEYWORD = "fuzzy";
+
     private enum ContactType {
         PERSON, ANIMAL
     }
@@ -44,6 +47,7 @@ public class FindCommandParser implements Parser<FindCommand<?>> {
 
         List<String> nameValues = argMultimap.getAllValues(PREFIX_NAME);
         List<String> tagValues = argMultimap.getAllValues(PREFIX_TAG);
+        boolean isFuzzy = argMultimap.getPreamble().equalsIgnoreCase(FUZZY_KEYWORD);
 
         boolean hasNames = nameValues != null && !nameValues.isEmpty();
         boolean hasTags = tagValues != null && !tagValues.isEmpty();
@@ -59,7 +63,7 @@ public class FindCommandParser implements Parser<FindCommand<?>> {
         }
 
         // Use unified predicate for all cases
-        return createFindCommand(nameValues, tagValues, contactType);
+        return createFindCommand(nameValues, tagValues, isFuzzy, contactType);
     }
 
     /**
@@ -92,13 +96,13 @@ public class FindCommandParser implements Parser<FindCommand<?>> {
     /**
      * Creates a FindCommand with the unified ContactContainsKeywordsPredicate.
      */
-    private FindCommand<?> createFindCommand(List<String> nameValues, List<String> tagValues,
+    private FindCommand<?> createFindCommand(List<String> nameValues, List<String> tagValues, boolean isFuzzy,
             ContactType contactType) {
         switch (contactType) {
         case PERSON:
-            return FindCommand.forPerson(new ContactContainsKeywordsPredicate<Person>(nameValues, tagValues));
+            return FindCommand.forPerson(new ContactContainsKeywordsPredicate<Person>(nameValues, tagValues, isFuzzy));
         case ANIMAL:
-            return FindCommand.forAnimal(new ContactContainsKeywordsPredicate<Animal>(nameValues, tagValues));
+            return FindCommand.forAnimal(new ContactContainsKeywordsPredicate<Animal>(nameValues, tagValues, isFuzzy));
         default:
             throw new IllegalStateException("Unknown contact type: " + contactType);
         }
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.NextCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new NextCommand object.
+ */
+public class NextCommandParser implements Parser<NextCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the NextCommand
+     * and returns a NextCommand object for execution.
+     *
+     * @param args the arguments to be parsed
+     * @return the NextCommand to be executed
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public NextCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new NextCommand(NextCommand.DEFAULT_COUNT);
+        }
+
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextCommand.MESSAGE_USAGE));
+        }
+        return new NextCommand(Integer.parseInt(trimmedArgs));
+    }
+}
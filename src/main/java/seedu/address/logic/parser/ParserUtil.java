@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -16,6 +17,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Name;
 import seedu.address.model.animal.Description;
 import seedu.address.model.animal.Location;
+import seedu.address.model.feedingsession.FeedingSchedule;
+import seedu.address.model.feedingsession.FeedingSession;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
@@ -158,4 +161,34 @@ public class ParserUtil {
             throw new ParseException("Date and Time should exist and must be in format: yyyy-MM-dd HH:mm");
         }
     }
+
+    /**
+     * Parses a {@code String intervalDays} into the number of days between scheduled feedings.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code intervalDays} is not a positive integer.
+     */
+    public static int parseIntervalDays(String intervalDays) throws ParseException {
+        requireNonNull(intervalDays);
+        String trimmedIntervalDays = intervalDays.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedIntervalDays)) {
+            throw new ParseException(FeedingSchedule.MESSAGE_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedIntervalDays);
+    }
+
+    /**
+     * Parses a {@code String minutes} into the duration of a feeding session.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code minutes} is not a positive integer.
+     */
+    public static Duration parseDuration(String minutes) throws ParseException {
+        requireNonNull(minutes);
+        String trimmedMinutes = minutes.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedMinutes)) {
+            throw new ParseException(FeedingSession.MESSAGE_DURATION_CONSTRAINTS);
+        }
+        return Duration.ofMinutes(Integer.parseInt(trimmedMinutes));
+    }
 }
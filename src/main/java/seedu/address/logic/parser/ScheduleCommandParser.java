@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FEEDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Name;
+
+/**
+ * Parses input arguments and creates a new ScheduleCommand object.
+ */
+public class ScheduleCommandParser implements Parser<ScheduleCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScheduleCommand
+     * and returns a ScheduleCommand object for execution.
+     *
+     * @param args the arguments to be parsed
+     * @return the ScheduleCommand to be executed
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public ScheduleCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_FEEDER, PREFIX_NAME, PREFIX_DATETIME, PREFIX_EVERY);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_FEEDER, PREFIX_NAME, PREFIX_DATETIME)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FEEDER, PREFIX_NAME, PREFIX_DATETIME, PREFIX_EVERY);
+
+        Name personName = ParserUtil.parseName(argMultimap.getValue(PREFIX_FEEDER).get());
+        Name animalName = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
+        LocalDateTime start = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_DATETIME).get());
+        Optional<String> every = argMultimap.getValue(PREFIX_EVERY);
+        int intervalDays = every.isPresent()
+                ? ParserUtil.parseIntervalDays(every.get())
+                : ScheduleCommand.DEFAULT_INTERVAL_DAYS;
+
+        return new ScheduleCommand(personName, animalName, start, intervalDays);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
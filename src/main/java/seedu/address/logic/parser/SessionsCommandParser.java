@@ -0,0 +1,66 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FEEDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.SessionsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Name;
+
+/**
+ * Parses input arguments and creates a new SessionsCommand object.
+ */
+public class SessionsCommandParser implements Parser<SessionsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SessionsCommand
+     * and returns a SessionsCommand object for execution.
+     *
+     * @param args the arguments to be parsed
+     * @return the SessionsCommand to be executed
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public SessionsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_NAME, PREFIX_FEEDER);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_FROM, PREFIX_TO) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SessionsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO, PREFIX_NAME, PREFIX_FEEDER);
+
+        LocalDateTime from = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDateTime to = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_TO).get());
+        if (from.isAfter(to)) {
+            throw new ParseException(SessionsCommand.MESSAGE_INVALID_RANGE);
+        }
+
+        Optional<Name> animalName = parseOptionalName(argMultimap, PREFIX_NAME);
+        Optional<Name> personName = parseOptionalName(argMultimap, PREFIX_FEEDER);
+
+        return new SessionsCommand(from, to, animalName, personName);
+    }
+
+    private static Optional<Name> parseOptionalName(ArgumentMultimap argMultimap, Prefix prefix)
+            throws ParseException {
+        Optional<String> name = argMultimap.getValue(prefix);
+        return name.isPresent() ? Optional.of(ParserUtil.parseName(name.get())) : Optional.empty();
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FEEDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Name;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object.
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     *
+     * @param args the arguments to be parsed
+     * @return the StatsCommand to be executed
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public StatsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_FEEDER);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_FEEDER);
+
+        return new StatsCommand(parseOptionalName(argMultimap, PREFIX_NAME),
+                parseOptionalName(argMultimap, PREFIX_FEEDER));
+    }
+
+    private static Optional<Name> parseOptionalName(ArgumentMultimap argMultimap, Prefix prefix)
+            throws ParseException {
+        Optional<String> name = argMultimap.getValue(prefix);
+        return name.isPresent() ? Optional.of(ParserUtil.parseName(name.get())) : Optional.empty();
+    }
+}
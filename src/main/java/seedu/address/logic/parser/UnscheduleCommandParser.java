@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FEEDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.UnscheduleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Name;
+
+/**
+ * Parses input arguments and creates a new UnscheduleCommand object.
+ */
+public class UnscheduleCommandParser implements Parser<UnscheduleCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UnscheduleCommand
+     * and returns an UnscheduleCommand object for execution.
+     *
+     * @param args the arguments to be parsed
+     * @return the UnscheduleCommand to be executed
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public UnscheduleCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_FEEDER, PREFIX_NAME, PREFIX_DATETIME);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_FEEDER, PREFIX_NAME) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnscheduleCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FEEDER, PREFIX_NAME, PREFIX_DATETIME);
+
+        Name personName = ParserUtil.parseName(argMultimap.getValue(PREFIX_FEEDER).get());
+        Name animalName = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
+        Optional<String> dateTime = argMultimap.getValue(PREFIX_DATETIME);
+        Optional<LocalDateTime> skipped = dateTime.isPresent()
+                ? Optional.of(ParserUtil.parseDateTime(dateTime.get()))
+                : Optional.empty();
+
+        return new UnscheduleCommand(personName, animalName, skipped);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
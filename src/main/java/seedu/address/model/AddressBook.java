@@ -3,16 +3,30 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.SortedMap;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.animal.Animal;
 import seedu.address.model.animal.UniqueAnimalList;
+import seedu.address.model.feedingsession.FeedingSchedule;
 import seedu.address.model.feedingsession.FeedingSession;
+import seedu.address.model.feedingsession.FeedingStatistics;
+import seedu.address.model.feedingsession.UniqueFeedingScheduleList;
 import seedu.address.model.feedingsession.UniqueFeedingSessionList;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
@@ -25,9 +39,28 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** Approximate heap space of a recorded change: its two operations and an entity only they may refer to. */
+    private static final long CHANGE_BYTES = 256;
+    /** Approximate heap space per element of a list kept by a recorded list replacement. */
+    private static final long LIST_ELEMENT_BYTES = 8;
+
     private final UniquePersonList persons;
     private final UniqueAnimalList animals;
     private final UniqueFeedingSessionList feedingSessions;
+    private final UniqueFeedingScheduleList feedingSchedules;
+
+    /** Receives the changes made to this address book, or null if changes are not being recorded. */
+    private State changes;
+
+    /** An unchanging copy of the current contents, or null if it has not been taken since the last change. */
+    private ReadOnlyAddressBook snapshot;
+
+    /** Statistics of the feeding sessions, or null until they are first asked for. */
+    private FeedingStatistics statistics;
+
+    private final List<InvalidationListener> listeners = new ArrayList<>();
+    private int batchDepth;
+    private boolean changedDuringBatch;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -40,9 +73,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         animals = new UniqueAnimalList();
         feedingSessions = new UniqueFeedingSessionList();
+        feedingSchedules = new UniqueFeedingScheduleList();
     }
 
-    public AddressBook() {}
+    /**
+     * Creates an empty AddressBook.
+     */
+    public AddressBook() {
+        ListChangeListener<Object> onListChanged = change -> handleContentChanged();
+        persons.asUnmodifiableObservableList().addListener(onListChanged);
+        // The statistics are updated before listeners are notified, so that listeners see them up to date
+        animals.asUnmodifiableObservableList().addListener((ListChangeListener<Animal>) change -> {
+            if (statistics != null) {
+                updateStatistics(change);
+            }
+            handleContentChanged();
+        });
+        feedingSessions.asUnmodifiableObservableList().addListener((ListChangeListener<FeedingSession>) change -> {
+            if (statistics != null) {
+                statistics.onChanged(change);
+            }
+            handleContentChanged();
+        });
+        feedingSchedules.asUnmodifiableObservableList().addListener(onListChanged);
+    }
 
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
@@ -52,6 +106,98 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    //// change notification
+
+    /**
+     * Applies {@code mutations} to this address book as one batch. Listeners are notified once after the batch
+     * if anything changed, instead of once per change. Batches may be nested; only the outermost one notifies.
+     */
+    public void batch(Runnable mutations) {
+        requireNonNull(mutations);
+        batchDepth++;
+        try {
+            mutations.run();
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0 && changedDuringBatch) {
+                changedDuringBatch = false;
+                notifyListeners();
+            }
+        }
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void handleContentChanged() {
+        snapshot = null;
+        if (batchDepth > 0) {
+            changedDuringBatch = true;
+        } else {
+            notifyListeners();
+        }
+    }
+
+    private void notifyListeners() {
+        for (InvalidationListener listener : List.copyOf(listeners)) {
+            listener.invalidated(this);
+        }
+    }
+
+    //// snapshots
+
+    /**
+     * Returns a read-only copy of the current contents of this address book, which can be held on to while this
+     * address book keeps changing. Like this address book, the copy is not safe to read from other threads, as it
+     * builds its indexes lazily. Taking a copy after a change only copies the element lists, and the copy is shared
+     * by all callers until the next change.
+     */
+    public ReadOnlyAddressBook getSnapshot() {
+        if (snapshot == null) {
+            snapshot = new AddressBookSnapshot(this);
+        }
+        return snapshot;
+    }
+
+    //// change recording
+
+    /**
+     * Records every subsequent change to this address book in {@code state}, so that the changes can be undone
+     * and redone. Passing null stops the recording.
+     */
+    public void recordChangesTo(State state) {
+        changes = state;
+    }
+
+    /**
+     * Records a change that has just been made, if changes are being recorded.
+     */
+    private void record(Runnable undoOperation, Runnable redoOperation) {
+        record(undoOperation, redoOperation, CHANGE_BYTES);
+    }
+
+    /**
+     * Records a replacement of a whole list, which keeps both the previous and the new contents alive.
+     */
+    private void record(Runnable undoOperation, Runnable redoOperation, List<?> previous, List<?> replacement) {
+        record(undoOperation, redoOperation,
+                CHANGE_BYTES + LIST_ELEMENT_BYTES * (previous.size() + replacement.size()));
+    }
+
+    private void record(Runnable undoOperation, Runnable redoOperation, long approximateBytes) {
+        if (changes != null) {
+            changes.record(undoOperation, redoOperation, approximateBytes);
+        }
+    }
+
     //// list overwrite operations
 
     /**
@@ -59,7 +205,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        List<Person> previous = List.copyOf(this.persons.asUnmodifiableObservableList());
+        List<Person> replacement = persons.stream()
+                .map(person -> person.withFeedingSessionIdsIn(feedingSessions))
+                .toList();
+        this.persons.setPersons(replacement);
+        record(() -> this.persons.setPersons(previous), () -> this.persons.setPersons(replacement),
+                previous, replacement);
     }
 
     /**
@@ -67,7 +219,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code animals} must not contain duplicate animals.
      */
     public void setAnimals(List<Animal> animals) {
-        this.animals.setAnimals(animals);
+        List<Animal> previous = List.copyOf(this.animals.asUnmodifiableObservableList());
+        List<Animal> replacement = animals.stream()
+                .map(animal -> animal.withFeedingSessionIdsIn(feedingSessions))
+                .toList();
+        this.animals.setAnimals(replacement);
+        record(() -> this.animals.setAnimals(previous), () -> this.animals.setAnimals(replacement),
+                previous, replacement);
     }
 
     /**
@@ -75,7 +233,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code feedingSessions} must not contain duplicate feeding sessions.
      */
     public void setFeedingSessions(List<FeedingSession> feedingSessions) {
-        this.feedingSessions.setFeedingSessions(feedingSessions);
+        List<FeedingSession> previous = List.copyOf(this.feedingSessions.asUnmodifiableObservableList());
+        List<FeedingSession> replacement = List.copyOf(feedingSessions);
+        this.feedingSessions.setFeedingSessions(replacement);
+        record(() -> this.feedingSessions.setFeedingSessions(previous),
+                () -> this.feedingSessions.setFeedingSessions(replacement), previous, replacement);
+        renumberLinksIfSparse();
+    }
+
+    /**
+     * Replaces the contents of the feeding schedule list with {@code feedingSchedules}.
+     * {@code feedingSchedules} must not contain duplicate feeding schedules.
+     */
+    public void setFeedingSchedules(List<FeedingSchedule> feedingSchedules) {
+        List<FeedingSchedule> previous = List.copyOf(this.feedingSchedules.asUnmodifiableObservableList());
+        List<FeedingSchedule> replacement = List.copyOf(feedingSchedules);
+        this.feedingSchedules.setFeedingSchedules(replacement);
+        record(() -> this.feedingSchedules.setFeedingSchedules(previous),
+                () -> this.feedingSchedules.setFeedingSchedules(replacement), previous, replacement);
     }
 
     /**
@@ -84,9 +259,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setFeedingSessions(newData.getFeedingSessionList());
-        setPersons(newData.getPersonList());
-        setAnimals(newData.getAnimalList());
+        batch(() -> {
+            setFeedingSessions(newData.getFeedingSessionList());
+            setPersons(newData.getPersonList());
+            setAnimals(newData.getAnimalList());
+            setFeedingSchedules(newData.getFeedingScheduleList());
+        });
     }
 
     //// person-level operations
@@ -120,7 +298,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        Person renumbered = p.withFeedingSessionIdsIn(feedingSessions);
+        persons.add(renumbered);
+        record(() -> persons.remove(renumbered), () -> persons.add(renumbered));
     }
 
     /**
@@ -131,7 +311,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        Person renumbered = editedPerson.withFeedingSessionIdsIn(feedingSessions);
+        persons.setPerson(target, renumbered);
+        record(() -> persons.setPerson(renumbered, target), () -> persons.setPerson(target, renumbered));
     }
 
     /**
@@ -139,18 +321,33 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        int index = persons.asUnmodifiableObservableList().indexOf(key);
         persons.remove(key);
+        record(() -> persons.add(index, key), () -> persons.remove(key));
+    }
+
+    /**
+     * Returns the person named {@code name}, ignoring case.
+     * Returns null if not found.
+     */
+    public Person getPersonByName(Name name) {
+        return persons.getByName(name);
     }
 
     /**
      * Returns a person by their ID.
      * Returns null if not found.
      */
+    @Override
     public Person getPersonById(UUID id) {
-        return persons.asUnmodifiableObservableList().stream()
-                .filter(person -> person.getId().equals(id))
-                .findFirst()
-                .orElse(null);
+        return persons.getById(id);
+    }
+
+    /**
+     * Returns the search indexes of the persons in the address book.
+     */
+    public ContactSearchIndex<Person> getPersonSearchIndex() {
+        return persons;
     }
 
     //// animal-level operations
@@ -168,7 +365,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The animal must not already exist in the address book.
      */
     public void addAnimal(Animal animal) {
-        animals.add(animal);
+        Animal renumbered = animal.withFeedingSessionIdsIn(feedingSessions);
+        animals.add(renumbered);
+        record(() -> animals.remove(renumbered), () -> animals.add(renumbered));
     }
 
     /**
@@ -179,7 +378,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setAnimal(Animal target, Animal editedAnimal) {
         requireNonNull(editedAnimal);
 
-        animals.setAnimal(target, editedAnimal);
+        Animal renumbered = editedAnimal.withFeedingSessionIdsIn(feedingSessions);
+        animals.setAnimal(target, renumbered);
+        record(() -> animals.setAnimal(renumbered, target), () -> animals.setAnimal(target, renumbered));
     }
 
     /**
@@ -187,18 +388,33 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeAnimal(Animal key) {
+        int index = animals.asUnmodifiableObservableList().indexOf(key);
         animals.remove(key);
+        record(() -> animals.add(index, key), () -> animals.remove(key));
+    }
+
+    /**
+     * Returns the animal named {@code name}, ignoring case.
+     * Returns null if not found.
+     */
+    public Animal getAnimalByName(Name name) {
+        return animals.getByName(name);
     }
 
     /**
      * Returns an animal by their ID.
      * Returns null if not found.
      */
+    @Override
     public Animal getAnimalById(UUID id) {
-        return animals.asUnmodifiableObservableList().stream()
-                .filter(animal -> animal.getId().equals(id))
-                .findFirst()
-                .orElse(null);
+        return animals.getById(id);
+    }
+
+    /**
+     * Returns the search indexes of the animals in the address book.
+     */
+    public ContactSearchIndex<Animal> getAnimalSearchIndex() {
+        return animals;
     }
 
     //// feeding session operations
@@ -209,6 +425,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addFeedingSession(FeedingSession session) {
         feedingSessions.add(session);
+        record(() -> feedingSessions.remove(session), () -> feedingSessions.add(session));
     }
 
     /**
@@ -216,7 +433,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The feeding session must exist in the address book.
      */
     public void removeFeedingSession(FeedingSession key) {
+        int index = feedingSessions.asUnmodifiableObservableList().indexOf(key);
         feedingSessions.remove(key);
+        record(() -> feedingSessions.add(index, key), () -> feedingSessions.remove(key));
+        renumberLinksIfSparse();
     }
 
     /**
@@ -234,6 +454,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return feedingSessions.containsByDetails(animalId, personId, dateTime);
     }
 
+    /**
+     * Returns a feeding session with the given animal, person, and datetime.
+     * Returns null if not found.
+     */
+    public FeedingSession getFeedingSessionByDetails(UUID animalId, UUID personId, LocalDateTime dateTime) {
+        return feedingSessions.getByDetails(animalId, personId, dateTime);
+    }
+
+    /**
+     * Returns the earliest feeding session of the given person that overlaps the time from {@code start} to
+     * {@code end}, excluding {@code end}. Returns null if there is none.
+     */
+    public FeedingSession getOverlappingFeedingSession(UUID personId, LocalDateTime start, LocalDateTime end) {
+        return feedingSessions.getOverlappingSessionForPerson(personId, start, end);
+    }
+
     /**
      * Returns true if a feeding session with the given ID exists in the address book.
      */
@@ -250,6 +486,50 @@ public class AddressBook implements ReadOnlyAddressBook {
         return feedingSessions.getById(id);
     }
 
+    @Override
+    public NavigableSet<FeedingSession> getFeedingSessionsBetween(LocalDateTime from, LocalDateTime to) {
+        return feedingSessions.getSessionsBetween(from, to);
+    }
+
+    @Override
+    public NavigableSet<FeedingSession> getFeedingSessionsFrom(LocalDateTime from) {
+        return feedingSessions.getSessionsFrom(from);
+    }
+
+    @Override
+    public FeedingStatistics getFeedingStatistics() {
+        if (statistics == null) {
+            statistics = new FeedingStatistics(feedingSessions,
+                    animals.asUnmodifiableObservableList().stream().map(Animal::getId).toList());
+        }
+        return statistics;
+    }
+
+    private void updateStatistics(ListChangeListener.Change<? extends Animal> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(animal -> statistics.removeAnimal(animal.getId()));
+            change.getAddedSubList().forEach(animal -> statistics.addAnimal(animal.getId()));
+        }
+    }
+
+    @Override
+    public List<Map.Entry<FeedingSession, FeedingSession>> getOverlappingFeedingSessions() {
+        return feedingSessions.getOverlappingSessions();
+    }
+
+    @Override
+    public NavigableSet<FeedingSession> getFeedingSessionsForAnimal(UUID animalId) {
+        return feedingSessions.getSessionsForAnimal(animalId);
+    }
+
+    @Override
+    public NavigableSet<FeedingSession> getFeedingSessionsForPerson(UUID personId) {
+        return feedingSessions.getSessionsForPerson(personId);
+    }
+
     /**
      * Replaces the feeding session {@code target} with {@code editedSession}.
      * {@code target} must exist in the address book.
@@ -257,26 +537,124 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setFeedingSession(FeedingSession target, FeedingSession editedSession) {
         requireNonNull(editedSession);
         feedingSessions.setFeedingSession(target, editedSession);
+        record(() -> feedingSessions.setFeedingSession(editedSession, target),
+                () -> feedingSessions.setFeedingSession(target, editedSession));
     }
 
     /**
      * Removes all feeding sessions associated with the given animal.
      */
     public void removeFeedingSessionsForAnimal(UUID animalId) {
-        List<FeedingSession> sessionsToRemove = feedingSessions.asUnmodifiableObservableList().stream()
-                .filter(session -> session.getAnimalId().equals(animalId))
-                .collect(Collectors.toList());
-        sessionsToRemove.forEach(feedingSessions::remove);
+        removeFeedingSessionsIf(session -> session.involvesAnimal(animalId));
     }
 
     /**
      * Removes all feeding sessions associated with the given person.
      */
     public void removeFeedingSessionsForPerson(UUID personId) {
-        List<FeedingSession> sessionsToRemove = feedingSessions.asUnmodifiableObservableList().stream()
-                .filter(session -> session.getPersonId().equals(personId))
+        removeFeedingSessionsIf(session -> session.involvesPerson(personId));
+    }
+
+    /**
+     * Removes all feeding sessions that satisfy {@code predicate} as a single change.
+     */
+    private void removeFeedingSessionsIf(Predicate<FeedingSession> predicate) {
+        SortedMap<Integer, FeedingSession> removed = feedingSessions.removeIf(predicate);
+        if (!removed.isEmpty()) {
+            record(() -> feedingSessions.insertAll(removed), () -> feedingSessions.removeIf(predicate),
+                    CHANGE_BYTES * removed.size());
+            renumberLinksIfSparse();
+        }
+    }
+
+    /**
+     * Moves the feeding session links of every person and animal onto new surrogates if the feeding session list
+     * has started numbering its sessions afresh, so that the old surrogates can be freed. The links themselves do
+     * not change, so this is not recorded.
+     */
+    private void renumberLinksIfSparse() {
+        if (!feedingSessions.renumberIfSparse()) {
+            return;
+        }
+        persons.setPersons(persons.asUnmodifiableObservableList().stream()
+                .map(person -> person.withFeedingSessionIdsIn(feedingSessions))
+                .toList());
+        animals.setAnimals(animals.asUnmodifiableObservableList().stream()
+                .map(animal -> animal.withFeedingSessionIdsIn(feedingSessions))
+                .toList());
+    }
+
+    //// feeding schedule operations
+
+    /**
+     * Returns true if a feeding schedule with the same identity as {@code schedule} exists in the address book.
+     */
+    public boolean hasFeedingSchedule(FeedingSchedule schedule) {
+        requireNonNull(schedule);
+        return feedingSchedules.contains(schedule);
+    }
+
+    /**
+     * Adds a feeding schedule to the address book.
+     * The feeding schedule must not already exist in the address book.
+     */
+    public void addFeedingSchedule(FeedingSchedule schedule) {
+        feedingSchedules.add(schedule);
+        record(() -> feedingSchedules.remove(schedule), () -> feedingSchedules.add(schedule));
+    }
+
+    /**
+     * Replaces the feeding schedule {@code target} with {@code editedSchedule}.
+     * {@code target} must exist in the address book.
+     */
+    public void setFeedingSchedule(FeedingSchedule target, FeedingSchedule editedSchedule) {
+        requireNonNull(editedSchedule);
+        feedingSchedules.setFeedingSchedule(target, editedSchedule);
+        record(() -> feedingSchedules.setFeedingSchedule(editedSchedule, target),
+                () -> feedingSchedules.setFeedingSchedule(target, editedSchedule));
+    }
+
+    /**
+     * Removes {@code key} from this {@code AddressBook}.
+     * {@code key} must exist in the address book.
+     */
+    public void removeFeedingSchedule(FeedingSchedule key) {
+        int index = feedingSchedules.asUnmodifiableObservableList().indexOf(key);
+        feedingSchedules.remove(key);
+        record(() -> feedingSchedules.add(index, key), () -> feedingSchedules.remove(key));
+    }
+
+    /**
+     * Removes all feeding schedules associated with the given animal.
+     */
+    public void removeFeedingSchedulesForAnimal(UUID animalId) {
+        removeFeedingSchedulesIf(schedule -> schedule.involvesAnimal(animalId));
+    }
+
+    /**
+     * Removes all feeding schedules associated with the given person.
+     */
+    public void removeFeedingSchedulesForPerson(UUID personId) {
+        removeFeedingSchedulesIf(schedule -> schedule.involvesPerson(personId));
+    }
+
+    private void removeFeedingSchedulesIf(Predicate<FeedingSchedule> predicate) {
+        List<FeedingSchedule> remaining = feedingSchedules.asUnmodifiableObservableList().stream()
+                .filter(predicate.negate())
                 .collect(Collectors.toList());
-        sessionsToRemove.forEach(feedingSessions::remove);
+        if (remaining.size() < feedingSchedules.asUnmodifiableObservableList().size()) {
+            setFeedingSchedules(remaining);
+        }
+    }
+
+    @Override
+    public Stream<FeedingSession> getScheduledFeedingsFrom(LocalDateTime from) {
+        requireNonNull(from);
+        Spliterator<FeedingSession> occurrences = Spliterators.spliteratorUnknownSize(
+                feedingSchedules.getOccurrencesFrom(from), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(occurrences, false)
+                .filter(occurrence -> !feedingSessions.containsByDetails(occurrence.getAnimalId(),
+                        occurrence.getPersonId(), occurrence.getDateTime()));
     }
 
     //// util methods
@@ -296,12 +674,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         return feedingSessions.asUnmodifiableObservableList();
     }
 
+    @Override
+    public ObservableList<FeedingSchedule> getFeedingScheduleList() {
+        return feedingSchedules.asUnmodifiableObservableList();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("persons", persons)
                 .add("animals", animals)
                 .add("feedingSessions", feedingSessions)
+                .add("feedingSchedules", feedingSchedules)
                 .toString();
     }
 
@@ -319,11 +703,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         AddressBook otherAddressBook = (AddressBook) other;
         return persons.equals(otherAddressBook.persons)
                 && animals.equals(otherAddressBook.animals)
-                && feedingSessions.equals(otherAddressBook.feedingSessions);
+                && feedingSessions.equals(otherAddressBook.feedingSessions)
+                && feedingSchedules.equals(otherAddressBook.feedingSchedules);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(persons, animals, feedingSessions);
+        return Objects.hash(persons, animals, feedingSessions, feedingSchedules);
     }
 }
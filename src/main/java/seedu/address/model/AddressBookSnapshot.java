@@ -0,0 +1,189 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.animal.Animal;
+import seedu.address.model.feedingsession.FeedingSchedule;
+import seedu.address.model.feedingsession.FeedingSession;
+import seedu.address.model.feedingsession.FeedingStatistics;
+import seedu.address.model.person.Person;
+
+/**
+ * A read-only copy of the contents of an address book at one point in time.
+ *
+ * Taking a snapshot only copies the element lists, which hold immutable elements. Lookups by ID and the sessions of
+ * one contact are answered from small indexes built the first time they are asked for. The remaining queries build
+ * a full {@code AddressBook} from the copied lists the first time one of them is asked.
+ * A snapshot never changes, so its listeners are never notified.
+ */
+final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Animal> animals;
+    private final ObservableList<FeedingSession> feedingSessions;
+    private final ObservableList<FeedingSchedule> feedingSchedules;
+
+    private final Map<UUID, NavigableSet<FeedingSession>> sessionsByAnimal = new HashMap<>();
+    private final Map<UUID, NavigableSet<FeedingSession>> sessionsByPerson = new HashMap<>();
+    private Map<UUID, Person> personsById;
+    private Map<UUID, Animal> animalsById;
+    private NavigableSet<FeedingSession> sessionsByTime;
+    private FeedingStatistics statistics;
+    /** An address book with the same contents and all of its indexes, or null until a query needs one. */
+    private AddressBook indexed;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        persons = copyOf(source.getPersonList());
+        animals = copyOf(source.getAnimalList());
+        feedingSessions = copyOf(source.getFeedingSessionList());
+        feedingSchedules = copyOf(source.getFeedingScheduleList());
+    }
+
+    private static <T> ObservableList<T> copyOf(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(List.copyOf(list)));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Animal> getAnimalList() {
+        return animals;
+    }
+
+    @Override
+    public ObservableList<FeedingSession> getFeedingSessionList() {
+        return feedingSessions;
+    }
+
+    @Override
+    public ObservableList<FeedingSchedule> getFeedingScheduleList() {
+        return feedingSchedules;
+    }
+
+    @Override
+    public Person getPersonById(UUID id) {
+        if (personsById == null) {
+            personsById = byId(persons, Person::getId);
+        }
+        return personsById.get(id);
+    }
+
+    @Override
+    public Animal getAnimalById(UUID id) {
+        if (animalsById == null) {
+            animalsById = byId(animals, Animal::getId);
+        }
+        return animalsById.get(id);
+    }
+
+    private static <T> Map<UUID, T> byId(List<T> elements, Function<T, UUID> idOf) {
+        Map<UUID, T> elementsById = new HashMap<>();
+        for (T element : elements) {
+            elementsById.put(idOf.apply(element), element);
+        }
+        return elementsById;
+    }
+
+    @Override
+    public NavigableSet<FeedingSession> getFeedingSessionsBetween(LocalDateTime from, LocalDateTime to) {
+        return Collections.unmodifiableNavigableSet(FeedingSession.between(getSessionsByTime(), from, to));
+    }
+
+    @Override
+    public NavigableSet<FeedingSession> getFeedingSessionsFrom(LocalDateTime from) {
+        return Collections.unmodifiableNavigableSet(FeedingSession.startingFrom(getSessionsByTime(), from));
+    }
+
+    private NavigableSet<FeedingSession> getSessionsByTime() {
+        if (sessionsByTime == null) {
+            sessionsByTime = new TreeSet<>(FeedingSession.CHRONOLOGICAL_ORDER);
+            sessionsByTime.addAll(feedingSessions);
+        }
+        return sessionsByTime;
+    }
+
+    @Override
+    public NavigableSet<FeedingSession> getFeedingSessionsForAnimal(UUID animalId) {
+        requireNonNull(animalId);
+        return sessionsByAnimal.computeIfAbsent(animalId,
+                unused -> sessionsMatching(session -> session.getAnimalId().equals(animalId)));
+    }
+
+    @Override
+    public NavigableSet<FeedingSession> getFeedingSessionsForPerson(UUID personId) {
+        requireNonNull(personId);
+        return sessionsByPerson.computeIfAbsent(personId,
+                unused -> sessionsMatching(session -> session.getPersonId().equals(personId)));
+    }
+
+    /**
+     * Returns the sessions that satisfy {@code predicate}, in chronological order, found with one pass over the
+     * sessions.
+     */
+    private NavigableSet<FeedingSession> sessionsMatching(Predicate<FeedingSession> predicate) {
+        NavigableSet<FeedingSession> matching = new TreeSet<>(FeedingSession.CHRONOLOGICAL_ORDER);
+        for (FeedingSession session : feedingSessions) {
+            if (predicate.test(session)) {
+                matching.add(session);
+            }
+        }
+        return Collections.unmodifiableNavigableSet(matching);
+    }
+
+    @Override
+    public FeedingStatistics getFeedingStatistics() {
+        if (statistics == null) {
+            statistics = new FeedingStatistics(feedingSessions, animals.stream().map(Animal::getId).toList());
+        }
+        return statistics;
+    }
+
+    @Override
+    public List<Map.Entry<FeedingSession, FeedingSession>> getOverlappingFeedingSessions() {
+        return getIndexed().getOverlappingFeedingSessions();
+    }
+
+    @Override
+    public Stream<FeedingSession> getScheduledFeedingsFrom(LocalDateTime from) {
+        return getIndexed().getScheduledFeedingsFrom(from);
+    }
+
+    private AddressBook getIndexed() {
+        if (indexed == null) {
+            indexed = new AddressBook(this);
+        }
+        return indexed;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        requireNonNull(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        requireNonNull(listener);
+    }
+}
@@ -2,11 +2,11 @@ package seedu.address.model;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Abstract class for different contact types in the address book.
@@ -17,7 +17,7 @@ public abstract class Contact {
 
     // Common data fields
     protected final Name name;
-    protected final Set<Tag> tags = new HashSet<>();
+    protected final TagSet tags;
 
     /**
      * Constructor for Contact.
@@ -27,7 +27,7 @@ public abstract class Contact {
     public Contact(Name name, Set<Tag> tags) {
         requireAllNonNull(name, tags);
         this.name = name;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     /**
@@ -42,17 +42,34 @@ public abstract class Contact {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
+    }
+
+    /**
+     * Returns true if this contact has a tag named {@code tagName}, ignoring case.
+     */
+    public boolean hasTagIgnoreCase(String tagName) {
+        return tags.containsIgnoreCase(tagName);
     }
 
     /**
      * Normalizes a name by trimming whitespace, converting to lowercase,
      * and replacing multiple spaces with single spaces.
      * @param name The name to normalize
-     * @return The normalized name
+     * @return The normalized name, as used for {@link #getNormalizedName()}
      */
-    protected String normalizedName(String name) {
-        return name.trim().toLowerCase().replaceAll("\\s+", " ");
+    public static String normalize(String name) {
+        return StringUtil.normalizeWhitespace(name).toLowerCase();
+    }
+
+    /**
+     * Returns the normalized name of this contact.
+     * Two contacts of the same type are the same contact if and only if their normalized names are equal,
+     * so this can be used as a hash key for identity checks. It is cached on the {@link Name}, so this does not
+     * allocate.
+     */
+    public String getNormalizedName() {
+        return name.getNormalizedName();
     }
 
     /**
@@ -72,10 +89,7 @@ public abstract class Contact {
             return false;
         }
 
-        String thisNormalizedName = normalizedName(this.name.fullName);
-        String otherNormalizedName = normalizedName(otherContact.name.fullName);
-
-        return thisNormalizedName.equals(otherNormalizedName);
+        return getNormalizedName().equals(otherContact.getNormalizedName());
     }
 
     /**
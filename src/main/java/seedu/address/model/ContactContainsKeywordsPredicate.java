@@ -1,18 +1,28 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Contact}'s {@code Name} and/or {@code Tag}s match any of the keywords given.
  * Works for both Person and Animal since they both extend Contact.
  * Supports searching by name keywords, tag keywords, or both.
+ * In fuzzy mode, a name keyword also matches names that are within a few typos of it, or that have a word within
+ * a few typos of it.
  */
 public class ContactContainsKeywordsPredicate<T extends Contact> implements Predicate<T> {
     private final List<String> nameKeywords;
     private final List<String> tagKeywords;
+    private final boolean isFuzzy;
+    private List<String> foldedNameKeywords;
 
     /**
      * Creates a predicate that tests contacts against name and tag keywords.
@@ -21,8 +31,20 @@ public class ContactContainsKeywordsPredicate<T extends Contact> implements Pred
      * @param tagKeywords List of keywords to match against contact tags (can be null or empty to skip tag matching)
      */
     public ContactContainsKeywordsPredicate(List<String> nameKeywords, List<String> tagKeywords) {
+        this(nameKeywords, tagKeywords, false);
+    }
+
+    /**
+     * Creates a predicate that tests contacts against name and tag keywords, optionally tolerating typos in names.
+     *
+     * @param nameKeywords List of keywords to match against contact names (can be null or empty to skip name matching)
+     * @param tagKeywords List of keywords to match against contact tags (can be null or empty to skip tag matching)
+     * @param isFuzzy Whether name keywords also match names within {@link FuzzyNameIndex#maxDistanceFor} edits
+     */
+    public ContactContainsKeywordsPredicate(List<String> nameKeywords, List<String> tagKeywords, boolean isFuzzy) {
         this.nameKeywords = nameKeywords;
         this.tagKeywords = tagKeywords;
+        this.isFuzzy = isFuzzy;
     }
 
     /**
@@ -36,17 +58,82 @@ public class ContactContainsKeywordsPredicate<T extends Contact> implements Pred
 
     @Override
     public boolean test(T contact) {
-        boolean nameMatches = nameKeywords == null || nameKeywords.isEmpty()
-                || nameKeywords.stream().anyMatch(keyword ->
-                        contact.getName().toString().toLowerCase().contains(keyword.toLowerCase()));
+        return tagsMatch(contact) && namesMatch(contact);
+    }
+
+    /**
+     * Returns a predicate equivalent to this one that answers fuzzy name matches from the similar-name index of the
+     * list being filtered rather than by computing edit distances for each contact. Exact substring matches and tags
+     * are still checked against the contact itself. As the views of {@code searchIndex} are live, the returned
+     * predicate stays equivalent as contacts are added, edited or removed.
+     *
+     * @param searchIndex The search indexes of the list being filtered.
+     */
+    public Predicate<T> usingIndexes(ContactSearchIndex<T> searchIndex) {
+        requireNonNull(searchIndex);
+        if (!isFuzzy) {
+            return this;
+        }
+        List<String> keywords = foldedNameKeywords();
+        List<Set<T>> similarlyNamed = keywords.stream()
+                .map(keyword -> searchIndex.getContactsWithSimilarName(keyword,
+                        FuzzyNameIndex.maxDistanceFor(keyword)))
+                .collect(Collectors.toList());
 
-        boolean tagsMatch = tagKeywords == null || tagKeywords.isEmpty()
-                || tagKeywords.stream().allMatch(tagKeyword ->
-                        contact.getTags().stream()
-                                .map(tag -> tag.tagName)
-                                .anyMatch(tagName -> tagName.equalsIgnoreCase(tagKeyword)));
+        return contact -> {
+            if (!tagsMatch(contact)) {
+                return false;
+            }
+            if (keywords.isEmpty()) {
+                return true;
+            }
+
+            String name = contact.getNormalizedName();
+            for (int i = 0; i < keywords.size(); i++) {
+                if (name.contains(keywords.get(i)) || similarlyNamed.get(i).contains(contact)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private boolean namesMatch(T contact) {
+        List<String> keywords = foldedNameKeywords();
+        if (keywords.isEmpty()) {
+            return true;
+        }
+
+        String name = contact.getNormalizedName();
+        return keywords.stream().anyMatch(keyword -> name.contains(keyword)
+                || isFuzzy && isSimilarName(name, keyword));
+    }
+
+    /**
+     * Returns true if {@code normalizedName}, or a word of it, is within the allowed number of typos of
+     * {@code keyword}, as in {@link FuzzyNameIndex}.
+     */
+    private static boolean isSimilarName(String normalizedName, String keyword) {
+        String normalizedKeyword = Contact.normalize(keyword);
+        int maxDistance = FuzzyNameIndex.maxDistanceFor(keyword);
+        if (StringUtil.levenshteinDistance(normalizedName, normalizedKeyword) <= maxDistance) {
+            return true;
+        }
+        return Arrays.stream(normalizedName.split(" "))
+                .anyMatch(word -> StringUtil.levenshteinDistance(word, normalizedKeyword) <= maxDistance);
+    }
+
+    private List<String> foldedNameKeywords() {
+        if (foldedNameKeywords == null) {
+            foldedNameKeywords = nameKeywords == null ? List.of()
+                    : nameKeywords.stream().map(String::toLowerCase).collect(Collectors.toList());
+        }
+        return foldedNameKeywords;
+    }
 
-        return nameMatches && tagsMatch;
+    private boolean tagsMatch(T contact) {
+        return tagKeywords == null || tagKeywords.isEmpty()
+                || tagKeywords.stream().allMatch(contact::hasTagIgnoreCase);
     }
 
     @Override
@@ -63,13 +150,15 @@ public class ContactContainsKeywordsPredicate<T extends Contact> implements Pred
         return (nameKeywords == null ? otherPredicate.nameKeywords == null
                 : nameKeywords.equals(otherPredicate.nameKeywords))
                 && (tagKeywords == null ? otherPredicate.tagKeywords == null
-                : tagKeywords.equals(otherPredicate.tagKeywords));
+                : tagKeywords.equals(otherPredicate.tagKeywords))
+                && isFuzzy == otherPredicate.isFuzzy;
     }
 
     @Override
     public int hashCode() {
         int result = nameKeywords != null ? nameKeywords.hashCode() : 0;
         result = 31 * result + (tagKeywords != null ? tagKeywords.hashCode() : 0);
+        result = 31 * result + Boolean.hashCode(isFuzzy);
         return result;
     }
 
@@ -78,6 +167,7 @@ public class ContactContainsKeywordsPredicate<T extends Contact> implements Pred
         return new ToStringBuilder(this)
                 .add("nameKeywords", nameKeywords)
                 .add("tagKeywords", tagKeywords)
+                .add("fuzzy", isFuzzy)
                 .toString();
     }
 }
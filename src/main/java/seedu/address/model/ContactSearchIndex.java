@@ -0,0 +1,22 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Read-only access to the search indexes of a list of contacts.
+ * Sets returned are live, unmodifiable views that reflect later changes to the list.
+ */
+public interface ContactSearchIndex<T extends Contact> {
+
+    /**
+     * Returns the contacts whose names, or a word of them, are within {@code maxDistance} edits of {@code name}.
+     */
+    Set<T> getContactsWithSimilarName(String name, int maxDistance);
+
+    /**
+     * Returns the contacts whose names, or a word of them, are within {@code maxDistance} edits of {@code name},
+     * closest first.
+     */
+    List<T> findSimilarlyNamed(String name, int maxDistance);
+}
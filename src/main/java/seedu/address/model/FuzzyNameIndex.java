@@ -0,0 +1,253 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A BK-tree over the distinct words of the normalized names of contacts, so that contacts with names within a small
+ * edit distance of a query can be found without computing the distance to every name.
+ * Words are compared by Levenshtein distance, which satisfies the triangle inequality, so a search only descends
+ * into subtrees whose edge distance is within the search distance of the distance to the current word.
+ * The tree holds each distinct word once, so it stays small however many contacts share common words.
+ * Contacts are held by identity, as stored in their unique list.
+ */
+public class FuzzyNameIndex<T extends Contact> {
+
+    /**
+     * A word in the tree, the contacts whose names have it, and its children keyed by their distance from it.
+     * Words whose contacts have all been removed stay in the tree until the next rebuild.
+     */
+    private static class Node<T> {
+        private final String key;
+        private final Set<T> contacts = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<Integer, Node<T>> children = new HashMap<>();
+
+        private Node(String key) {
+            this.key = key;
+        }
+    }
+
+    private final Map<String, Node<T>> nodesByKey = new HashMap<>();
+    private Node<T> root;
+    private int emptyNodes;
+    private long version;
+
+    /**
+     * Returns the largest edit distance at which a name is still considered similar to {@code name}.
+     * Short names tolerate fewer typos, so that suggestions stay relevant.
+     */
+    public static int maxDistanceFor(String name) {
+        requireNonNull(name);
+        return name.length() <= 4 ? 1 : 2;
+    }
+
+    /**
+     * Adds {@code contact} under each word of its normalized name.
+     */
+    public void add(T contact) {
+        requireNonNull(contact);
+        for (String key : keysOf(contact)) {
+            Node<T> node = nodesByKey.get(key);
+            if (node == null) {
+                node = insert(key);
+            } else if (node.contacts.isEmpty()) {
+                emptyNodes--;
+            }
+            node.contacts.add(contact);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code contact} from the words of its name.
+     * The tree is rebuilt once more than half of its words no longer belong to any contact.
+     */
+    public void remove(T contact) {
+        requireNonNull(contact);
+        for (String key : keysOf(contact)) {
+            Node<T> node = nodesByKey.get(key);
+            if (node != null && node.contacts.remove(contact) && node.contacts.isEmpty()) {
+                emptyNodes++;
+            }
+        }
+        if (emptyNodes * 2 > nodesByKey.size()) {
+            rebuild();
+        }
+        version++;
+    }
+
+    /**
+     * Removes all contacts from the index.
+     */
+    public void clear() {
+        nodesByKey.clear();
+        root = null;
+        emptyNodes = 0;
+        version++;
+    }
+
+    /**
+     * Returns the contacts whose normalized name, or a word of it, is within {@code maxDistance} edits of
+     * {@code name}, ignoring case. Contacts are ranked by their closest distance, then by name.
+     * Only contacts with a word within {@code maxDistance} edits of a word of {@code name} are considered, which
+     * misses only names whose typos merge or split all of their words.
+     */
+    public List<T> search(String name, int maxDistance) {
+        requireNonNull(name);
+        checkArgument(maxDistance >= 0, "Maximum distance must be non-negative");
+
+        String query = Contact.normalize(name);
+        String[] queryWords = query.split(" ");
+        Map<T, Integer> distances = new IdentityHashMap<>();
+        for (String queryWord : queryWords) {
+            searchWords(queryWord, maxDistance, (contact, wordDistance) -> {
+                if (queryWords.length == 1) {
+                    distances.merge(contact, wordDistance, Math::min);
+                } else if (!distances.containsKey(contact)) {
+                    distances.put(contact, nameDistance(query, contact.getNormalizedName(), maxDistance));
+                }
+            });
+        }
+        distances.values().removeIf(distance -> distance > maxDistance);
+
+        Map<T, String> names = new IdentityHashMap<>();
+        distances.keySet().forEach(contact -> names.put(contact, contact.getNormalizedName()));
+        List<T> matches = new ArrayList<>(distances.keySet());
+        matches.sort(Comparator.<T>comparingInt(distances::get).thenComparing(names::get));
+        return matches;
+    }
+
+    /**
+     * Returns the edit distance between {@code query} and {@code normalizedName}, or {@code maxDistance + 1} if
+     * their lengths alone show that it exceeds {@code maxDistance}.
+     */
+    private static int nameDistance(String query, String normalizedName, int maxDistance) {
+        if (Math.abs(query.length() - normalizedName.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        return StringUtil.levenshteinDistance(query, normalizedName);
+    }
+
+    /**
+     * Passes each contact with a word within {@code maxDistance} edits of {@code queryWord} to {@code consumer},
+     * together with the distance of that word. A contact is passed once for each of its matching words.
+     */
+    private void searchWords(String queryWord, int maxDistance, BiConsumer<T, Integer> consumer) {
+        Deque<Node<T>> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            Node<T> node = pending.pop();
+            int distance = StringUtil.levenshteinDistance(queryWord, node.key);
+            if (distance <= maxDistance) {
+                for (T contact : node.contacts) {
+                    consumer.accept(contact, distance);
+                }
+            }
+            for (int edge = Math.max(1, distance - maxDistance); edge <= distance + maxDistance; edge++) {
+                Node<T> child = node.children.get(edge);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the contacts that {@link #search} finds for {@code name}.
+     * The search runs when the view is first used and again only after the index changes.
+     */
+    public Set<T> getMatches(String name, int maxDistance) {
+        requireNonNull(name);
+        return new AbstractSet<>() {
+            private Set<T> matches;
+            private long matchesVersion;
+
+            @Override
+            public boolean contains(Object contact) {
+                return matches().contains(contact);
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                return Collections.unmodifiableSet(matches()).iterator();
+            }
+
+            @Override
+            public int size() {
+                return matches().size();
+            }
+
+            private Set<T> matches() {
+                if (matches == null || matchesVersion != version) {
+                    Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>());
+                    found.addAll(search(name, maxDistance));
+                    matches = found;
+                    matchesVersion = version;
+                }
+                return matches;
+            }
+        };
+    }
+
+    private Node<T> insert(String key) {
+        Node<T> node = new Node<>(key);
+        nodesByKey.put(key, node);
+        if (root == null) {
+            root = node;
+            return node;
+        }
+
+        Node<T> parent = root;
+        while (true) {
+            int distance = StringUtil.levenshteinDistance(key, parent.key);
+            Node<T> child = parent.children.get(distance);
+            if (child == null) {
+                parent.children.put(distance, node);
+                return node;
+            }
+            parent = child;
+        }
+    }
+
+    /**
+     * Rebuilds the tree from the keys that still belong to a contact.
+     */
+    private void rebuild() {
+        List<Node<T>> liveNodes = new ArrayList<>();
+        for (Node<T> node : nodesByKey.values()) {
+            if (!node.contacts.isEmpty()) {
+                liveNodes.add(node);
+            }
+        }
+
+        clear();
+        for (Node<T> oldNode : liveNodes) {
+            insert(oldNode.key).contacts.addAll(oldNode.contacts);
+        }
+    }
+
+    private static Set<String> keysOf(Contact contact) {
+        Set<String> keys = new LinkedHashSet<>();
+        Collections.addAll(keys, contact.getNormalizedName().split(" "));
+        return keys;
+    }
+}
@@ -2,12 +2,14 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.animal.Animal;
+import seedu.address.model.feedingsession.FeedingSchedule;
 import seedu.address.model.feedingsession.FeedingSession;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
@@ -63,6 +65,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a read-only copy of the AddressBook as it is now, which later changes to the model do not affect.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     // =========== State ===============================================================================
 
     /**
@@ -86,10 +93,19 @@ public interface Model {
     void redo();
 
     /**
-     * Saves the current address book state for undo/redo.
+     * Starts a new undoable step: changes made to the address book from now on are recorded so that they can be
+     * undone and redone together. Does nothing inside a {@link #transaction(Runnable)}.
      */
     void saveState();
 
+    /**
+     * Applies {@code mutations} to the model as a single undoable step.
+     * Listeners of the address book are notified once when the transaction completes, rather than once per change.
+     * If {@code mutations} throws, the changes made so far are reverted and the exception is rethrown.
+     * Transactions may be nested; inner transactions simply become part of the outermost one.
+     */
+    void transaction(Runnable mutations);
+
     // =========== Person Operations =========================================================================
 
     /**
@@ -129,6 +145,18 @@ public interface Model {
     /** Returns an unmodifiable view of the person list */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the persons whose names, or a word of them, are within a few typos of {@code name}, closest first.
+     */
+    List<Person> getPersonsWithSimilarName(String name);
+
+    /**
+     * Returns the person named {@code name}, ignoring case, or null if there is no such person.
+     * If {@code isShownOnly} is true, a person hidden by the current filter of the filtered person list is treated
+     * as absent.
+     */
+    Person getPersonByName(Name name, boolean isShownOnly);
+
     // =========== Filtered Person List Accessors ============================================================
 
     /** Returns an unmodifiable view of the filtered person list */
@@ -169,6 +197,18 @@ public interface Model {
     /** Returns an unmodifiable view of the animal list */
     ObservableList<Animal> getAnimalList();
 
+    /**
+     * Returns the animals whose names, or a word of them, are within a few typos of {@code name}, closest first.
+     */
+    List<Animal> getAnimalsWithSimilarName(String name);
+
+    /**
+     * Returns the animal named {@code name}, ignoring case, or null if there is no such animal.
+     * If {@code isShownOnly} is true, an animal hidden by the current filter of the filtered animal list is treated
+     * as absent.
+     */
+    Animal getAnimalByName(Name name, boolean isShownOnly);
+
     // =========== Filtered Animal List Accessors ===========================================================
 
     /** Returns an unmodifiable view of the filtered animal list */
@@ -204,6 +244,18 @@ public interface Model {
      */
     boolean hasFeedingSessionByDetails(UUID animalId, UUID personId, LocalDateTime dateTime);
 
+    /**
+     * Returns a feeding session with the same animal, person, and datetime.
+     * Returns null if not found.
+     */
+    FeedingSession getFeedingSessionByDetails(UUID animalId, UUID personId, LocalDateTime dateTime);
+
+    /**
+     * Returns the earliest feeding session of the given person that overlaps the time from {@code start} to
+     * {@code end}, excluding {@code end}. Returns null if there is none.
+     */
+    FeedingSession getOverlappingFeedingSession(UUID personId, LocalDateTime start, LocalDateTime end);
+
     /**
      * Returns a feeding session by its ID.
      * Returns null if not found.
@@ -266,4 +318,29 @@ public interface Model {
      * Returns an unmodifiable view of the feeding session list.
      */
     ObservableList<FeedingSession> getFeedingSessionList();
+
+    // =========== Feeding Schedule Operations ===============================================================
+
+    /**
+     * Adds the given feeding schedule.
+     * {@code schedule} must not already exist in the address book.
+     */
+    void addFeedingSchedule(FeedingSchedule schedule);
+
+    /**
+     * Replaces the given feeding schedule {@code target} with {@code editedSchedule}.
+     * {@code target} must exist in the address book.
+     */
+    void setFeedingSchedule(FeedingSchedule target, FeedingSchedule editedSchedule);
+
+    /**
+     * Deletes the given feeding schedule.
+     * {@code schedule} must exist in the address book.
+     */
+    void deleteFeedingSchedule(FeedingSchedule schedule);
+
+    /**
+     * Returns an unmodifiable view of the feeding schedule list.
+     */
+    ObservableList<FeedingSchedule> getFeedingScheduleList();
 }
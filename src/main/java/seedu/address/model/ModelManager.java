@@ -5,7 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.time.LocalDateTime;
-import java.util.Stack;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -15,6 +15,7 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.animal.Animal;
+import seedu.address.model.feedingsession.FeedingSchedule;
 import seedu.address.model.feedingsession.FeedingSession;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
@@ -33,8 +34,8 @@ public class ModelManager implements Model {
     private final ObservableList<Animal> animalsList;
     private final FilteredList<Animal> filteredAnimals;
 
-    private final Stack<State> undoStack;
-    private final Stack<State> redoStack;
+    private final UndoHistory undoHistory;
+    private boolean inTransaction;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -48,8 +49,7 @@ public class ModelManager implements Model {
         this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         this.animalsList = this.addressBook.getAnimalList();
         this.filteredAnimals = new FilteredList<>(this.addressBook.getAnimalList());
-        this.undoStack = new Stack<>();
-        this.redoStack = new Stack<>();
+        this.undoHistory = new UndoHistory(userPrefs.getUndoHistoryDepth(), userPrefs.getUndoHistoryBytes());
     }
 
     public ModelManager() {
@@ -62,6 +62,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        undoHistory.setLimits(userPrefs.getUndoHistoryDepth(), userPrefs.getUndoHistoryBytes());
     }
 
     @Override
@@ -103,36 +104,74 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.getSnapshot();
+    }
+
     // =========== State ===============================================================================
 
     @Override
     public void saveState() {
-        undoStack.push(new State(addressBook));
-        redoStack.clear();
+        if (!inTransaction) {
+            startUndoableStep();
+        }
+    }
+
+    @Override
+    public void transaction(Runnable mutations) {
+        requireNonNull(mutations);
+        if (inTransaction) {
+            mutations.run();
+            return;
+        }
+
+        State state = startUndoableStep();
+        inTransaction = true;
+        try {
+            addressBook.batch(mutations);
+        } catch (RuntimeException e) {
+            addressBook.recordChangesTo(null);
+            addressBook.batch(state::undo);
+            undoHistory.remove(state);
+            throw e;
+        } finally {
+            inTransaction = false;
+        }
+    }
+
+    /**
+     * Starts recording the changes to the address book as a new undoable step, and returns that step.
+     */
+    private State startUndoableStep() {
+        State state = new State();
+        undoHistory.push(state);
+        addressBook.recordChangesTo(state);
+        logger.fine("Undo history: " + undoHistory);
+        return state;
     }
 
     @Override
     public boolean canUndo() {
-        return !undoStack.isEmpty();
+        return undoHistory.canUndo();
     }
 
     @Override
     public boolean canRedo() {
-        return !redoStack.isEmpty();
+        return undoHistory.canRedo();
     }
 
     @Override
     public void undo() {
         assert canUndo() : "Implementation error: undo() called when canUndo() is false";
-        redoStack.push(new State(addressBook));
-        addressBook.resetData(undoStack.pop().getAddressBook());
+        addressBook.recordChangesTo(null);
+        undoHistory.undo();
     }
 
     @Override
     public void redo() {
         assert canRedo() : "Implementation error: redo() called when canRedo() is false";
-        undoStack.push(new State(addressBook));
-        addressBook.resetData(redoStack.pop().getAddressBook());
+        addressBook.recordChangesTo(undoHistory.redo());
     }
 
     // =========== Person Operations =========================================================================
@@ -157,29 +196,30 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        saveState();
-
-        for (UUID sessionId : target.getFeedingSessionIds()) {
-            FeedingSession session = addressBook.getFeedingSessionById(sessionId);
-            if (session != null) {
-                Animal animal = addressBook.getAnimalById(session.getAnimalId());
-                if (animal != null) {
-                    Animal updatedAnimal = animal.removeFeedingSessionId(sessionId);
-                    addressBook.setAnimal(animal, updatedAnimal);
-                }
-            } else {
-                for (Animal animal : addressBook.getAnimalList()) {
-                    if (animal.getFeedingSessionIds().contains(sessionId)) {
+        transaction(() -> {
+            for (UUID sessionId : target.getFeedingSessionIds()) {
+                FeedingSession session = addressBook.getFeedingSessionById(sessionId);
+                if (session != null) {
+                    Animal animal = addressBook.getAnimalById(session.getAnimalId());
+                    if (animal != null) {
                         Animal updatedAnimal = animal.removeFeedingSessionId(sessionId);
                         addressBook.setAnimal(animal, updatedAnimal);
                     }
+                } else {
+                    for (Animal animal : addressBook.getAnimalList()) {
+                        if (animal.getFeedingSessionIds().contains(sessionId)) {
+                            Animal updatedAnimal = animal.removeFeedingSessionId(sessionId);
+                            addressBook.setAnimal(animal, updatedAnimal);
+                        }
+                    }
                 }
             }
-        }
 
-        removeFeedingSessionsForPerson(target.getId());
+            removeFeedingSessionsForPerson(target.getId());
+            addressBook.removeFeedingSchedulesForPerson(target.getId());
 
-        addressBook.removePerson(target);
+            addressBook.removePerson(target);
+        });
     }
 
     @Override
@@ -201,6 +241,19 @@ public class ModelManager implements Model {
         return personsList;
     }
 
+    @Override
+    public List<Person> getPersonsWithSimilarName(String name) {
+        requireNonNull(name);
+        return addressBook.getPersonSearchIndex().findSimilarlyNamed(name, FuzzyNameIndex.maxDistanceFor(name));
+    }
+
+    @Override
+    public Person getPersonByName(Name name, boolean isShownOnly) {
+        requireNonNull(name);
+        Person person = addressBook.getPersonByName(name);
+        return person != null && (!isShownOnly || isShown(filteredPersons, person)) ? person : null;
+    }
+
     // =========== Animal Operations =========================================================================
 
     @Override
@@ -211,29 +264,30 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteAnimal(Animal target) {
-        saveState();
-
-        for (UUID sessionId : target.getFeedingSessionIds()) {
-            FeedingSession session = addressBook.getFeedingSessionById(sessionId);
-            if (session != null) {
-                Person person = addressBook.getPersonById(session.getPersonId());
-                if (person != null) {
-                    Person updatedPerson = person.removeFeedingSessionId(sessionId);
-                    addressBook.setPerson(person, updatedPerson);
-                }
-            } else {
-                for (Person person : addressBook.getPersonList()) {
-                    if (person.getFeedingSessionIds().contains(sessionId)) {
+        transaction(() -> {
+            for (UUID sessionId : target.getFeedingSessionIds()) {
+                FeedingSession session = addressBook.getFeedingSessionById(sessionId);
+                if (session != null) {
+                    Person person = addressBook.getPersonById(session.getPersonId());
+                    if (person != null) {
                         Person updatedPerson = person.removeFeedingSessionId(sessionId);
                         addressBook.setPerson(person, updatedPerson);
                     }
+                } else {
+                    for (Person person : addressBook.getPersonList()) {
+                        if (person.getFeedingSessionIds().contains(sessionId)) {
+                            Person updatedPerson = person.removeFeedingSessionId(sessionId);
+                            addressBook.setPerson(person, updatedPerson);
+                        }
+                    }
                 }
             }
-        }
 
-        removeFeedingSessionsForAnimal(target.getId());
+            removeFeedingSessionsForAnimal(target.getId());
+            addressBook.removeFeedingSchedulesForAnimal(target.getId());
 
-        addressBook.removeAnimal(target);
+            addressBook.removeAnimal(target);
+        });
     }
 
     @Override
@@ -255,6 +309,29 @@ public class ModelManager implements Model {
         return animalsList;
     }
 
+    @Override
+    public List<Animal> getAnimalsWithSimilarName(String name) {
+        requireNonNull(name);
+        return addressBook.getAnimalSearchIndex().findSimilarlyNamed(name, FuzzyNameIndex.maxDistanceFor(name));
+    }
+
+    @Override
+    public Animal getAnimalByName(Name name, boolean isShownOnly) {
+        requireNonNull(name);
+        Animal animal = addressBook.getAnimalByName(name);
+        return animal != null && (!isShownOnly || isShown(filteredAnimals, animal)) ? animal : null;
+    }
+
+    /**
+     * Returns true if {@code contact} passes the current filter of {@code filteredList}.
+     * The filter is tested directly so that this takes constant time for indexed predicates, instead of scanning
+     * the filtered list.
+     */
+    private static <T> boolean isShown(FilteredList<T> filteredList, T contact) {
+        Predicate<? super T> predicate = filteredList.getPredicate();
+        return predicate == null || predicate.test(contact);
+    }
+
     // =========== Filtered Person List Accessors =============================================================
 
     @Override
@@ -265,7 +342,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filteredPersons.setPredicate(usingIndexes(predicate, addressBook.getPersonSearchIndex()));
     }
 
     // =========== Filtered Animal List Accessors =============================================================
@@ -278,7 +355,20 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredAnimalList(Predicate<Animal> predicate) {
         requireNonNull(predicate);
-        filteredAnimals.setPredicate(predicate);
+        filteredAnimals.setPredicate(usingIndexes(predicate, addressBook.getAnimalSearchIndex()));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that answers fuzzy keyword searches from the similar-name
+     * index of the address book, if {@code predicate} is such a search.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Contact> Predicate<T> usingIndexes(Predicate<T> predicate,
+            ContactSearchIndex<T> searchIndex) {
+        if (predicate instanceof ContactContainsKeywordsPredicate) {
+            return ((ContactContainsKeywordsPredicate<T>) predicate).usingIndexes(searchIndex);
+        }
+        return predicate;
     }
 
     // =========== FeedingSession Operations ================================================================
@@ -310,6 +400,22 @@ public class ModelManager implements Model {
         return addressBook.hasFeedingSessionByDetails(animalId, personId, dateTime);
     }
 
+    @Override
+    public FeedingSession getFeedingSessionByDetails(UUID animalId, UUID personId, LocalDateTime dateTime) {
+        requireNonNull(animalId);
+        requireNonNull(personId);
+        requireNonNull(dateTime);
+        return addressBook.getFeedingSessionByDetails(animalId, personId, dateTime);
+    }
+
+    @Override
+    public FeedingSession getOverlappingFeedingSession(UUID personId, LocalDateTime start, LocalDateTime end) {
+        requireNonNull(personId);
+        requireNonNull(start);
+        requireNonNull(end);
+        return addressBook.getOverlappingFeedingSession(personId, start, end);
+    }
+
     @Override
     public FeedingSession getFeedingSessionById(UUID id) {
         requireNonNull(id);
@@ -346,20 +452,22 @@ public class ModelManager implements Model {
     public void addFeedingSessionWithUpdates(FeedingSession feedingSession, Person person, Person updatedPerson,
                                              Animal animal, Animal updatedAnimal) {
         requireAllNonNull(feedingSession, person, updatedPerson, animal, updatedAnimal);
-        saveState();
-        addressBook.addFeedingSession(feedingSession);
-        addressBook.setPerson(person, updatedPerson);
-        addressBook.setAnimal(animal, updatedAnimal);
+        transaction(() -> {
+            addressBook.addFeedingSession(feedingSession);
+            addressBook.setPerson(person, updatedPerson);
+            addressBook.setAnimal(animal, updatedAnimal);
+        });
     }
 
     @Override
     public void deleteFeedingSessionWithUpdates(FeedingSession feedingSession, Person person, Person updatedPerson,
                                                 Animal animal, Animal updatedAnimal) {
         requireAllNonNull(feedingSession, person, updatedPerson, animal, updatedAnimal);
-        saveState();
-        addressBook.removeFeedingSession(feedingSession);
-        addressBook.setPerson(person, updatedPerson);
-        addressBook.setAnimal(animal, updatedAnimal);
+        transaction(() -> {
+            addressBook.removeFeedingSession(feedingSession);
+            addressBook.setPerson(person, updatedPerson);
+            addressBook.setAnimal(animal, updatedAnimal);
+        });
     }
 
     // =========== Feeding Session List Accessors ===========================================================
@@ -369,6 +477,34 @@ public class ModelManager implements Model {
         return addressBook.getFeedingSessionList();
     }
 
+    // =========== Feeding Schedule Operations ===============================================================
+
+    @Override
+    public void addFeedingSchedule(FeedingSchedule schedule) {
+        requireNonNull(schedule);
+        saveState();
+        addressBook.addFeedingSchedule(schedule);
+    }
+
+    @Override
+    public void setFeedingSchedule(FeedingSchedule target, FeedingSchedule editedSchedule) {
+        requireAllNonNull(target, editedSchedule);
+        saveState();
+        addressBook.setFeedingSchedule(target, editedSchedule);
+    }
+
+    @Override
+    public void deleteFeedingSchedule(FeedingSchedule schedule) {
+        requireNonNull(schedule);
+        saveState();
+        addressBook.removeFeedingSchedule(schedule);
+    }
+
+    @Override
+    public ObservableList<FeedingSchedule> getFeedingScheduleList() {
+        return addressBook.getFeedingScheduleList();
+    }
+
     // =========== Utility Methods ==========================================================================
 
     @Override
@@ -3,6 +3,9 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -22,6 +25,7 @@ public class Name {
     public static final int MAX_LENGTH = 30;
 
     public final String fullName;
+    private final String normalizedName;
 
     /**
      * Constructs a {@code Name}.
@@ -30,9 +34,10 @@ public class Name {
      */
     public Name(String name) {
         requireNonNull(name);
-        String trimmedName = name.trim().replaceAll("\\s+", " ");
+        String trimmedName = StringUtil.normalizeWhitespace(name);
         checkArgument(isValidName(trimmedName), MESSAGE_CONSTRAINTS);
         fullName = trimmedName;
+        normalizedName = trimmedName.toLowerCase();
     }
 
     /**
@@ -42,7 +47,15 @@ public class Name {
      * @return True if the string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        return ValidationUtil.isAlphanumericWords(test, MAX_LENGTH);
+    }
+
+    /**
+     * Returns the name in lowercase, with surrounding whitespace removed and inner whitespace collapsed.
+     * This is computed once on construction, so it can be used as a hash key for name lookups without allocating.
+     */
+    public String getNormalizedName() {
+        return normalizedName;
     }
 
     /**
@@ -75,18 +88,18 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.equalsIgnoreCase(otherName.fullName);
+        return normalizedName.equals(otherName.normalizedName);
     }
 
     /**
      * Returns the hash code of this name.
-     * Uses lowercase to ensure case-insensitive equality is reflected in hash code.
+     * Uses the normalized name to ensure case-insensitive equality is reflected in hash code.
      * This maintains the contract that if two objects are equal, they must have the same hash code.
      *
-     * @return The hash code based on the lowercase full name.
+     * @return The hash code based on the normalized name.
      */
     @Override
     public int hashCode() {
-        return fullName.toLowerCase().hashCode();
+        return normalizedName.hashCode();
     }
 }
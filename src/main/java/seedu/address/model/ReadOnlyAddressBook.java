@@ -1,14 +1,30 @@
 package seedu.address.model;
 
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javafx.beans.Observable;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.animal.Animal;
+import seedu.address.model.feedingsession.FeedingSchedule;
 import seedu.address.model.feedingsession.FeedingSession;
+import seedu.address.model.feedingsession.FeedingStatistics;
 import seedu.address.model.person.Person;
 
 /**
- * Unmodifiable view of an address book
+ * Unmodifiable view of an address book.
+ * Its listeners are invalidated after every change to its contents, or once after a batch of changes.
  */
-public interface ReadOnlyAddressBook {
+public interface ReadOnlyAddressBook extends Observable {
 
     /**
      * Returns an unmodifiable view of the persons list.
@@ -27,4 +43,71 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate feeding sessions.
      */
     ObservableList<FeedingSession> getFeedingSessionList();
+
+    /**
+     * Returns an unmodifiable view of the feeding schedules list.
+     * This list will not contain any duplicate feeding schedules.
+     */
+    ObservableList<FeedingSchedule> getFeedingScheduleList();
+
+    /**
+     * Returns the person with the given ID, or null if there is no such person.
+     */
+    Person getPersonById(UUID id);
+
+    /**
+     * Returns the animal with the given ID, or null if there is no such animal.
+     */
+    Animal getAnimalById(UUID id);
+
+    /**
+     * Returns an unmodifiable view of the feeding sessions from {@code from} to {@code to}, both inclusive,
+     * earliest first.
+     */
+    NavigableSet<FeedingSession> getFeedingSessionsBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns an unmodifiable view of the feeding sessions at or after {@code from}, earliest first.
+     */
+    NavigableSet<FeedingSession> getFeedingSessionsFrom(LocalDateTime from);
+
+    /**
+     * Returns an unmodifiable view of the feeding sessions of the given animal, earliest first.
+     */
+    NavigableSet<FeedingSession> getFeedingSessionsForAnimal(UUID animalId);
+
+    /**
+     * Returns an unmodifiable view of the feeding sessions of the given person, earliest first.
+     */
+    NavigableSet<FeedingSession> getFeedingSessionsForPerson(UUID personId);
+
+    /**
+     * Returns the statistics of the recorded feeding sessions, which are kept up to date as the sessions change.
+     */
+    FeedingStatistics getFeedingStatistics();
+
+    /**
+     * Returns every pair of recorded feeding sessions of the same person that take place at overlapping times,
+     * as the earlier session and the later one, ordered by their later session.
+     */
+    List<Map.Entry<FeedingSession, FeedingSession>> getOverlappingFeedingSessions();
+
+    /**
+     * Returns the feedings that the feeding schedules plan at or after {@code from}, earliest first, leaving out
+     * those already recorded as feeding sessions. The feedings are generated lazily as the stream is consumed, so
+     * the stream is effectively infinite and callers must limit it.
+     */
+    Stream<FeedingSession> getScheduledFeedingsFrom(LocalDateTime from);
+
+    /**
+     * Returns both the recorded feeding sessions and the scheduled feedings at or after {@code from}, earliest
+     * first. Like {@link #getScheduledFeedingsFrom(LocalDateTime)}, the stream is effectively infinite.
+     */
+    default Stream<FeedingSession> getFeedingsFrom(LocalDateTime from) {
+        Iterator<FeedingSession> feedings = CollectionUtil.mergeSorted(
+                List.of(getFeedingSessionsFrom(from).iterator(), getScheduledFeedingsFrom(from).iterator()),
+                FeedingSession.CHRONOLOGICAL_ORDER);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(feedings, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
 }
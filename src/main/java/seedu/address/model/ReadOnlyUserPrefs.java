@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /** Returns the maximum number of commands that can be undone. */
+    int getUndoHistoryDepth();
+
+    /** Returns the approximate number of bytes the undo history may hold on to. */
+    long getUndoHistoryBytes();
+
 }
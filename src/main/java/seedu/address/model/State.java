@@ -1,16 +1,75 @@
 package seedu.address.model;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
 /**
- * Represents a snapshot of the address book state.
+ * Represents the changes made to the address book by a single command.
+ * Each change is recorded as an operation that redoes it and an inverse operation that undoes it, so undoing
+ * or redoing a command costs time and memory in proportion to the size of the change, not of the address book.
  */
 public class State {
-    private final ReadOnlyAddressBook addressBook;
+    private final List<Runnable> undoOperations = new ArrayList<>();
+    private final List<Runnable> redoOperations = new ArrayList<>();
+    private long approximateBytes;
+    /** Told of the bytes added by each change recorded from now on, or null. */
+    private LongConsumer growthListener;
+
+    /**
+     * Records a change made to the address book.
+     *
+     * @param undoOperation Reverts the change.
+     * @param redoOperation Makes the change again after it has been reverted.
+     * @param approximateBytes Approximate heap space kept alive by recording the change.
+     */
+    public void record(Runnable undoOperation, Runnable redoOperation, long approximateBytes) {
+        requireAllNonNull(undoOperation, redoOperation);
+        undoOperations.add(undoOperation);
+        redoOperations.add(redoOperation);
+        this.approximateBytes += approximateBytes;
+        if (growthListener != null) {
+            growthListener.accept(approximateBytes);
+        }
+    }
+
+    /**
+     * Tells {@code listener} of the approximate bytes added by each change recorded from now on, replacing any
+     * previous listener. Passing null stops the notifications.
+     */
+    void setGrowthListener(LongConsumer listener) {
+        growthListener = listener;
+    }
+
+    /**
+     * Returns the approximate heap space kept alive by the recorded changes.
+     */
+    public long getApproximateBytes() {
+        return approximateBytes;
+    }
+
+    /**
+     * Returns true if no changes have been recorded.
+     */
+    public boolean isEmpty() {
+        return undoOperations.isEmpty();
+    }
 
-    public State(ReadOnlyAddressBook addressBook) {
-        this.addressBook = new AddressBook(addressBook);
+    /**
+     * Reverts the recorded changes, most recent first.
+     */
+    public void undo() {
+        for (int i = undoOperations.size() - 1; i >= 0; i--) {
+            undoOperations.get(i).run();
+        }
     }
 
-    public ReadOnlyAddressBook getAddressBook() {
-        return new AddressBook(addressBook);
+    /**
+     * Makes the recorded changes again, in the order they were first made.
+     */
+    public void redo() {
+        redoOperations.forEach(Runnable::run);
     }
 }
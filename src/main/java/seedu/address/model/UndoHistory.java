@@ -0,0 +1,146 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Holds the undoable and redoable steps of the model within a maximum number of steps and an approximate
+ * heap-byte budget. When a new step would exceed either limit, the oldest undoable steps are discarded first. The
+ * budget covers redoable steps too, so if discarding every undoable step is not enough, the redoable steps are
+ * discarded as well, starting with the one furthest from the current state.
+ * The budget is also enforced as changes are recorded into a held step, so a step that grows past the budget by
+ * itself is discarded as well, rather than only when the next step is added.
+ */
+public class UndoHistory {
+    private final Deque<State> undoStates = new ArrayDeque<>();
+    private final Deque<State> redoStates = new ArrayDeque<>();
+    private int maxDepth;
+    private long maxBytes;
+    private long footprint;
+
+    /**
+     * Creates an empty history that keeps at most {@code maxDepth} undoable steps and about {@code maxBytes}
+     * bytes of recorded changes.
+     */
+    public UndoHistory(int maxDepth, long maxBytes) {
+        setLimits(maxDepth, maxBytes);
+    }
+
+    /**
+     * Changes the limits of this history, discarding the oldest steps if the history is now over them.
+     */
+    public void setLimits(int maxDepth, long maxBytes) {
+        checkArgument(maxDepth >= 0, "Undo history depth must not be negative");
+        checkArgument(maxBytes >= 0, "Undo history byte budget must not be negative");
+        this.maxDepth = maxDepth;
+        this.maxBytes = maxBytes;
+        evictOldest();
+    }
+
+    /**
+     * Adds {@code state} as the most recent undoable step and discards all redoable steps.
+     * Older steps are then discarded until the history is within its limits again.
+     */
+    public void push(State state) {
+        requireNonNull(state);
+        while (!redoStates.isEmpty()) {
+            release(redoStates.pop());
+        }
+        undoStates.push(state);
+        footprint += state.getApproximateBytes();
+        state.setGrowthListener(bytes -> {
+            footprint += bytes;
+            evictOldest();
+        });
+        evictOldest();
+    }
+
+    public boolean canUndo() {
+        return !undoStates.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStates.isEmpty();
+    }
+
+    /**
+     * Reverts the most recent undoable step and makes it redoable.
+     */
+    public void undo() {
+        assert canUndo() : "Implementation error: undo() called when canUndo() is false";
+        State state = undoStates.pop();
+        state.undo();
+        redoStates.push(state);
+    }
+
+    /**
+     * Makes the most recently undone step again, makes it undoable, and returns it.
+     */
+    public State redo() {
+        assert canRedo() : "Implementation error: redo() called when canRedo() is false";
+        State state = redoStates.pop();
+        state.redo();
+        undoStates.push(state);
+        return state;
+    }
+
+    /**
+     * Discards {@code state} from the undoable steps without reverting it.
+     */
+    public void remove(State state) {
+        if (undoStates.remove(state)) {
+            release(state);
+        }
+    }
+
+    /**
+     * Returns the number of undoable steps held.
+     */
+    public int getDepth() {
+        return undoStates.size();
+    }
+
+    /**
+     * Returns the approximate number of bytes held by all undoable and redoable steps.
+     */
+    public long getFootprint() {
+        return footprint;
+    }
+
+    /**
+     * Discards the oldest undoable steps, and then the redoable steps furthest from the current state, until the
+     * history is within its limits.
+     */
+    private void evictOldest() {
+        while (undoStates.size() > maxDepth) {
+            release(undoStates.removeLast());
+        }
+        while (footprint > maxBytes && !undoStates.isEmpty()) {
+            release(undoStates.removeLast());
+        }
+        while (footprint > maxBytes && !redoStates.isEmpty()) {
+            release(redoStates.removeLast());
+        }
+    }
+
+    /**
+     * Stops counting {@code state}, which has just been discarded, towards the footprint.
+     */
+    private void release(State state) {
+        state.setGrowthListener(null);
+        footprint -= state.getApproximateBytes();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("depth", getDepth())
+                .add("footprint", getFootprint())
+                .toString();
+    }
+}
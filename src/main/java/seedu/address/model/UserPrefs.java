@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,13 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 100;
+    public static final long DEFAULT_UNDO_HISTORY_BYTES = 16L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
+    private long undoHistoryBytes = DEFAULT_UNDO_HISTORY_BYTES;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setUndoHistoryBytes(newUserPrefs.getUndoHistoryBytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, "Undo history depth must not be negative");
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public long getUndoHistoryBytes() {
+        return undoHistoryBytes;
+    }
+
+    public void setUndoHistoryBytes(long undoHistoryBytes) {
+        checkArgument(undoHistoryBytes >= 0, "Undo history byte budget must not be negative");
+        this.undoHistoryBytes = undoHistoryBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +95,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth
+                && undoHistoryBytes == otherUserPrefs.undoHistoryBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryDepth, undoHistoryBytes);
     }
 
     @Override
@@ -82,6 +110,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history : " + undoHistoryDepth + " steps, " + undoHistoryBytes + " bytes");
         return sb.toString();
     }
 
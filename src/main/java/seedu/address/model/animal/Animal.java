@@ -2,11 +2,7 @@ package seedu.address.model.animal;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.format.DateTimeFormatter;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -14,8 +10,11 @@ import java.util.UUID;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Contact;
 import seedu.address.model.Name;
-import seedu.address.model.feedingsession.FeedingSession;
+import seedu.address.model.feedingsession.FeedingSessionIdSet;
+import seedu.address.model.feedingsession.UniqueFeedingSessionList;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents an Animal in the pet store.
@@ -28,7 +27,7 @@ public class Animal extends Contact {
     private final Location location;
 
     // Data fields
-    private final Set<UUID> feedingSessionIds = new HashSet<>();
+    private final FeedingSessionIdSet feedingSessionIds;
 
     /**
      * Every field must be present and not null.
@@ -41,7 +40,7 @@ public class Animal extends Contact {
         this.id = UUID.randomUUID();
         this.description = description;
         this.location = location;
-        this.feedingSessionIds.addAll(feedingSessionIds);
+        this.feedingSessionIds = FeedingSessionIdSet.of(feedingSessionIds);
     }
 
     /**
@@ -54,7 +53,7 @@ public class Animal extends Contact {
         this.id = id;
         this.description = description;
         this.location = location;
-        this.feedingSessionIds.addAll(feedingSessionIds);
+        this.feedingSessionIds = FeedingSessionIdSet.of(feedingSessionIds);
     }
 
     public UUID getId() {
@@ -69,14 +68,6 @@ public class Animal extends Contact {
         return location;
     }
 
-    /**
-     * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
-     */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
-    }
-
     /**
      * Returns an immutable feeding session IDs set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -89,49 +80,37 @@ public class Animal extends Contact {
      * Returns a new Animal with the given feeding session ID added.
      */
     public Animal addFeedingSessionId(UUID sessionId) {
-        Set<UUID> updatedSessions = new HashSet<>(feedingSessionIds);
-        updatedSessions.add(sessionId);
-        return new Animal(id, getName(), description, location, tags, updatedSessions);
+        return new Animal(id, getName(), description, location, tags, feedingSessionIds.with(sessionId));
     }
 
     /**
      * Returns a new Animal with the given feeding session ID removed.
      */
     public Animal removeFeedingSessionId(UUID sessionId) {
-        Set<UUID> updatedSessions = new HashSet<>(feedingSessionIds);
-        updatedSessions.remove(sessionId);
-        return new Animal(id, getName(), description, location, tags, updatedSessions);
+        return new Animal(id, getName(), description, location, tags, feedingSessionIds.without(sessionId));
     }
 
     /**
-     * Returns the earliest feeding session this animal is involved in from the given list.
-     * @param allSessions List of all feeding sessions to search from
-     * @return The earliest feeding session, or null if none found
+     * Returns this animal with its feeding session links renumbered by {@code feedingSessions}, which is this animal
+     * itself if they already are.
      */
-    public FeedingSession getEarliestFeedingSession(List<FeedingSession> allSessions) {
-        if (allSessions == null || allSessions.isEmpty()) {
-            return null;
+    public Animal withFeedingSessionIdsIn(UniqueFeedingSessionList feedingSessions) {
+        FeedingSessionIdSet renumbered = feedingSessions.renumber(feedingSessionIds);
+        if (renumbered == feedingSessionIds) {
+            return this;
         }
-
-        return allSessions.stream()
-                .filter(session -> session.involvesAnimal(this.id))
-                .min(Comparator.comparing(FeedingSession::getDateTime))
-                .orElse(null);
+        return new Animal(id, getName(), description, location, tags, renumbered);
     }
 
     /**
-     * Returns a formatted string of the earliest feeding session, or empty string if none.
-     * @param allSessions List of all feeding sessions to search from
-     * @return Formatted string showing next feeding time, or empty string
+     * Returns this animal with its tags interned in {@code dictionary}, which is this animal itself if they already
+     * are.
      */
-    public String getEarliestFeedingSessionDisplay(List<FeedingSession> allSessions) {
-        FeedingSession earliest = getEarliestFeedingSession(allSessions);
-        if (earliest == null) {
-            return "";
+    Animal withTagsIn(TagDictionary dictionary) {
+        if (tags.isIn(dictionary)) {
+            return this;
         }
-
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM yyyy, HH:mm");
-        return String.format("Next feeding: %s", earliest.getDateTime().format(formatter));
+        return new Animal(id, getName(), description, location, TagSet.of(tags, dictionary), feedingSessionIds);
     }
 
     /**
@@ -3,6 +3,8 @@ package seedu.address.model.animal;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an animal's description in the pet store.
  * Guarantees: immutable; is valid as declared in {@link #isValidDescription(String)}
@@ -31,8 +33,7 @@ public class Description {
      * Returns true if a given string is a valid description.
      */
     public static boolean isValidDescription(String test) {
-        String trimmed = test.trim();
-        return !trimmed.isEmpty() && trimmed.length() <= MAX_LENGTH;
+        return ValidationUtil.isNonBlank(test, MAX_LENGTH);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.animal;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an Animal's location in the pet store.
  * Guarantees: immutable; is valid as declared in {@link #isValidLocation(String)}
@@ -32,8 +34,7 @@ public class Location {
      * Returns true if a given string is a valid location.
      */
     public static boolean isValidLocation(String test) {
-        String trimmedTest = test.trim();
-        return !trimmedTest.isEmpty() && trimmedTest.length() <= MAX_LENGTH;
+        return ValidationUtil.isNonBlank(test, MAX_LENGTH);
     }
 
     @Override
@@ -3,13 +3,23 @@ package seedu.address.model.animal;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ContactSearchIndex;
+import seedu.address.model.FuzzyNameIndex;
+import seedu.address.model.Name;
 import seedu.address.model.animal.exceptions.AnimalNotFoundException;
 import seedu.address.model.animal.exceptions.DuplicateAnimalException;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * A list of animals that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +28,58 @@ import seedu.address.model.animal.exceptions.DuplicateAnimalException;
  * unique in terms of identity in the UniqueAnimalList. However, the removal of an animal uses Animal#equals(Object) so
  * as to ensure that the animal with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Animals are additionally indexed by their ID, normalized name and
+ * similar names so that lookups by {@code UUID}, name or misspelt name, and duplicate checks, do not require a scan
+ * of the list. Indexes are updated before the list itself, so that
+ * listeners of the list always see them up to date.
+ *
+ * The tags of the animals in the list are interned in a {@link TagDictionary} of the list, which is started afresh
+ * whenever the contents of the list are replaced.
  *
  * @see Animal#isSameAnimal(Animal)
  */
-public class UniqueAnimalList implements Iterable<Animal> {
+public class UniqueAnimalList implements Iterable<Animal>, ContactSearchIndex<Animal> {
 
     private final ObservableList<Animal> internalList = FXCollections.observableArrayList();
     private final ObservableList<Animal> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<UUID, Animal> animalsById = new HashMap<>();
+    private final Map<String, Animal> animalsByName = new HashMap<>();
+    private final FuzzyNameIndex<Animal> animalsBySimilarName = new FuzzyNameIndex<>();
+    private TagDictionary tagDictionary = new TagDictionary();
 
     /**
      * Returns true if the list contains an equivalent animal as the given argument.
      */
     public boolean contains(Animal toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAnimal);
+        return animalsByName.containsKey(toCheck.getNormalizedName());
+    }
+
+    /**
+     * Returns the animal named {@code name}, ignoring case, or null if no such animal exists in the list.
+     */
+    public Animal getByName(Name name) {
+        requireNonNull(name);
+        return animalsByName.get(name.getNormalizedName());
+    }
+
+    /**
+     * Returns the animal with the given ID, or null if no such animal exists in the list.
+     */
+    public Animal getById(UUID id) {
+        requireNonNull(id);
+        return animalsById.get(id);
+    }
+
+    @Override
+    public Set<Animal> getContactsWithSimilarName(String name, int maxDistance) {
+        return animalsBySimilarName.getMatches(name, maxDistance);
+    }
+
+    @Override
+    public List<Animal> findSimilarlyNamed(String name, int maxDistance) {
+        return animalsBySimilarName.search(name, maxDistance);
     }
 
     /**
@@ -41,11 +87,21 @@ public class UniqueAnimalList implements Iterable<Animal> {
      * The animal must not already exist in the list.
      */
     public void add(Animal toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Inserts an animal into the list at {@code index}, shifting later animals back by one.
+     * The animal must not already exist in the list.
+     */
+    public void add(int index, Animal toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateAnimalException();
         }
-        internalList.add(toAdd);
+        Animal interned = toAdd.withTagsIn(tagDictionary);
+        index(interned);
+        internalList.add(index, interned);
     }
 
     /**
@@ -61,11 +117,15 @@ public class UniqueAnimalList implements Iterable<Animal> {
             throw new AnimalNotFoundException();
         }
 
-        if (!target.isSameAnimal(editedAnimal) && contains(editedAnimal)) {
+        Animal owner = animalsByName.get(editedAnimal.getNormalizedName());
+        if (owner != null && owner != internalList.get(index)) {
             throw new DuplicateAnimalException();
         }
 
-        internalList.set(index, editedAnimal);
+        Animal interned = editedAnimal.withTagsIn(tagDictionary);
+        unindex(internalList.get(index));
+        index(interned);
+        internalList.set(index, interned);
     }
 
     /**
@@ -74,14 +134,18 @@ public class UniqueAnimalList implements Iterable<Animal> {
      */
     public void remove(Animal toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new AnimalNotFoundException();
         }
+
+        unindex(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setAnimals(UniqueAnimalList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceContents(replacement.internalList);
     }
 
     /**
@@ -94,7 +158,51 @@ public class UniqueAnimalList implements Iterable<Animal> {
             throw new DuplicateAnimalException();
         }
 
-        internalList.setAll(animals);
+        replaceContents(animals);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code animals}, which are known to be unique, interning their tags
+     * in a new dictionary.
+     */
+    private void replaceContents(List<Animal> animals) {
+        tagDictionary = new TagDictionary();
+        List<Animal> interned = new ArrayList<>(animals.size());
+        for (Animal animal : animals) {
+            interned.add(animal.withTagsIn(tagDictionary));
+        }
+        rebuildIndex(interned);
+        internalList.setAll(interned);
+    }
+
+    /**
+     * Adds {@code animal} to all indexes.
+     */
+    private void index(Animal animal) {
+        animalsById.put(animal.getId(), animal);
+        animalsByName.put(animal.getNormalizedName(), animal);
+        animalsBySimilarName.add(animal);
+    }
+
+    /**
+     * Removes {@code animal} from all indexes.
+     */
+    private void unindex(Animal animal) {
+        animalsById.remove(animal.getId(), animal);
+        animalsByName.remove(animal.getNormalizedName(), animal);
+        animalsBySimilarName.remove(animal);
+    }
+
+    /**
+     * Rebuilds all indexes from {@code animals}, the new contents of the list.
+     */
+    private void rebuildIndex(List<Animal> animals) {
+        animalsById.clear();
+        animalsByName.clear();
+        animalsBySimilarName.clear();
+        for (Animal animal : animals) {
+            index(animal);
+        }
     }
 
     /**
@@ -135,13 +243,13 @@ public class UniqueAnimalList implements Iterable<Animal> {
 
     /**
      * Returns true if {@code animals} contains only unique animals.
+     * Animals are compared by their normalized names in a single pass, in line with {@link Animal#isSameAnimal}.
      */
     private boolean animalsAreUnique(List<Animal> animals) {
-        for (int i = 0; i < animals.size() - 1; i++) {
-            for (int j = i + 1; j < animals.size(); j++) {
-                if (animals.get(i).isSameAnimal(animals.get(j))) {
-                    return false;
-                }
+        Set<String> seenNames = new HashSet<>();
+        for (Animal animal : animals) {
+            if (!seenNames.add(animal.getNormalizedName())) {
+                return false;
             }
         }
         return true;
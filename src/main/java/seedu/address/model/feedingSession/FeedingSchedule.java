@@ -0,0 +1,263 @@
+package seedu.address.model.feedingsession;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Represents a recurring feeding in the address book, such as "every day at 08:00 by Alice for Max".
+ * The feeding sessions it plans are not stored; they are generated on demand for whatever time range is asked for.
+ * Only the dates on which a planned feeding is skipped are stored with the schedule.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ */
+public class FeedingSchedule {
+
+    public static final String MESSAGE_CONSTRAINTS = "The number of days between feedings must be a positive integer";
+
+    private final UUID id;
+    private final UUID animalId;
+    private final UUID personId;
+    private final LocalDateTime start;
+    private final int intervalDays;
+    private final NavigableSet<LocalDate> skippedDates;
+
+    /**
+     * Constructs a FeedingSchedule with auto-generated ID and no skipped dates.
+     *
+     * @param animalId The UUID of the animal to be fed.
+     * @param personId The UUID of the person to feed the animal.
+     * @param start The date and time of the first feeding, whose time of day every later feeding shares.
+     * @param intervalDays The number of days from one feeding to the next, which must be positive.
+     */
+    public FeedingSchedule(UUID animalId, UUID personId, LocalDateTime start, int intervalDays) {
+        this(UUID.randomUUID(), animalId, personId, start, intervalDays, Collections.emptySet());
+    }
+
+    /**
+     * Constructs a FeedingSchedule with explicit ID (for deserialization).
+     *
+     * @param id The unique identifier for this schedule.
+     * @param animalId The UUID of the animal to be fed.
+     * @param personId The UUID of the person to feed the animal.
+     * @param start The date and time of the first feeding, whose time of day every later feeding shares.
+     * @param intervalDays The number of days from one feeding to the next, which must be positive.
+     * @param skippedDates The dates on which the planned feeding does not take place.
+     */
+    public FeedingSchedule(UUID id, UUID animalId, UUID personId, LocalDateTime start, int intervalDays,
+                           Set<LocalDate> skippedDates) {
+        requireAllNonNull(id, animalId, personId, start, skippedDates);
+        checkArgument(isValidInterval(intervalDays), MESSAGE_CONSTRAINTS);
+        this.id = id;
+        this.animalId = animalId;
+        this.personId = personId;
+        this.start = start;
+        this.intervalDays = intervalDays;
+        this.skippedDates = Collections.unmodifiableNavigableSet(new TreeSet<>(skippedDates));
+    }
+
+    /**
+     * Returns true if {@code intervalDays} is a valid number of days between feedings.
+     */
+    public static boolean isValidInterval(int intervalDays) {
+        return intervalDays > 0;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getAnimalId() {
+        return animalId;
+    }
+
+    public UUID getPersonId() {
+        return personId;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    /**
+     * Returns the dates on which the planned feeding does not take place, earliest first.
+     */
+    public NavigableSet<LocalDate> getSkippedDates() {
+        return skippedDates;
+    }
+
+    /**
+     * Returns true if this schedule plans a feeding at exactly {@code dateTime}.
+     */
+    public boolean occursAt(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return !dateTime.isBefore(start)
+                && dateTime.toLocalTime().equals(start.toLocalTime())
+                && ChronoUnit.DAYS.between(start.toLocalDate(), dateTime.toLocalDate()) % intervalDays == 0
+                && !skippedDates.contains(dateTime.toLocalDate());
+    }
+
+    /**
+     * Returns a copy of this schedule that skips the feeding planned at {@code dateTime}.
+     * This schedule must plan a feeding at {@code dateTime}.
+     */
+    public FeedingSchedule skipping(LocalDateTime dateTime) {
+        checkArgument(occursAt(dateTime), "The schedule has no feeding at " + dateTime);
+        Set<LocalDate> newSkippedDates = new TreeSet<>(skippedDates);
+        newSkippedDates.add(dateTime.toLocalDate());
+        return new FeedingSchedule(id, animalId, personId, start, intervalDays, newSkippedDates);
+    }
+
+    /**
+     * Returns the feeding planned at {@code dateTime} as a feeding session.
+     * Its ID is derived from this schedule and {@code dateTime}, so it is the same every time it is generated.
+     * This schedule must plan a feeding at {@code dateTime}.
+     */
+    public FeedingSession getOccurrenceAt(LocalDateTime dateTime) {
+        checkArgument(occursAt(dateTime), "The schedule has no feeding at " + dateTime);
+        return newOccurrence(dateTime);
+    }
+
+    /**
+     * Returns the feedings planned at or after {@code from}, earliest first, as feeding sessions.
+     * The feedings are generated one at a time as the iterator advances, so the iterator is effectively infinite
+     * and callers must stop once they have seen enough.
+     */
+    public Iterator<FeedingSession> getOccurrencesFrom(LocalDateTime from) {
+        requireNonNull(from);
+        return new Iterator<>() {
+            private LocalDateTime next = nextOccurrence(firstCandidateFrom(from));
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public FeedingSession next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                FeedingSession occurrence = newOccurrence(next);
+                next = nextOccurrence(plusInterval(next));
+                return occurrence;
+            }
+        };
+    }
+
+    /**
+     * Returns the earliest feeding time in the recurrence at or after {@code from}, ignoring skipped dates.
+     */
+    private LocalDateTime firstCandidateFrom(LocalDateTime from) {
+        if (!from.isAfter(start)) {
+            return start;
+        }
+        long elapsedIntervals = ChronoUnit.DAYS.between(start.toLocalDate(), from.toLocalDate()) / intervalDays;
+        LocalDateTime candidate = start.plusDays(elapsedIntervals * intervalDays);
+        return candidate.isBefore(from) ? plusInterval(candidate) : candidate;
+    }
+
+    /**
+     * Returns {@code candidate}, or the first feeding time after it, that is not on a skipped date.
+     * Returns null if there is none before the end of time.
+     */
+    private LocalDateTime nextOccurrence(LocalDateTime candidate) {
+        while (candidate != null && skippedDates.contains(candidate.toLocalDate())) {
+            candidate = plusInterval(candidate);
+        }
+        return candidate;
+    }
+
+    private LocalDateTime plusInterval(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        try {
+            return dateTime.plusDays(intervalDays);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private FeedingSession newOccurrence(LocalDateTime dateTime) {
+        UUID occurrenceId = UUID.nameUUIDFromBytes((id + "@" + dateTime).getBytes(StandardCharsets.UTF_8));
+        return new FeedingSession(occurrenceId, animalId, personId, dateTime);
+    }
+
+    /**
+     * Returns true if this schedule involves the given person.
+     */
+    public boolean involvesPerson(UUID personId) {
+        return this.personId.equals(personId);
+    }
+
+    /**
+     * Returns true if this schedule involves the given animal.
+     */
+    public boolean involvesAnimal(UUID animalId) {
+        return this.animalId.equals(animalId);
+    }
+
+    /**
+     * Returns true if both schedules have the same identity (ID).
+     * This defines a weaker notion of equality between two schedules.
+     */
+    public boolean isSameFeedingSchedule(FeedingSchedule otherSchedule) {
+        if (otherSchedule == this) {
+            return true;
+        }
+
+        return otherSchedule != null && otherSchedule.getId().equals(getId());
+    }
+
+    /**
+     * Returns true if both schedules have the same identity and plan the same feedings.
+     * This defines a stronger notion of equality between two schedules.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FeedingSchedule)) {
+            return false;
+        }
+
+        FeedingSchedule otherSchedule = (FeedingSchedule) other;
+        return id.equals(otherSchedule.id)
+                && animalId.equals(otherSchedule.animalId)
+                && personId.equals(otherSchedule.personId)
+                && start.equals(otherSchedule.start)
+                && intervalDays == otherSchedule.intervalDays
+                && skippedDates.equals(otherSchedule.skippedDates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, animalId, personId, start, intervalDays, skippedDates);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FeedingSchedule[id=%s, animalId=%s, personId=%s, start=%s, intervalDays=%d, "
+                + "skippedDates=%s]", id, animalId, personId, start, intervalDays, skippedDates);
+    }
+}
@@ -1,21 +1,52 @@
 package seedu.address.model.feedingsession;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Represents a FeedingSession in the address book.
- * A FeedingSession links a Person who fed an Animal at a specific date and time.
+ * A FeedingSession links a Person who fed an Animal at a specific date and time, optionally for a given duration.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class FeedingSession {
+    public static final String MESSAGE_DURATION_CONSTRAINTS =
+            "The duration of a feeding session must be a positive whole number of minutes, no more than "
+            + Integer.MAX_VALUE;
+    public static final String MESSAGE_END_TIME_CONSTRAINTS =
+            "A feeding session must end no later than " + LocalDateTime.MAX;
+
+    /** The longest duration of a feeding session, the most minutes a duration can be entered with. */
+    public static final Duration MAX_DURATION = Duration.ofMinutes(Integer.MAX_VALUE);
+
+    /** How long a session without a given duration is taken to occupy its feeder for, the precision of its time. */
+    public static final Duration DEFAULT_OCCUPIED_DURATION = Duration.ofMinutes(1);
+
+    /**
+     * Orders feeding sessions by their date and time, breaking ties by ID so that distinct sessions
+     * at the same time are never considered equal.
+     */
+    public static final Comparator<FeedingSession> CHRONOLOGICAL_ORDER =
+            Comparator.comparing(FeedingSession::getDateTime).thenComparing(FeedingSession::getId);
+
+    /** Orders before every other ID, since {@code UUID#compareTo} compares both halves as signed numbers. */
+    private static final UUID LEAST_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    /** Orders after every other ID, for the same reason. */
+    private static final UUID GREATEST_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
     private final UUID id;
     private final UUID animalId;
     private final UUID personId;
     private final LocalDateTime dateTime;
+    /** How long the session lasts, or null if it was not given. */
+    private final Duration duration;
 
     /**
      * Constructs a FeedingSession with auto-generated ID.
@@ -26,13 +57,19 @@ public class FeedingSession {
      * @param dateTime The date and time when the feeding occurred.
      */
     public FeedingSession(UUID animalId, UUID personId, LocalDateTime dateTime) {
-        requireNonNull(animalId);
-        requireNonNull(personId);
-        requireNonNull(dateTime);
-        this.id = UUID.randomUUID();
-        this.animalId = animalId;
-        this.personId = personId;
-        this.dateTime = dateTime;
+        this(UUID.randomUUID(), animalId, personId, dateTime, Optional.empty());
+    }
+
+    /**
+     * Constructs a FeedingSession with auto-generated ID that lasts for {@code duration}, if given.
+     *
+     * @param animalId The UUID of the animal being fed.
+     * @param personId The UUID of the person feeding the animal.
+     * @param dateTime The date and time when the feeding starts.
+     * @param duration How long the feeding lasts, which must be positive, or empty if not known.
+     */
+    public FeedingSession(UUID animalId, UUID personId, LocalDateTime dateTime, Optional<Duration> duration) {
+        this(UUID.randomUUID(), animalId, personId, dateTime, duration);
     }
 
     /**
@@ -45,14 +82,115 @@ public class FeedingSession {
      * @param dateTime The date and time when the feeding occurred.
      */
     public FeedingSession(UUID id, UUID animalId, UUID personId, LocalDateTime dateTime) {
+        this(id, animalId, personId, dateTime, Optional.empty());
+    }
+
+    /**
+     * Constructs a FeedingSession with explicit ID that lasts for {@code duration}, if given (for deserialization).
+     *
+     * @param id The unique identifier for this feeding session.
+     * @param animalId The UUID of the animal being fed.
+     * @param personId The UUID of the person feeding the animal.
+     * @param dateTime The date and time when the feeding starts.
+     * @param duration How long the feeding lasts, which must be positive, or empty if not known.
+     */
+    public FeedingSession(UUID id, UUID animalId, UUID personId, LocalDateTime dateTime,
+                          Optional<Duration> duration) {
         requireNonNull(id);
         requireNonNull(animalId);
         requireNonNull(personId);
         requireNonNull(dateTime);
+        requireNonNull(duration);
+        checkArgument(duration.map(FeedingSession::isValidDuration).orElse(true), MESSAGE_DURATION_CONSTRAINTS);
+        checkArgument(isValidEndTime(dateTime, duration), MESSAGE_END_TIME_CONSTRAINTS);
         this.id = id;
         this.animalId = animalId;
         this.personId = personId;
         this.dateTime = dateTime;
+        this.duration = duration.orElse(null);
+    }
+
+    /**
+     * Constructs a session at {@code dateTime} that is only used as a bound of a range in
+     * {@link #CHRONOLOGICAL_ORDER}. It skips the checks of a recorded session, since a bound may be as late as
+     * {@link LocalDateTime#MAX}.
+     */
+    private FeedingSession(UUID boundId, LocalDateTime dateTime) {
+        this.id = boundId;
+        this.animalId = boundId;
+        this.personId = boundId;
+        this.dateTime = dateTime;
+        this.duration = null;
+    }
+
+    /**
+     * Returns true if {@code duration} is a valid duration for a feeding session.
+     */
+    public static boolean isValidDuration(Duration duration) {
+        return !duration.isNegative() && !duration.isZero() && duration.compareTo(MAX_DURATION) <= 0;
+    }
+
+    /**
+     * Returns true if a feeding session at {@code dateTime} lasting {@code duration}, which must be valid, ends
+     * no later than the latest representable date and time, so that its {@link #getEndTime()} can be computed.
+     */
+    public static boolean isValidEndTime(LocalDateTime dateTime, Optional<Duration> duration) {
+        return !dateTime.isAfter(LocalDateTime.MAX.minus(duration.orElse(DEFAULT_OCCUPIED_DURATION)));
+    }
+
+    /**
+     * Returns true if the time from {@code start} to {@code end}, excluding {@code end}, overlaps the time from
+     * {@code otherStart} to {@code otherEnd}, excluding {@code otherEnd}.
+     */
+    public static boolean overlaps(LocalDateTime start, LocalDateTime end, LocalDateTime otherStart,
+                                   LocalDateTime otherEnd) {
+        return start.isBefore(otherEnd) && otherStart.isBefore(end);
+    }
+
+    /**
+     * Returns the sessions of {@code chronologicalSessions} from {@code from} to {@code to}, both inclusive.
+     * This takes logarithmic time, and the result is a view, so it reflects later changes to the given set.
+     *
+     * @param chronologicalSessions Feeding sessions sorted by {@link #CHRONOLOGICAL_ORDER}.
+     * @param from The earliest date and time to include.
+     * @param to The latest date and time to include, which must not be before {@code from}.
+     * @return The sessions in the given range, earliest first.
+     */
+    public static NavigableSet<FeedingSession> between(NavigableSet<FeedingSession> chronologicalSessions,
+                                                       LocalDateTime from, LocalDateTime to) {
+        requireNonNull(chronologicalSessions);
+        checkArgument(!from.isAfter(to), "The start of the range must not be after its end");
+        return chronologicalSessions.subSet(lowerBound(from), true, upperBound(to), true);
+    }
+
+    /**
+     * Returns the sessions of {@code chronologicalSessions} at or after {@code from}.
+     * This takes logarithmic time, and the result is a view, so it reflects later changes to the given set.
+     *
+     * @param chronologicalSessions Feeding sessions sorted by {@link #CHRONOLOGICAL_ORDER}.
+     * @param from The earliest date and time to include.
+     * @return The sessions from the given time onwards, earliest first.
+     */
+    public static NavigableSet<FeedingSession> startingFrom(NavigableSet<FeedingSession> chronologicalSessions,
+                                                            LocalDateTime from) {
+        requireNonNull(chronologicalSessions);
+        return chronologicalSessions.tailSet(lowerBound(from), true);
+    }
+
+    /**
+     * Returns a session that {@link #CHRONOLOGICAL_ORDER} places before every session at or after {@code dateTime},
+     * and after every session before it.
+     */
+    private static FeedingSession lowerBound(LocalDateTime dateTime) {
+        return new FeedingSession(LEAST_ID, dateTime);
+    }
+
+    /**
+     * Returns a session that {@link #CHRONOLOGICAL_ORDER} places after every session at or before {@code dateTime},
+     * and before every session after it.
+     */
+    private static FeedingSession upperBound(LocalDateTime dateTime) {
+        return new FeedingSession(GREATEST_ID, dateTime);
     }
 
     /**
@@ -91,6 +229,28 @@ public class FeedingSession {
         return dateTime;
     }
 
+    /**
+     * Returns how long the feeding lasts, if it was given.
+     */
+    public Optional<Duration> getDuration() {
+        return Optional.ofNullable(duration);
+    }
+
+    /**
+     * Returns the date and time until which the feeding occupies its feeder, excluding that time itself.
+     * A session without a duration occupies its feeder for {@link #DEFAULT_OCCUPIED_DURATION}.
+     */
+    public LocalDateTime getEndTime() {
+        return dateTime.plus(duration == null ? DEFAULT_OCCUPIED_DURATION : duration);
+    }
+
+    /**
+     * Returns true if this feeding session and {@code other} take place at overlapping times.
+     */
+    public boolean overlaps(FeedingSession other) {
+        return overlaps(dateTime, getEndTime(), other.dateTime, other.getEndTime());
+    }
+
     /**
      * Returns the date and time when the feeding occurred.
      * This is an alias for {@link #getDateTime()}.
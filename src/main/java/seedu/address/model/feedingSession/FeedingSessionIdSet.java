@@ -0,0 +1,414 @@
+package seedu.address.model.feedingsession;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * An immutable set of feeding session IDs, such as those linked to a person or an animal.
+ *
+ * Each ID is stored as its dense int surrogate in a persistent bitmapped trie: a leaf is a 64-bit word of 64
+ * consecutive surrogates, and each branch above it has up to 32 children, of which only those present are stored. A
+ * set with one ID more or less shares all but one path from the root with the original, so adding or removing a link
+ * costs the same however many links the set already has. The {@code UUID}s are only recreated when the set is
+ * iterated.
+ *
+ * The surrogates come from a {@link SessionIdRegistry}, which sets derived from one another through
+ * {@link #with(UUID)} and {@link #without(UUID)} share. The links of the persons and animals in an address book are
+ * renumbered by its {@link UniqueFeedingSessionList}, so they all share the registry of that list. A set built
+ * elsewhere has a registry of its own until then.
+ */
+public final class FeedingSessionIdSet extends AbstractSet<UUID> {
+
+    private static final int LEAF_BITS = 6;
+    private static final int BRANCH_BITS = 5;
+    private static final int BRANCH_MASK = (1 << BRANCH_BITS) - 1;
+
+    private static final FeedingSessionIdSet EMPTY = new FeedingSessionIdSet(null, null, 0, 0);
+
+    /** The registry of the surrogates in this set, or null if the set is empty. */
+    private final SessionIdRegistry registry;
+    /** A {@code Leaf} if {@link #height} is 0, otherwise a {@code Branch}, or null if the set is empty. */
+    private final Node root;
+    /** The number of branch levels above the leaves, which is the least that fits the largest surrogate. */
+    private final int height;
+    private final int size;
+
+    private FeedingSessionIdSet(SessionIdRegistry registry, Node root, int height, int size) {
+        this.registry = registry;
+        this.root = root;
+        this.height = height;
+        this.size = size;
+    }
+
+    public static FeedingSessionIdSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a set of the IDs in {@code ids}, which is {@code ids} itself if it is already such a set.
+     */
+    public static FeedingSessionIdSet of(Collection<UUID> ids) {
+        requireNonNull(ids);
+        if (ids instanceof FeedingSessionIdSet) {
+            return (FeedingSessionIdSet) ids;
+        }
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        return inRegistry(new SessionIdRegistry(ids.size()), ids);
+    }
+
+    /**
+     * Returns a set of the IDs in {@code ids} with surrogates from {@code registry}, which is {@code ids} itself if
+     * it is already such a set.
+     */
+    static FeedingSessionIdSet of(FeedingSessionIdSet ids, SessionIdRegistry registry) {
+        if (ids.isIn(registry)) {
+            return ids;
+        }
+        return inRegistry(registry, ids);
+    }
+
+    /**
+     * Returns a set of the IDs in {@code ids}, which must not be empty, with surrogates from {@code registry}.
+     */
+    private static FeedingSessionIdSet inRegistry(SessionIdRegistry registry, Collection<UUID> ids) {
+        int[] denseIds = new int[ids.size()];
+        int count = 0;
+        for (UUID id : ids) {
+            denseIds[count++] = registry.intern(requireNonNull(id));
+        }
+        Arrays.sort(denseIds);
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (denseIds[i] != denseIds[distinct - 1]) {
+                denseIds[distinct++] = denseIds[i];
+            }
+        }
+        int height = heightFor(denseIds[distinct - 1]);
+        return new FeedingSessionIdSet(registry, build(denseIds, distinct, height), height, distinct);
+    }
+
+    /**
+     * Returns a set of the IDs in this set and {@code id}.
+     */
+    public FeedingSessionIdSet with(UUID id) {
+        requireNonNull(id);
+        SessionIdRegistry grownRegistry = registry == null ? new SessionIdRegistry(1) : registry;
+        int denseId = grownRegistry.intern(id);
+        if (containsDenseId(denseId)) {
+            return this;
+        }
+        Node grown = root;
+        int grownHeight = height;
+        while (grownHeight < heightFor(denseId)) {
+            grown = grown == null ? null : new Branch(1, new Node[] {grown});
+            grownHeight++;
+        }
+        return new FeedingSessionIdSet(grownRegistry, insert(grown, grownHeight, denseId), grownHeight, size + 1);
+    }
+
+    /**
+     * Returns a set of the IDs in this set other than {@code id}.
+     */
+    public FeedingSessionIdSet without(UUID id) {
+        requireNonNull(id);
+        int denseId = registry == null ? -1 : registry.find(id);
+        if (!containsDenseId(denseId)) {
+            return this;
+        }
+        if (size == 1) {
+            return EMPTY;
+        }
+        Node shrunk = delete(root, height, denseId);
+        int shrunkHeight = height;
+        while (shrunkHeight > 0 && ((Branch) shrunk).bitmap == 1) {
+            shrunk = ((Branch) shrunk).children[0];
+            shrunkHeight--;
+        }
+        return new FeedingSessionIdSet(registry, shrunk, shrunkHeight, size - 1);
+    }
+
+    /**
+     * Returns true if the surrogates of this set are from {@code registry}. The empty set is in every registry.
+     */
+    boolean isIn(SessionIdRegistry registry) {
+        return size == 0 || this.registry == registry;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof UUID && registry != null && containsDenseId(registry.find((UUID) other));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<UUID> iterator() {
+        int[] denseIds = new int[size];
+        collect(root, height, 0, denseIds, 0);
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < denseIds.length;
+            }
+
+            @Override
+            public UUID next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return registry.toUuid(denseIds[next++]);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof FeedingSessionIdSet && registry == ((FeedingSessionIdSet) other).registry) {
+            // Equal sets on one registry have the same trie, since a trie has no empty nodes and no more levels than
+            // it needs
+            FeedingSessionIdSet otherSet = (FeedingSessionIdSet) other;
+            return size == otherSet.size && height == otherSet.height && Objects.equals(root, otherSet.root);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        int[] denseIds = new int[size];
+        collect(root, height, 0, denseIds, 0);
+        int hashCode = 0;
+        for (int denseId : denseIds) {
+            hashCode += registry.uuidHashCode(denseId);
+        }
+        return hashCode;
+    }
+
+    private boolean containsDenseId(int denseId) {
+        if (denseId < 0 || root == null || heightFor(denseId) > height) {
+            return false;
+        }
+        Node node = root;
+        for (int level = height; level > 0; level--) {
+            Branch branch = (Branch) node;
+            int bit = 1 << childIndex(denseId, level);
+            if ((branch.bitmap & bit) == 0) {
+                return false;
+            }
+            node = branch.children[Integer.bitCount(branch.bitmap & (bit - 1))];
+        }
+        return (((Leaf) node).bits & leafBit(denseId)) != 0;
+    }
+
+    /**
+     * Returns the trie of {@code node}, at {@code level} levels above the leaves, with {@code denseId} added. Only
+     * the nodes on the path to {@code denseId} are copied.
+     */
+    private static Node insert(Node node, int level, int denseId) {
+        if (level == 0) {
+            long bits = node == null ? 0 : ((Leaf) node).bits;
+            return new Leaf(bits | leafBit(denseId));
+        }
+
+        Branch branch = (Branch) node;
+        int bitmap = branch == null ? 0 : branch.bitmap;
+        int bit = 1 << childIndex(denseId, level);
+        int position = Integer.bitCount(bitmap & (bit - 1));
+        if ((bitmap & bit) != 0) {
+            Node[] children = branch.children.clone();
+            children[position] = insert(children[position], level - 1, denseId);
+            return new Branch(bitmap, children);
+        }
+
+        Node[] children = new Node[Integer.bitCount(bitmap) + 1];
+        if (branch != null) {
+            System.arraycopy(branch.children, 0, children, 0, position);
+            System.arraycopy(branch.children, position, children, position + 1, branch.children.length - position);
+        }
+        children[position] = insert(null, level - 1, denseId);
+        return new Branch(bitmap | bit, children);
+    }
+
+    /**
+     * Returns the trie of {@code node}, at {@code level} levels above the leaves, with {@code denseId} removed, or
+     * null if no surrogate is left. The trie must contain {@code denseId}.
+     */
+    private static Node delete(Node node, int level, int denseId) {
+        if (level == 0) {
+            long bits = ((Leaf) node).bits & ~leafBit(denseId);
+            return bits == 0 ? null : new Leaf(bits);
+        }
+
+        Branch branch = (Branch) node;
+        int bit = 1 << childIndex(denseId, level);
+        int position = Integer.bitCount(branch.bitmap & (bit - 1));
+        Node child = delete(branch.children[position], level - 1, denseId);
+        if (child != null) {
+            Node[] children = branch.children.clone();
+            children[position] = child;
+            return new Branch(branch.bitmap, children);
+        }
+        if (branch.children.length == 1) {
+            return null;
+        }
+
+        Node[] children = new Node[branch.children.length - 1];
+        System.arraycopy(branch.children, 0, children, 0, position);
+        System.arraycopy(branch.children, position + 1, children, position, children.length - position);
+        return new Branch(branch.bitmap & ~bit, children);
+    }
+
+    /**
+     * Returns the trie, {@code height} levels above the leaves, of the first {@code count} of {@code denseIds}, which
+     * must be distinct and in ascending order.
+     */
+    private static Node build(int[] denseIds, int count, int height) {
+        Node[] nodes = new Node[count];
+        int[] prefixes = new int[count];
+        int nodeCount = 0;
+        int i = 0;
+        while (i < count) {
+            int prefix = denseIds[i] >>> LEAF_BITS;
+            long bits = 0;
+            for (; i < count && denseIds[i] >>> LEAF_BITS == prefix; i++) {
+                bits |= leafBit(denseIds[i]);
+            }
+            nodes[nodeCount] = new Leaf(bits);
+            prefixes[nodeCount++] = prefix;
+        }
+
+        for (int level = 1; level <= height; level++) {
+            int parentCount = 0;
+            i = 0;
+            while (i < nodeCount) {
+                int parentPrefix = prefixes[i] >>> BRANCH_BITS;
+                int bitmap = 0;
+                int first = i;
+                for (; i < nodeCount && prefixes[i] >>> BRANCH_BITS == parentPrefix; i++) {
+                    bitmap |= 1 << (prefixes[i] & BRANCH_MASK);
+                }
+                // Parents never overtake the children still to be grouped, so they can share the arrays
+                nodes[parentCount] = new Branch(bitmap, Arrays.copyOfRange(nodes, first, i));
+                prefixes[parentCount++] = parentPrefix;
+            }
+            nodeCount = parentCount;
+        }
+        return nodes[0];
+    }
+
+    /**
+     * Stores the surrogates under {@code node}, at {@code level} levels above the leaves, in ascending order into
+     * {@code denseIds} from {@code count}, and returns the number of surrogates stored so far.
+     */
+    private static int collect(Node node, int level, int base, int[] denseIds, int count) {
+        if (node == null) {
+            return count;
+        }
+        if (level == 0) {
+            for (long bits = ((Leaf) node).bits; bits != 0; bits &= bits - 1) {
+                denseIds[count++] = base + Long.numberOfTrailingZeros(bits);
+            }
+            return count;
+        }
+
+        Branch branch = (Branch) node;
+        int position = 0;
+        for (int bitmap = branch.bitmap; bitmap != 0; bitmap &= bitmap - 1) {
+            int childBase = base + (Integer.numberOfTrailingZeros(bitmap) << shift(level));
+            count = collect(branch.children[position++], level - 1, childBase, denseIds, count);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the least number of branch levels for a trie holding {@code denseId}.
+     */
+    private static int heightFor(int denseId) {
+        int height = 0;
+        while (denseId >>> shift(height + 1) != 0) {
+            height++;
+        }
+        return height;
+    }
+
+    /**
+     * Returns the position of the lowest surrogate under a child of a branch {@code level} levels above the leaves.
+     */
+    private static int shift(int level) {
+        return LEAF_BITS + (level - 1) * BRANCH_BITS;
+    }
+
+    private static int childIndex(int denseId, int level) {
+        return (denseId >>> shift(level)) & BRANCH_MASK;
+    }
+
+    private static long leafBit(int denseId) {
+        return 1L << (denseId & ((1 << LEAF_BITS) - 1));
+    }
+
+    private abstract static class Node {
+    }
+
+    /** The surrogates in a run of 64, as the bits of a word. */
+    private static final class Leaf extends Node {
+        private final long bits;
+
+        private Leaf(long bits) {
+            this.bits = bits;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || other instanceof Leaf && bits == ((Leaf) other).bits;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(bits);
+        }
+    }
+
+    /** The present children of a node, in order, along with a bitmap of which of the 32 possible they are. */
+    private static final class Branch extends Node {
+        private final int bitmap;
+        private final Node[] children;
+
+        private Branch(int bitmap, Node[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Branch)) {
+                return false;
+            }
+            Branch otherBranch = (Branch) other;
+            return bitmap == otherBranch.bitmap && Arrays.equals(children, otherBranch.children);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * bitmap + Arrays.hashCode(children);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package seedu.address.model.feedingsession;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Counts of recorded feeding sessions per day and per week, overall and for each animal and person, along with the
+ * times at which each animal was fed and which animals were not fed on a given day.
+ *
+ * The counts are kept up to date one session at a time from the changes to the list of sessions they were built from,
+ * so a count is looked up in constant time however long the feeding history is. Weeks start on Monday.
+ *
+ * The animals not fed on a day are worked out from every animal only when a different day is asked for, and are
+ * then kept up to date as sessions and animals are added and removed.
+ */
+public class FeedingStatistics implements ListChangeListener<FeedingSession> {
+
+    private final Tally overall = new Tally();
+    private final Map<UUID, Tally> byAnimal = new HashMap<>();
+    private final Map<UUID, Tally> byPerson = new HashMap<>();
+    /** The number of sessions of each animal at each date and time, so that the latest one survives removals. */
+    private final Map<UUID, NavigableMap<LocalDateTime, Integer>> feedingTimesByAnimal = new HashMap<>();
+    /** The animals known to these statistics, in the order they were added. */
+    private final Set<UUID> animalIds = new LinkedHashSet<>();
+    /** The animals with no sessions on {@link #unfedDay}, in the order they were added. */
+    private final Set<UUID> unfedAnimalIds = new LinkedHashSet<>();
+    /** The day {@link #unfedAnimalIds} is for, or null until the animals not fed on a day are first asked for. */
+    private LocalDate unfedDay;
+
+    /**
+     * Creates statistics of {@code sessions} with no animals known.
+     *
+     * @see #FeedingStatistics(Iterable, Iterable)
+     */
+    public FeedingStatistics(Iterable<FeedingSession> sessions) {
+        this(sessions, List.of());
+    }
+
+    /**
+     * Creates statistics of {@code sessions} for the animals with the given IDs. Changes to the sessions must then be
+     * passed to {@link #onChanged(Change)}, and changes to the animals to {@link #addAnimal(UUID)} and
+     * {@link #removeAnimal(UUID)}, to keep the statistics up to date.
+     */
+    public FeedingStatistics(Iterable<FeedingSession> sessions, Iterable<UUID> animalIds) {
+        requireAllNonNull(sessions, animalIds);
+        sessions.forEach(this::add);
+        animalIds.forEach(this::addAnimal);
+    }
+
+    /**
+     * Returns the first day of the week containing {@code date}.
+     */
+    public static LocalDate getWeekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    @Override
+    public void onChanged(Change<? extends FeedingSession> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Adds the animal with the given ID to the animals these statistics know of.
+     */
+    public void addAnimal(UUID animalId) {
+        requireNonNull(animalId);
+        animalIds.add(animalId);
+        updateUnfed(animalId);
+    }
+
+    /**
+     * Removes the animal with the given ID from the animals these statistics know of.
+     */
+    public void removeAnimal(UUID animalId) {
+        requireNonNull(animalId);
+        animalIds.remove(animalId);
+        unfedAnimalIds.remove(animalId);
+    }
+
+    /**
+     * Returns the IDs of the known animals with no feeding sessions on {@code date}, as an unmodifiable view.
+     * The view follows later changes only for as long as the same date is asked for.
+     */
+    public Set<UUID> getAnimalsNotFedOn(LocalDate date) {
+        requireNonNull(date);
+        if (!date.equals(unfedDay)) {
+            unfedDay = date;
+            unfedAnimalIds.clear();
+            animalIds.forEach(this::updateUnfed);
+        }
+        return Collections.unmodifiableSet(unfedAnimalIds);
+    }
+
+    /**
+     * Returns the number of feeding sessions on {@code date}.
+     */
+    public int getDailyCount(LocalDate date) {
+        return overall.getDailyCount(date);
+    }
+
+    /**
+     * Returns the number of feeding sessions in the week containing {@code date}.
+     */
+    public int getWeeklyCount(LocalDate date) {
+        return overall.getWeeklyCount(date);
+    }
+
+    /**
+     * Returns the number of feeding sessions of the given animal on {@code date}.
+     */
+    public int getDailyCountForAnimal(UUID animalId, LocalDate date) {
+        return tallyOf(byAnimal, animalId).getDailyCount(date);
+    }
+
+    /**
+     * Returns the number of feeding sessions of the given animal in the week containing {@code date}.
+     */
+    public int getWeeklyCountForAnimal(UUID animalId, LocalDate date) {
+        return tallyOf(byAnimal, animalId).getWeeklyCount(date);
+    }
+
+    /**
+     * Returns the number of feeding sessions of the given person on {@code date}.
+     */
+    public int getDailyCountForPerson(UUID personId, LocalDate date) {
+        return tallyOf(byPerson, personId).getDailyCount(date);
+    }
+
+    /**
+     * Returns the number of feeding sessions of the given person in the week containing {@code date}.
+     */
+    public int getWeeklyCountForPerson(UUID personId, LocalDate date) {
+        return tallyOf(byPerson, personId).getWeeklyCount(date);
+    }
+
+    /**
+     * Returns the latest date and time, at or before {@code asOf}, at which the given animal was fed, if it was.
+     * Sessions booked after {@code asOf} are not counted as the animal having been fed.
+     */
+    public Optional<LocalDateTime> getLastFeedingTime(UUID animalId, LocalDateTime asOf) {
+        requireAllNonNull(animalId, asOf);
+        NavigableMap<LocalDateTime, Integer> feedingTimes = feedingTimesByAnimal.get(animalId);
+        return feedingTimes == null ? Optional.empty() : Optional.ofNullable(feedingTimes.floorKey(asOf));
+    }
+
+    private void add(FeedingSession session) {
+        update(session, 1);
+    }
+
+    private void remove(FeedingSession session) {
+        update(session, -1);
+    }
+
+    private void update(FeedingSession session, int delta) {
+        LocalDateTime dateTime = session.getDateTime();
+        overall.update(dateTime.toLocalDate(), delta);
+        updateTally(byAnimal, session.getAnimalId(), dateTime.toLocalDate(), delta);
+        updateTally(byPerson, session.getPersonId(), dateTime.toLocalDate(), delta);
+
+        NavigableMap<LocalDateTime, Integer> feedingTimes =
+                feedingTimesByAnimal.computeIfAbsent(session.getAnimalId(), unused -> new TreeMap<>());
+        feedingTimes.merge(dateTime, delta, FeedingStatistics::sumOrNull);
+        if (feedingTimes.isEmpty()) {
+            feedingTimesByAnimal.remove(session.getAnimalId());
+        }
+
+        if (dateTime.toLocalDate().equals(unfedDay)) {
+            updateUnfed(session.getAnimalId());
+        }
+    }
+
+    /**
+     * Records whether the given animal, if it is known, was fed on {@link #unfedDay}.
+     */
+    private void updateUnfed(UUID animalId) {
+        if (unfedDay == null || !animalIds.contains(animalId)) {
+            return;
+        }
+        if (getDailyCountForAnimal(animalId, unfedDay) == 0) {
+            unfedAnimalIds.add(animalId);
+        } else {
+            unfedAnimalIds.remove(animalId);
+        }
+    }
+
+    private static void updateTally(Map<UUID, Tally> tallies, UUID id, LocalDate date, int delta) {
+        Tally tally = tallies.computeIfAbsent(id, unused -> new Tally());
+        tally.update(date, delta);
+        if (tally.isEmpty()) {
+            tallies.remove(id);
+        }
+    }
+
+    /**
+     * Returns the sum of {@code count} and {@code change}, or null so that a map entry is dropped once it is zero.
+     */
+    private static Integer sumOrNull(int count, int change) {
+        int sum = count + change;
+        return sum == 0 ? null : sum;
+    }
+
+    private static Tally tallyOf(Map<UUID, Tally> tallies, UUID id) {
+        requireNonNull(id);
+        return tallies.getOrDefault(id, Tally.EMPTY);
+    }
+
+    /**
+     * Counts of sessions per day and per week. Days and weeks without sessions are not stored.
+     */
+    private static class Tally {
+        private static final Tally EMPTY = new Tally();
+
+        private final Map<LocalDate, Integer> byDay = new HashMap<>();
+        /** Keyed by the first day of each week. */
+        private final Map<LocalDate, Integer> byWeek = new HashMap<>();
+
+        private int getDailyCount(LocalDate date) {
+            return byDay.getOrDefault(requireNonNull(date), 0);
+        }
+
+        private int getWeeklyCount(LocalDate date) {
+            return byWeek.getOrDefault(getWeekStart(requireNonNull(date)), 0);
+        }
+
+        private boolean isEmpty() {
+            return byDay.isEmpty();
+        }
+
+        private void update(LocalDate date, int delta) {
+            byDay.merge(date, delta, FeedingStatistics::sumOrNull);
+            byWeek.merge(getWeekStart(date), delta, FeedingStatistics::sumOrNull);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.feedingsession;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Dense int surrogates of feeding session IDs, numbered from 0 in the order the IDs are first added. A surrogate is
+ * never reassigned within a registry, so every {@link FeedingSessionIdSet} on a registry, such as a person's links in
+ * an undo snapshot and now, agree on them.
+ *
+ * A {@link UniqueFeedingSessionList} numbers its sessions, and the links to them, in one registry. Rather than
+ * reassigning the surrogates of removed sessions, the list starts a new registry once most of them are unused, and
+ * the old one is freed when no set uses it any more.
+ */
+final class SessionIdRegistry {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final UuidIntMap denseIds;
+    private long[] msbs;
+    private long[] lsbs;
+    private int count;
+
+    /**
+     * Creates an empty registry that holds {@code expectedSize} surrogates without growing.
+     */
+    SessionIdRegistry(int expectedSize) {
+        int capacity = Math.max(expectedSize, MIN_CAPACITY);
+        denseIds = new UuidIntMap(capacity);
+        msbs = new long[capacity];
+        lsbs = new long[capacity];
+    }
+
+    /**
+     * Returns the surrogate of {@code id}, assigning the next one if {@code id} has none yet.
+     */
+    int intern(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        long existing = denseIds.get(msb, lsb);
+        if (existing != UuidIntMap.ABSENT) {
+            return (int) existing;
+        }
+        if (count == msbs.length) {
+            msbs = Arrays.copyOf(msbs, count * 2);
+            lsbs = Arrays.copyOf(lsbs, count * 2);
+        }
+        msbs[count] = msb;
+        lsbs[count] = lsb;
+        denseIds.put(msb, lsb, count);
+        return count++;
+    }
+
+    /**
+     * Returns the surrogate of {@code id}, or -1 if it has none, in which case no set of surrogates can contain it.
+     */
+    int find(UUID id) {
+        long existing = denseIds.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        return existing == UuidIntMap.ABSENT ? -1 : (int) existing;
+    }
+
+    /**
+     * Returns the ID whose surrogate is {@code denseId}.
+     */
+    UUID toUuid(int denseId) {
+        return new UUID(msbs[denseId], lsbs[denseId]);
+    }
+
+    /**
+     * Returns the {@link UUID#hashCode()} of the ID whose surrogate is {@code denseId}, without creating the ID.
+     */
+    int uuidHashCode(int denseId) {
+        return Long.hashCode(msbs[denseId] ^ lsbs[denseId]);
+    }
+
+    /**
+     * Returns the number of surrogates assigned so far.
+     */
+    int size() {
+        return count;
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.model.feedingsession;
+
+import java.time.LocalDateTime;
+
+/**
+ * An interval tree of feeding sessions, each spanning from its date and time to its
+ * {@link FeedingSession#getEndTime()}. Sessions are kept in a treap ordered by
+ * {@link FeedingSession#CHRONOLOGICAL_ORDER}, and every node also records the latest end time in its subtree, so that
+ * a session overlapping a given time range can be found in logarithmic expected time, as can sessions be added and
+ * removed.
+ */
+class SessionIntervalTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code session} to the tree. The tree must not already contain it.
+     */
+    void add(FeedingSession session) {
+        root = insert(root, new Node(session));
+        size++;
+    }
+
+    /**
+     * Removes {@code session} from the tree, if the tree contains it.
+     */
+    void remove(FeedingSession session) {
+        root = delete(root, session);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the earliest session in the tree that overlaps the time from {@code start} to {@code end}, excluding
+     * {@code end}, or null if there is none.
+     */
+    FeedingSession findFirstOverlap(LocalDateTime start, LocalDateTime end) {
+        Node node = findFirstOverlap(root, start, end);
+        return node == null ? null : node.session;
+    }
+
+    private static Node findFirstOverlap(Node node, LocalDateTime start, LocalDateTime end) {
+        if (node == null || !node.maxEndTime.isAfter(start)) {
+            return null;
+        }
+        Node inLeft = findFirstOverlap(node.left, start, end);
+        if (inLeft != null) {
+            return inLeft;
+        }
+        // Neither this session nor any to its right can overlap if this one starts at or after end. This also stops
+        // the search when the left subtree reaches past start without overlapping, since the session that does so
+        // must start at or after end, so the search never backtracks more than once per level.
+        if (!node.session.getDateTime().isBefore(end)) {
+            return null;
+        }
+        if (node.endTime.isAfter(start)) {
+            return node;
+        }
+        return findFirstOverlap(node.right, start, end);
+    }
+
+    private static Node insert(Node node, Node toAdd) {
+        if (node == null) {
+            return toAdd;
+        }
+        if (FeedingSession.CHRONOLOGICAL_ORDER.compare(toAdd.session, node.session) < 0) {
+            node.left = insert(node.left, toAdd);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, toAdd);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private Node delete(Node node, FeedingSession session) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = FeedingSession.CHRONOLOGICAL_ORDER.compare(session, node.session);
+        if (comparison < 0) {
+            node.left = delete(node.left, session);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, session);
+        } else {
+            size--;
+            return merge(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Returns the treap of the nodes of {@code left} and {@code right}, where every node of {@code left} is ordered
+     * before every node of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static class Node {
+        private final FeedingSession session;
+        private final LocalDateTime endTime;
+        /** Derived from the session ID, which is random, so that the tree stays balanced in expectation. */
+        private final int priority;
+        private LocalDateTime maxEndTime;
+        private Node left;
+        private Node right;
+
+        private Node(FeedingSession session) {
+            this.session = session;
+            this.endTime = session.getEndTime();
+            this.priority = Long.hashCode(session.getId().getLeastSignificantBits() * 0x9E3779B97F4A7C15L);
+            this.maxEndTime = endTime;
+        }
+
+        /**
+         * Recomputes the latest end time in this subtree from those of its children.
+         */
+        private void update() {
+            maxEndTime = endTime;
+            if (left != null && left.maxEndTime.isAfter(maxEndTime)) {
+                maxEndTime = left.maxEndTime;
+            }
+            if (right != null && right.maxEndTime.isAfter(maxEndTime)) {
+                maxEndTime = right.maxEndTime;
+            }
+        }
+    }
+}
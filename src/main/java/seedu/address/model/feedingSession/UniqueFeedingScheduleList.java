@@ -0,0 +1,175 @@
+package seedu.address.model.feedingsession;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.model.feedingsession.exceptions.DuplicateFeedingScheduleException;
+import seedu.address.model.feedingsession.exceptions.FeedingScheduleNotFoundException;
+
+/**
+ * A list of feeding schedules that enforces uniqueness between its elements and does not allow nulls.
+ * A feeding schedule is considered unique by comparing using
+ * {@code FeedingSchedule#isSameFeedingSchedule(FeedingSchedule)}, and is also indexed by ID.
+ *
+ * Supports a minimal set of list operations, and the merged feedings that all schedules plan from a given time,
+ * which are generated lazily rather than stored.
+ *
+ * @see FeedingSchedule#isSameFeedingSchedule(FeedingSchedule)
+ */
+public class UniqueFeedingScheduleList implements Iterable<FeedingSchedule> {
+
+    private final ObservableList<FeedingSchedule> internalList = FXCollections.observableArrayList();
+    private final ObservableList<FeedingSchedule> internalUnmodifiableList =
+            FXCollections.unmodifiableObservableList(internalList);
+    private final Map<UUID, FeedingSchedule> schedulesById = new HashMap<>();
+
+    /**
+     * Returns true if the list contains a feeding schedule with the same identity as the given argument.
+     */
+    public boolean contains(FeedingSchedule toCheck) {
+        requireNonNull(toCheck);
+        return schedulesById.containsKey(toCheck.getId());
+    }
+
+    /**
+     * Returns the feeding schedule with the given ID, or null if there is none.
+     */
+    public FeedingSchedule getById(UUID id) {
+        requireNonNull(id);
+        return schedulesById.get(id);
+    }
+
+    /**
+     * Returns the feedings that all schedules in this list plan at or after {@code from}, earliest first, as
+     * feeding sessions. The feedings are generated one at a time as the iterator advances, so the iterator is
+     * effectively infinite unless the list is empty.
+     */
+    public Iterator<FeedingSession> getOccurrencesFrom(LocalDateTime from) {
+        requireNonNull(from);
+        List<Iterator<FeedingSession>> occurrences = new ArrayList<>(internalList.size());
+        for (FeedingSchedule schedule : internalList) {
+            occurrences.add(schedule.getOccurrencesFrom(from));
+        }
+        return CollectionUtil.mergeSorted(occurrences, FeedingSession.CHRONOLOGICAL_ORDER);
+    }
+
+    /**
+     * Adds a feeding schedule to the list.
+     * The feeding schedule must not already exist in the list.
+     */
+    public void add(FeedingSchedule toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Inserts a feeding schedule into the list at {@code index}, shifting later schedules back by one.
+     * The feeding schedule must not already exist in the list.
+     */
+    public void add(int index, FeedingSchedule toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateFeedingScheduleException();
+        }
+        internalList.add(index, toAdd);
+        schedulesById.put(toAdd.getId(), toAdd);
+    }
+
+    /**
+     * Replaces the feeding schedule {@code target} in the list with {@code editedSchedule}.
+     * {@code target} must exist in the list.
+     * The identity of {@code editedSchedule} must not be the same as another existing feeding schedule in the list.
+     */
+    public void setFeedingSchedule(FeedingSchedule target, FeedingSchedule editedSchedule) {
+        requireAllNonNull(target, editedSchedule);
+
+        int index = internalList.indexOf(target);
+        if (index == -1) {
+            throw new FeedingScheduleNotFoundException();
+        }
+
+        if (!target.isSameFeedingSchedule(editedSchedule) && contains(editedSchedule)) {
+            throw new DuplicateFeedingScheduleException();
+        }
+
+        schedulesById.remove(target.getId());
+        schedulesById.put(editedSchedule.getId(), editedSchedule);
+        internalList.set(index, editedSchedule);
+    }
+
+    /**
+     * Removes the equivalent feeding schedule from the list.
+     * The feeding schedule must exist in the list.
+     */
+    public void remove(FeedingSchedule toRemove) {
+        requireNonNull(toRemove);
+        if (!internalList.remove(toRemove)) {
+            throw new FeedingScheduleNotFoundException();
+        }
+        schedulesById.remove(toRemove.getId());
+    }
+
+    /**
+     * Replaces the contents of this list with {@code feedingSchedules}.
+     * {@code feedingSchedules} must not contain duplicate feeding schedules.
+     */
+    public void setFeedingSchedules(List<FeedingSchedule> feedingSchedules) {
+        requireAllNonNull(feedingSchedules);
+        Map<UUID, FeedingSchedule> newSchedulesById = new HashMap<>();
+        for (FeedingSchedule schedule : feedingSchedules) {
+            if (newSchedulesById.put(schedule.getId(), schedule) != null) {
+                throw new DuplicateFeedingScheduleException();
+            }
+        }
+
+        schedulesById.clear();
+        schedulesById.putAll(newSchedulesById);
+        internalList.setAll(feedingSchedules);
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<FeedingSchedule> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    @Override
+    public Iterator<FeedingSchedule> iterator() {
+        return internalList.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof UniqueFeedingScheduleList)) {
+            return false;
+        }
+
+        UniqueFeedingScheduleList otherList = (UniqueFeedingScheduleList) other;
+        return internalList.equals(otherList.internalList);
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return internalList.toString();
+    }
+}
@@ -4,9 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,18 +33,40 @@ import seedu.address.model.feedingsession.exceptions.FeedingSessionNotFoundExcep
  * {@code FeedingSession#isSameFeedingSession(FeedingSession)}.
  * As such, adding and updating of feeding sessions uses FeedingSession#isSameFeedingSession(FeedingSession)
  * for equality to ensure that the feeding session being added or updated is unique in terms of identity
- * in the UniqueFeedingSessionList. However, the removal of a feeding session uses FeedingSession#equals(Object)
- * to ensure that the feeding session with exactly the same fields will be removed.
+ * in the UniqueFeedingSessionList. Removal looks the feeding session up by its ID as well, so the stored session
+ * with that ID is removed even if the given one has since been edited.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Since the identity of a feeding session is its ID, sessions are
+ * also indexed by ID, which makes identity checks and lookups by {@code UUID} constant-time. Sessions are
+ * further indexed in chronological order, both all together and by animal and by person, so that the sessions in a
+ * time range, or of a single animal or person, can be retrieved without scanning the whole list, and by their
+ * (animal, person, datetime) details, so that a session can be found from the details a user types in without
+ * scanning the whole list. Each person's sessions are also kept in an interval tree, so that a session that would
+ * double-book a person can be found without scanning all of their sessions. Indexes are updated before the list
+ * itself, so that listeners of the list always see them up to date.
+ *
+ * The list also gives each session ID a dense int surrogate in a {@link SessionIdRegistry}, which the feeding session
+ * links of persons and animals share once renumbered with {@link #renumber(FeedingSessionIdSet)}.
  *
  * @see FeedingSession#isSameFeedingSession(FeedingSession)
  */
 public class UniqueFeedingSessionList implements Iterable<FeedingSession> {
 
+    /** How many more surrogates than twice the number of sessions the registry may hold before it is replaced. */
+    private static final int UNUSED_SURROGATES_ALLOWED = 64;
+
     private final ObservableList<FeedingSession> internalList = FXCollections.observableArrayList();
     private final ObservableList<FeedingSession> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<UUID, FeedingSession> sessionsById = new HashMap<>();
+    private final NavigableSet<FeedingSession> sessionsByTime = newChronologicalSet();
+    private final Map<UUID, NavigableSet<FeedingSession>> sessionsByAnimal = new HashMap<>();
+    private final Map<UUID, NavigableSet<FeedingSession>> sessionsByPerson = new HashMap<>();
+    private final Map<UUID, SessionIntervalTree> intervalsByPerson = new HashMap<>();
+    private final Map<DetailsKey, FeedingSession> sessionsByDetails = new HashMap<>();
+    /** Details shared by more than one session at some point; only these need a fallback lookup on removal. */
+    private final Set<DetailsKey> sharedDetails = new HashSet<>();
+    private SessionIdRegistry registry = new SessionIdRegistry(0);
 
     /**
      * Returns true if the list contains an equivalent feeding session as the given argument.
@@ -40,7 +76,7 @@ public class UniqueFeedingSessionList implements Iterable<FeedingSession> {
      */
     public boolean contains(FeedingSession toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameFeedingSession);
+        return sessionsById.containsKey(toCheck.getId());
     }
 
     /**
@@ -51,7 +87,7 @@ public class UniqueFeedingSessionList implements Iterable<FeedingSession> {
      */
     public boolean contains(UUID id) {
         requireNonNull(id);
-        return internalList.stream().anyMatch(session -> session.getId().equals(id));
+        return sessionsById.containsKey(id);
     }
 
     /**
@@ -63,11 +99,20 @@ public class UniqueFeedingSessionList implements Iterable<FeedingSession> {
      * @return True if a feeding session with the same details exists in the list.
      */
     public boolean containsByDetails(UUID animalId, UUID personId, LocalDateTime dateTime) {
+        return getByDetails(animalId, personId, dateTime) != null;
+    }
+
+    /**
+     * Retrieves a feeding session with the given animal, person, and datetime.
+     *
+     * @param animalId The UUID of the animal.
+     * @param personId The UUID of the person.
+     * @param dateTime The date and time of the feeding.
+     * @return A feeding session with the given details, or null if not found.
+     */
+    public FeedingSession getByDetails(UUID animalId, UUID personId, LocalDateTime dateTime) {
         requireAllNonNull(animalId, personId, dateTime);
-        return internalList.stream().anyMatch(session ->
-                session.getAnimalId().equals(animalId)
-                        && session.getPersonId().equals(personId)
-                        && session.getDateTime().equals(dateTime));
+        return sessionsByDetails.get(new DetailsKey(animalId, personId, dateTime));
     }
 
     /**
@@ -78,10 +123,129 @@ public class UniqueFeedingSessionList implements Iterable<FeedingSession> {
      */
     public FeedingSession getById(UUID id) {
         requireNonNull(id);
-        return internalList.stream()
-                .filter(session -> session.getId().equals(id))
-                .findFirst()
-                .orElse(null);
+        return sessionsById.get(id);
+    }
+
+    /**
+     * Returns the feeding sessions involving the given animal, in chronological order.
+     *
+     * @param animalId The UUID of the animal.
+     * @return An unmodifiable view of the animal's feeding sessions, which is empty if there are none.
+     */
+    public NavigableSet<FeedingSession> getSessionsForAnimal(UUID animalId) {
+        requireNonNull(animalId);
+        return unmodifiableOrEmpty(sessionsByAnimal.get(animalId));
+    }
+
+    /**
+     * Returns the feeding sessions involving the given person, in chronological order.
+     *
+     * @param personId The UUID of the person.
+     * @return An unmodifiable view of the person's feeding sessions, which is empty if there are none.
+     */
+    public NavigableSet<FeedingSession> getSessionsForPerson(UUID personId) {
+        requireNonNull(personId);
+        return unmodifiableOrEmpty(sessionsByPerson.get(personId));
+    }
+
+    /**
+     * Returns the earliest feeding session of the given person that overlaps the time from {@code start} to
+     * {@code end}, excluding {@code end}, or null if there is none. This takes time logarithmic in the number of
+     * sessions of the person.
+     *
+     * @param personId The UUID of the person.
+     * @param start The start of the time range.
+     * @param end The end of the time range, which must be after {@code start}.
+     * @return The earliest overlapping session, or null if there is none.
+     */
+    public FeedingSession getOverlappingSessionForPerson(UUID personId, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(personId, start, end);
+        SessionIntervalTree intervals = intervalsByPerson.get(personId);
+        return intervals == null ? null : intervals.findFirstOverlap(start, end);
+    }
+
+    /**
+     * Returns every pair of feeding sessions of the same person that take place at overlapping times, in a single
+     * sweep over the sessions in chronological order. Each pair is the earlier session and the later one, and pairs
+     * are ordered by their later session. This takes O(n log n + k) time for n sessions and k pairs.
+     *
+     * @return The overlapping pairs of sessions.
+     */
+    public List<Map.Entry<FeedingSession, FeedingSession>> getOverlappingSessions() {
+        List<Map.Entry<FeedingSession, FeedingSession>> overlaps = new ArrayList<>();
+        // The sessions of each person that have started but not yet ended, in chronological order, and the same
+        // sessions soonest ending first, so that the ended ones can be dropped without scanning the rest
+        Map<UUID, NavigableSet<FeedingSession>> ongoingByPerson = new HashMap<>();
+        Map<UUID, PriorityQueue<FeedingSession>> endingByPerson = new HashMap<>();
+        for (FeedingSession session : sessionsByTime) {
+            NavigableSet<FeedingSession> ongoing =
+                    ongoingByPerson.computeIfAbsent(session.getPersonId(), unused -> newChronologicalSet());
+            PriorityQueue<FeedingSession> ending = endingByPerson.computeIfAbsent(session.getPersonId(), unused ->
+                    new PriorityQueue<>(Comparator.comparing(FeedingSession::getEndTime)));
+            while (!ending.isEmpty() && !ending.peek().getEndTime().isAfter(session.getDateTime())) {
+                ongoing.remove(ending.poll());
+            }
+            for (FeedingSession other : ongoing) {
+                overlaps.add(Map.entry(other, session));
+            }
+            ongoing.add(session);
+            ending.add(session);
+        }
+        return overlaps;
+    }
+
+    /**
+     * Returns the feeding sessions from {@code from} to {@code to}, both inclusive, in chronological order.
+     * This takes time logarithmic in the size of the list, plus linear in the number of sessions iterated over.
+     *
+     * @param from The earliest date and time to include.
+     * @param to The latest date and time to include, which must not be before {@code from}.
+     * @return An unmodifiable view of the sessions in the given range.
+     */
+    public NavigableSet<FeedingSession> getSessionsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return Collections.unmodifiableNavigableSet(FeedingSession.between(sessionsByTime, from, to));
+    }
+
+    /**
+     * Returns the feeding sessions at or after {@code from} in chronological order, such as the upcoming sessions
+     * when given the current time. The next session is found in time logarithmic in the size of the list.
+     *
+     * @param from The earliest date and time to include.
+     * @return An unmodifiable view of the sessions from the given time onwards.
+     */
+    public NavigableSet<FeedingSession> getSessionsFrom(LocalDateTime from) {
+        requireNonNull(from);
+        return Collections.unmodifiableNavigableSet(FeedingSession.startingFrom(sessionsByTime, from));
+    }
+
+    /**
+     * Returns a set of the IDs in {@code links} with the surrogates of this list, which is {@code links} itself if it
+     * already has them.
+     *
+     * @param links The feeding session links of a person or an animal.
+     * @return The links with the surrogates of this list.
+     */
+    public FeedingSessionIdSet renumber(FeedingSessionIdSet links) {
+        requireNonNull(links);
+        return FeedingSessionIdSet.of(links, registry);
+    }
+
+    /**
+     * Starts a new registry of surrogates for the sessions in the list if most of the surrogates in the current one
+     * belong to sessions that have been removed. Links must then be renumbered to share the new registry.
+     *
+     * @return True if a new registry was started.
+     */
+    public boolean renumberIfSparse() {
+        if (registry.size() <= 2 * internalList.size() + UNUSED_SURROGATES_ALLOWED) {
+            return false;
+        }
+        registry = new SessionIdRegistry(internalList.size());
+        for (FeedingSession session : internalList) {
+            registry.intern(session.getId());
+        }
+        return true;
     }
 
     /**
@@ -92,11 +256,24 @@ public class UniqueFeedingSessionList implements Iterable<FeedingSession> {
      * @throws DuplicateFeedingSessionException If an equivalent feeding session already exists in the list.
      */
     public void add(FeedingSession toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Inserts a feeding session into the list at {@code index}, shifting later sessions back by one.
+     * The feeding session must not already exist in the list.
+     *
+     * @param index The position to insert the feeding session at.
+     * @param toAdd The feeding session to add.
+     * @throws DuplicateFeedingSessionException If an equivalent feeding session already exists in the list.
+     */
+    public void add(int index, FeedingSession toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateFeedingSessionException();
         }
-        internalList.add(toAdd);
+        index(toAdd);
+        internalList.add(index, toAdd);
     }
 
     /**
@@ -123,6 +300,8 @@ public class UniqueFeedingSessionList implements Iterable<FeedingSession> {
             throw new DuplicateFeedingSessionException();
         }
 
+        unindex(internalList.get(index));
+        index(editedSession);
         internalList.set(index, editedSession);
     }
 
@@ -135,9 +314,12 @@ public class UniqueFeedingSessionList implements Iterable<FeedingSession> {
      */
     public void remove(FeedingSession toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        FeedingSession stored = sessionsById.get(toRemove.getId());
+        if (stored == null) {
             throw new FeedingSessionNotFoundException();
         }
+        unindex(stored);
+        internalList.remove(stored);
     }
 
     /**
@@ -152,9 +334,67 @@ public class UniqueFeedingSessionList implements Iterable<FeedingSession> {
         if (session == null) {
             throw new FeedingSessionNotFoundException();
         }
+        unindex(session);
         internalList.remove(session);
     }
 
+    /**
+     * Removes all feeding sessions that satisfy {@code predicate} in a single pass over the list, as a single
+     * change to the list.
+     *
+     * @param predicate The condition for a feeding session to be removed.
+     * @return The removed feeding sessions keyed by their position in the list before the removal.
+     */
+    public SortedMap<Integer, FeedingSession> removeIf(Predicate<? super FeedingSession> predicate) {
+        requireNonNull(predicate);
+        SortedMap<Integer, FeedingSession> removed = new TreeMap<>();
+        List<FeedingSession> retained = new ArrayList<>(internalList.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            FeedingSession session = internalList.get(i);
+            if (predicate.test(session)) {
+                removed.put(i, session);
+            } else {
+                retained.add(session);
+            }
+        }
+        if (removed.isEmpty()) {
+            return removed;
+        }
+
+        removed.values().forEach(this::unindex);
+        internalList.setAll(retained);
+        return removed;
+    }
+
+    /**
+     * Inserts feeding sessions at the given positions in a single pass over the list, as a single change to the
+     * list. This reverses {@link #removeIf(Predicate)} when given the sessions it returned.
+     *
+     * @param sessionsByIndex The feeding sessions to insert, keyed by their position in the list after insertion.
+     * @throws DuplicateFeedingSessionException If any of the feeding sessions already exists in the list.
+     */
+    public void insertAll(SortedMap<Integer, FeedingSession> sessionsByIndex) {
+        requireNonNull(sessionsByIndex);
+        for (FeedingSession session : sessionsByIndex.values()) {
+            if (contains(session)) {
+                throw new DuplicateFeedingSessionException();
+            }
+        }
+
+        List<FeedingSession> merged = new ArrayList<>(internalList.size() + sessionsByIndex.size());
+        Iterator<FeedingSession> existing = internalList.iterator();
+        for (Map.Entry<Integer, FeedingSession> entry : sessionsByIndex.entrySet()) {
+            while (merged.size() < entry.getKey()) {
+                merged.add(existing.next());
+            }
+            merged.add(entry.getValue());
+        }
+        existing.forEachRemaining(merged::add);
+
+        sessionsByIndex.values().forEach(this::index);
+        internalList.setAll(merged);
+    }
+
     /**
      * Replaces the contents of this list with the contents of {@code replacement}.
      *
@@ -162,6 +402,7 @@ public class UniqueFeedingSessionList implements Iterable<FeedingSession> {
      */
     public void setFeedingSessions(UniqueFeedingSessionList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -178,9 +419,88 @@ public class UniqueFeedingSessionList implements Iterable<FeedingSession> {
             throw new DuplicateFeedingSessionException();
         }
 
+        rebuildIndex(feedingSessions);
         internalList.setAll(feedingSessions);
     }
 
+    /**
+     * Adds {@code session} to all indexes.
+     */
+    private void index(FeedingSession session) {
+        sessionsById.put(session.getId(), session);
+        registry.intern(session.getId());
+        sessionsByTime.add(session);
+        sessionsByAnimal.computeIfAbsent(session.getAnimalId(), unused -> newChronologicalSet()).add(session);
+        sessionsByPerson.computeIfAbsent(session.getPersonId(), unused -> newChronologicalSet()).add(session);
+        intervalsByPerson.computeIfAbsent(session.getPersonId(), unused -> new SessionIntervalTree()).add(session);
+        DetailsKey key = DetailsKey.of(session);
+        if (sessionsByDetails.putIfAbsent(key, session) != null) {
+            sharedDetails.add(key);
+        }
+    }
+
+    /**
+     * Removes {@code session} from all indexes.
+     */
+    private void unindex(FeedingSession session) {
+        sessionsById.remove(session.getId());
+        sessionsByTime.remove(session);
+        removeFromGroup(sessionsByAnimal, session.getAnimalId(), session);
+        removeFromGroup(sessionsByPerson, session.getPersonId(), session);
+        SessionIntervalTree intervals = intervalsByPerson.get(session.getPersonId());
+        if (intervals != null) {
+            intervals.remove(session);
+            if (intervals.isEmpty()) {
+                intervalsByPerson.remove(session.getPersonId());
+            }
+        }
+
+        DetailsKey key = DetailsKey.of(session);
+        if (sessionsByDetails.remove(key, session) && sharedDetails.contains(key)) {
+            // Sessions loaded from storage may share details, so fall back to any remaining one
+            getSessionsForAnimal(session.getAnimalId()).stream()
+                    .filter(other -> DetailsKey.of(other).equals(key))
+                    .findFirst()
+                    .ifPresent(other -> sessionsByDetails.put(key, other));
+        }
+    }
+
+    /**
+     * Rebuilds all indexes from {@code feedingSessions}, the new contents of the list.
+     */
+    private void rebuildIndex(List<FeedingSession> feedingSessions) {
+        sessionsById.clear();
+        sessionsByTime.clear();
+        sessionsByAnimal.clear();
+        sessionsByPerson.clear();
+        intervalsByPerson.clear();
+        sessionsByDetails.clear();
+        sharedDetails.clear();
+        for (FeedingSession session : feedingSessions) {
+            index(session);
+        }
+    }
+
+    private static NavigableSet<FeedingSession> newChronologicalSet() {
+        return new TreeSet<>(FeedingSession.CHRONOLOGICAL_ORDER);
+    }
+
+    private static void removeFromGroup(Map<UUID, NavigableSet<FeedingSession>> groups, UUID key,
+                                        FeedingSession session) {
+        NavigableSet<FeedingSession> group = groups.get(key);
+        if (group == null) {
+            return;
+        }
+        group.remove(session);
+        if (group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    private static NavigableSet<FeedingSession> unmodifiableOrEmpty(NavigableSet<FeedingSession> sessions) {
+        return sessions == null ? Collections.emptyNavigableSet() : Collections.unmodifiableNavigableSet(sessions);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      *
@@ -248,13 +568,52 @@ public class UniqueFeedingSessionList implements Iterable<FeedingSession> {
      * @return True if all feeding sessions are unique based on their identity.
      */
     private boolean feedingSessionsAreUnique(List<FeedingSession> feedingSessions) {
-        for (int i = 0; i < feedingSessions.size() - 1; i++) {
-            for (int j = i + 1; j < feedingSessions.size(); j++) {
-                if (feedingSessions.get(i).isSameFeedingSession(feedingSessions.get(j))) {
-                    return false;
-                }
+        Set<UUID> seenIds = new HashSet<>();
+        for (FeedingSession session : feedingSessions) {
+            if (!seenIds.add(session.getId())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Represents the (animal, person, datetime) details of a feeding session.
+     */
+    private static class DetailsKey {
+        private final UUID animalId;
+        private final UUID personId;
+        private final LocalDateTime dateTime;
+
+        DetailsKey(UUID animalId, UUID personId, LocalDateTime dateTime) {
+            this.animalId = animalId;
+            this.personId = personId;
+            this.dateTime = dateTime;
+        }
+
+        static DetailsKey of(FeedingSession session) {
+            return new DetailsKey(session.getAnimalId(), session.getPersonId(), session.getDateTime());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof DetailsKey)) {
+                return false;
+            }
+
+            DetailsKey otherKey = (DetailsKey) other;
+            return animalId.equals(otherKey.animalId)
+                    && personId.equals(otherKey.personId)
+                    && dateTime.equals(otherKey.dateTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(animalId, personId, dateTime);
+        }
+    }
 }
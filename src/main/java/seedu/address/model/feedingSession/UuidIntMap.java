@@ -0,0 +1,92 @@
+package seedu.address.model.feedingsession;
+
+/**
+ * A hash table from the two halves of a {@code UUID} to an int, kept in primitive arrays with linear probing so that
+ * neither the keys nor the values are boxed. Keys are only ever added, as {@link SessionIdRegistry} needs.
+ */
+class UuidIntMap {
+    /** Returned by {@link #get(long, long)} for an absent key; no int value is equal to it. */
+    static final long ABSENT = Long.MIN_VALUE;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] msbs;
+    private long[] lsbs;
+    private int[] values;
+    private boolean[] occupied;
+    private int size;
+
+    /**
+     * Creates an empty map that holds {@code expectedSize} keys without growing.
+     */
+    UuidIntMap(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity *= 2;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Returns the value of the given key, or {@link #ABSENT} if the map does not contain the key.
+     */
+    long get(long msb, long lsb) {
+        int slot = find(msb, lsb);
+        return occupied[slot] ? values[slot] : ABSENT;
+    }
+
+    /**
+     * Maps the given key to {@code value}, replacing any value it had.
+     */
+    void put(long msb, long lsb, int value) {
+        if ((size + 1) * 2 > occupied.length) {
+            resize(occupied.length * 2);
+        }
+        int slot = find(msb, lsb);
+        if (!occupied[slot]) {
+            occupied[slot] = true;
+            msbs[slot] = msb;
+            lsbs[slot] = lsb;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Returns the slot holding the given key, or the empty slot where it would be put.
+     */
+    private int find(long msb, long lsb) {
+        int mask = occupied.length - 1;
+        int slot = home(msb, lsb, mask);
+        while (occupied[slot] && (msbs[slot] != msb || lsbs[slot] != lsb)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        msbs = new long[capacity];
+        lsbs = new long[capacity];
+        values = new int[capacity];
+        occupied = new boolean[capacity];
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldMsbs = msbs;
+        long[] oldLsbs = lsbs;
+        int[] oldValues = values;
+        boolean[] oldOccupied = occupied;
+        allocate(capacity);
+        for (int slot = 0; slot < oldOccupied.length; slot++) {
+            if (oldOccupied[slot]) {
+                put(oldMsbs[slot], oldLsbs[slot], oldValues[slot]);
+            }
+        }
+    }
+
+    private static int home(long msb, long lsb, int mask) {
+        long hash = (msb ^ Long.rotateLeft(lsb, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+}
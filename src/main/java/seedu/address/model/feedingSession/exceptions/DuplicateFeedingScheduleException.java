@@ -0,0 +1,11 @@
+package seedu.address.model.feedingsession.exceptions;
+
+/**
+ * Signals that the operation will result in duplicate FeedingSchedules.
+ * FeedingSchedules are considered duplicates if they have the same identity.
+ */
+public class DuplicateFeedingScheduleException extends RuntimeException {
+    public DuplicateFeedingScheduleException() {
+        super("Operation would result in duplicate feeding schedules");
+    }
+}
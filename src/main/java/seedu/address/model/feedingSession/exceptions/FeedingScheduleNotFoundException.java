@@ -0,0 +1,10 @@
+package seedu.address.model.feedingsession.exceptions;
+
+/**
+ * Signals that the operation is unable to find the specified feeding schedule.
+ */
+public class FeedingScheduleNotFoundException extends RuntimeException {
+    public FeedingScheduleNotFoundException() {
+        super("Feeding schedule not found");
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -18,12 +22,14 @@ public class Email {
      * RFC5322 email regex pattern obtained from:
      * https://emailregex.com/
      */
-    private static final String VALIDATION_REGEX = "(?:[a-z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\.[a-z0-9!#$%&'*+/=?^_`{|}~-]+)"
+    public static final String VALIDATION_REGEX = "(?:[a-z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\.[a-z0-9!#$%&'*+/=?^_`{|}~-]+)"
             + "*|\"(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21\\x23-\\x5b\\x5d-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\"
             + "x7f])*\")@(?:(?:[a-z0-9](?:[a-z0-9-]*[a-z0-9])?\\.)+[a-z0-9](?:[a-z0-9-]*[a-z0-9])?|\\[(?:(?:25[0-5]|2["
             + "0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?|[a-z0-9-]*[a-z0-9]:(?:[\\x01-"
             + "\\x08\\x0b\\x0c\\x0e-\\x1f\\x21-\\x5a\\x53-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])+)\\])";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -40,9 +46,19 @@ public class Email {
 
     /**
      * Returns if a given string is a valid email.
+     * Addresses in the common dot-atom form are checked by a scanner; only quoted local parts and IP address
+     * literals go through the full regex.
      */
     public static boolean isValidEmail(String test) {
-        return test.length() <= 998 && test.toLowerCase().matches(VALIDATION_REGEX);
+        if (test.length() > 998) {
+            return false;
+        }
+        String lowerCaseTest = test.toLowerCase();
+        int at = lowerCaseTest.indexOf('@');
+        if (lowerCaseTest.startsWith("\"") || (at >= 0 && lowerCaseTest.startsWith("[", at + 1))) {
+            return VALIDATION_PATTERN.matcher(lowerCaseTest).matches();
+        }
+        return ValidationUtil.isDotAtomEmail(lowerCaseTest);
     }
 
     @Override
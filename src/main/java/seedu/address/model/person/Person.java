@@ -2,11 +2,7 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.format.DateTimeFormatter;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -14,8 +10,11 @@ import java.util.UUID;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Contact;
 import seedu.address.model.Name;
-import seedu.address.model.feedingsession.FeedingSession;
+import seedu.address.model.feedingsession.FeedingSessionIdSet;
+import seedu.address.model.feedingsession.UniqueFeedingSessionList;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -28,7 +27,7 @@ public class Person extends Contact {
     private final Phone phone;
     private final Email email;
 
-    private final Set<UUID> feedingSessionIds = new HashSet<>();
+    private final FeedingSessionIdSet feedingSessionIds;
 
     /**
      * Every field must be present and not null.
@@ -41,7 +40,7 @@ public class Person extends Contact {
         this.id = UUID.randomUUID();
         this.phone = phone;
         this.email = email;
-        this.feedingSessionIds.addAll(feedingSessionIds);
+        this.feedingSessionIds = FeedingSessionIdSet.of(feedingSessionIds);
     }
 
     /**
@@ -54,7 +53,7 @@ public class Person extends Contact {
         this.id = id;
         this.phone = phone;
         this.email = email;
-        this.feedingSessionIds.addAll(feedingSessionIds);
+        this.feedingSessionIds = FeedingSessionIdSet.of(feedingSessionIds);
     }
 
     public UUID getId() {
@@ -81,49 +80,37 @@ public class Person extends Contact {
      * Returns a new Person with the given feeding session ID added.
      */
     public Person addFeedingSessionId(UUID sessionId) {
-        Set<UUID> updatedSessions = new HashSet<>(feedingSessionIds);
-        updatedSessions.add(sessionId);
-        return new Person(id, getName(), phone, email, getTags(), updatedSessions);
+        return new Person(id, getName(), phone, email, getTags(), feedingSessionIds.with(sessionId));
     }
 
     /**
      * Returns a new Person with the given feeding session ID removed.
      */
     public Person removeFeedingSessionId(UUID sessionId) {
-        Set<UUID> updatedSessions = new HashSet<>(feedingSessionIds);
-        updatedSessions.remove(sessionId);
-        return new Person(id, getName(), phone, email, getTags(), updatedSessions);
+        return new Person(id, getName(), phone, email, getTags(), feedingSessionIds.without(sessionId));
     }
 
     /**
-     * Returns the earliest feeding session this person is involved in from the given list.
-     * @param allSessions List of all feeding sessions to search from
-     * @return The earliest feeding session, or null if none found
+     * Returns this person with its feeding session links renumbered by {@code feedingSessions}, which is this person
+     * itself if they already are.
      */
-    public FeedingSession getEarliestFeedingSession(List<FeedingSession> allSessions) {
-        if (allSessions == null || allSessions.isEmpty()) {
-            return null;
+    public Person withFeedingSessionIdsIn(UniqueFeedingSessionList feedingSessions) {
+        FeedingSessionIdSet renumbered = feedingSessions.renumber(feedingSessionIds);
+        if (renumbered == feedingSessionIds) {
+            return this;
         }
-
-        return allSessions.stream()
-                .filter(session -> session.involvesPerson(this.id))
-                .min(Comparator.comparing(FeedingSession::getDateTime))
-                .orElse(null);
+        return new Person(id, getName(), phone, email, tags, renumbered);
     }
 
     /**
-     * Returns a formatted string of the earliest feeding session, or empty string if none.
-     * @param allSessions List of all feeding sessions to search from
-     * @return Formatted string showing next feeding time, or empty string
+     * Returns this person with its tags interned in {@code dictionary}, which is this person itself if they already
+     * are.
      */
-    public String getEarliestFeedingSessionDisplay(List<FeedingSession> allSessions) {
-        FeedingSession earliest = getEarliestFeedingSession(allSessions);
-        if (earliest == null) {
-            return "";
+    Person withTagsIn(TagDictionary dictionary) {
+        if (tags.isIn(dictionary)) {
+            return this;
         }
-
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM yyyy, HH:mm");
-        return String.format("Next feeding: %s", earliest.getDateTime().format(formatter));
+        return new Person(id, getName(), phone, email, TagSet.of(tags, dictionary), feedingSessionIds);
     }
 
     /**
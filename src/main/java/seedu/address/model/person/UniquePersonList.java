@@ -3,16 +3,25 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.function.Function;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ContactSearchIndex;
+import seedu.address.model.FuzzyNameIndex;
+import seedu.address.model.Name;
 import seedu.address.model.person.exceptions.DuplicateEmailException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.DuplicatePhoneException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -21,51 +30,76 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Persons are additionally indexed by their ID, normalized name, phone
+ * and email, so that lookups by {@code UUID} and duplicate checks do not require a scan of the list, and by
+ * similar name so that searches by misspelt name do not require a scan either.
+ * Indexes are updated before the list itself, so that listeners of the list always see them up to date.
+ *
+ * The tags of the persons in the list are interned in a {@link TagDictionary} of the list, which is started afresh
+ * whenever the contents of the list are replaced.
  *
  * @see Person#isSamePerson(Person)
  */
-public class UniquePersonList implements Iterable<Person> {
+public class UniquePersonList implements Iterable<Person>, ContactSearchIndex<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<UUID, Person> personsById = new HashMap<>();
+    private final Map<String, Person> personsByName = new HashMap<>();
+    private final Map<Phone, Person> personsByPhone = new HashMap<>();
+    private final Map<Email, Person> personsByEmail = new HashMap<>();
+    private final FuzzyNameIndex<Person> personsBySimilarName = new FuzzyNameIndex<>();
+    private TagDictionary tagDictionary = new TagDictionary();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean containsPerson(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getNormalizedName());
     }
 
     /**
-     * Generic method to check if the list contains an equivalent field.
-     *
-     * @param <T> the type of field to check for
-     * @param getField function that extracts the specific field from a Person
-     * @param toCheck the value to check for in the list
-     * @return true if the list contains an equivalent field as the given toCheck
+     * Returns the person named {@code name}, ignoring case, or null if no such person exists in the list.
      */
-    private <T> boolean containsField(Function<Person, T> getField, T toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream()
-                .map(getField)
-                .anyMatch(field -> field.equals(toCheck));
+    public Person getByName(Name name) {
+        requireNonNull(name);
+        return personsByName.get(name.getNormalizedName());
+    }
+
+    /**
+     * Returns the person with the given ID, or null if no such person exists in the list.
+     */
+    public Person getById(UUID id) {
+        requireNonNull(id);
+        return personsById.get(id);
+    }
+
+    @Override
+    public Set<Person> getContactsWithSimilarName(String name, int maxDistance) {
+        return personsBySimilarName.getMatches(name, maxDistance);
+    }
+
+    @Override
+    public List<Person> findSimilarlyNamed(String name, int maxDistance) {
+        return personsBySimilarName.search(name, maxDistance);
     }
 
     /**
      * Returns true if the list contains an equivalent phone number as the given argument.
      */
     public boolean containsPhone(Phone toCheck) {
-        return containsField(person -> person.getPhone(), toCheck);
+        requireNonNull(toCheck);
+        return personsByPhone.containsKey(toCheck);
     }
 
     /**
      * Returns true if the list contains an equivalent email as the given argument.
      */
     public boolean containsEmail(Email toCheck) {
-        return containsField(person -> person.getEmail(), toCheck);
+        requireNonNull(toCheck);
+        return personsByEmail.containsKey(toCheck);
     }
 
     /**
@@ -73,6 +107,14 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}, shifting later persons back by one.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
         requireNonNull(toAdd);
         if (containsPerson(toAdd)) {
             throw new DuplicatePersonException();
@@ -86,13 +128,16 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicateEmailException();
         }
 
-        internalList.add(toAdd);
+        Person interned = toAdd.withTagsIn(tagDictionary);
+        index(interned);
+        internalList.add(index, interned);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The person identity, phone and email of {@code editedPerson} must not be the same as those of another
+     * existing person in the list.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -102,11 +147,23 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && containsPerson(editedPerson)) {
+        Person existing = internalList.get(index);
+        if (isTakenByOther(personsByName, editedPerson.getNormalizedName(), existing)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        if (isTakenByOther(personsByPhone, editedPerson.getPhone(), existing)) {
+            throw new DuplicatePhoneException();
+        }
+
+        if (isTakenByOther(personsByEmail, editedPerson.getEmail(), existing)) {
+            throw new DuplicateEmailException();
+        }
+
+        Person interned = editedPerson.withTagsIn(tagDictionary);
+        unindex(existing);
+        index(interned);
+        internalList.set(index, interned);
     }
 
     /**
@@ -115,27 +172,87 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        unindex(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceContents(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons, nor two persons with the same phone or email.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        requireUnique(persons);
+
+        replaceContents(persons);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, which are known to be unique, interning their tags
+     * in a new dictionary.
+     */
+    private void replaceContents(List<Person> persons) {
+        tagDictionary = new TagDictionary();
+        List<Person> interned = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            interned.add(person.withTagsIn(tagDictionary));
         }
+        rebuildIndex(interned);
+        internalList.setAll(interned);
+    }
+
+    /**
+     * Returns true if {@code key} is held in {@code index} by a person other than {@code self}.
+     */
+    private static <K> boolean isTakenByOther(Map<K, Person> index, K key, Person self) {
+        Person owner = index.get(key);
+        return owner != null && owner != self;
+    }
+
+    /**
+     * Adds {@code person} to all indexes.
+     */
+    private void index(Person person) {
+        personsById.put(person.getId(), person);
+        personsByName.put(person.getNormalizedName(), person);
+        personsByPhone.put(person.getPhone(), person);
+        personsByEmail.put(person.getEmail(), person);
+        personsBySimilarName.add(person);
+    }
 
-        internalList.setAll(persons);
+    /**
+     * Removes {@code person} from all indexes.
+     */
+    private void unindex(Person person) {
+        personsById.remove(person.getId(), person);
+        personsByName.remove(person.getNormalizedName(), person);
+        personsByPhone.remove(person.getPhone(), person);
+        personsByEmail.remove(person.getEmail(), person);
+        personsBySimilarName.remove(person);
+    }
+
+    /**
+     * Rebuilds all indexes from {@code persons}, the new contents of the list.
+     */
+    private void rebuildIndex(List<Person> persons) {
+        personsById.clear();
+        personsByName.clear();
+        personsByPhone.clear();
+        personsByEmail.clear();
+        personsBySimilarName.clear();
+        for (Person person : persons) {
+            index(person);
+        }
     }
 
     /**
@@ -176,16 +293,28 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Checks in a single pass that {@code persons} contains only unique persons, and that no two of them share a
+     * phone or an email, as {@link #add} and {@link #setPerson} require. Persons are compared by their normalized
+     * names, in line with {@link Person#isSamePerson}.
+     *
+     * @throws DuplicatePersonException If two of the persons are the same person.
+     * @throws DuplicatePhoneException If two of the persons have the same phone.
+     * @throws DuplicateEmailException If two of the persons have the same email.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static void requireUnique(List<Person> persons) {
+        Set<String> seenNames = new HashSet<>();
+        Set<Phone> seenPhones = new HashSet<>();
+        Set<Email> seenEmails = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getNormalizedName())) {
+                throw new DuplicatePersonException();
+            }
+            if (!seenPhones.add(person.getPhone())) {
+                throw new DuplicatePhoneException();
+            }
+            if (!seenEmails.add(person.getEmail())) {
+                throw new DuplicateEmailException();
             }
         }
-        return true;
     }
 }
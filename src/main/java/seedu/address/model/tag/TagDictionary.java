@@ -0,0 +1,75 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns the distinct {@code Tag}s of a list of contacts and assigns each a small integer id, so that each contact
+ * in the list only needs to store the ids of its tags as a {@code BitSet}.
+ * Ids are assigned in the order tags are first seen and are never reused, so a dictionary grows with the number of
+ * distinct tag names rather than with the number of contacts. A list starts a new dictionary whenever its contents
+ * are replaced, which drops the tags no longer used.
+ */
+public final class TagDictionary {
+
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private final Map<String, BitSet> idsByFoldedName = new HashMap<>();
+    private final List<Tag> tagsById = new ArrayList<>();
+
+    /**
+     * Returns the id of {@code tag}, adding it to the dictionary if it has not been seen before.
+     */
+    public int idOf(Tag tag) {
+        requireNonNull(tag);
+        Integer id = idsByName.get(tag.tagName);
+        if (id != null) {
+            return id;
+        }
+
+        int newId = tagsById.size();
+        tagsById.add(tag);
+        idsByName.put(tag.tagName, newId);
+        idsByFoldedName.computeIfAbsent(fold(tag.tagName), unused -> new BitSet()).set(newId);
+        return newId;
+    }
+
+    /**
+     * Returns the id of {@code tag}, or -1 if it is not in the dictionary.
+     */
+    public int lookUp(Tag tag) {
+        requireNonNull(tag);
+        return idsByName.getOrDefault(tag.tagName, -1);
+    }
+
+    /**
+     * Returns the interned tag with the given id.
+     */
+    public Tag get(int id) {
+        return tagsById.get(id);
+    }
+
+    /**
+     * Returns true if {@code tagIds} contains the id of any tag named {@code tagName}, ignoring case.
+     */
+    public boolean containsIgnoreCase(BitSet tagIds, String tagName) {
+        requireNonNull(tagIds);
+        BitSet matchingIds = idsByFoldedName.get(fold(tagName));
+        return matchingIds != null && matchingIds.intersects(tagIds);
+    }
+
+    /**
+     * Returns the number of distinct tags in the dictionary.
+     */
+    public int size() {
+        return tagsById.size();
+    }
+
+    private static String fold(String tagName) {
+        return tagName.toLowerCase();
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, stored as the ids of its tags in a {@link TagDictionary}.
+ * A set built for a contact outside any list has a dictionary of its own; a list of contacts re-interns the tags of
+ * each contact added to it in the dictionary of the list, so that the contacts in the list share their tags.
+ * Attempts to modify it throw {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new TagDictionary(), new BitSet());
+
+    private final TagDictionary dictionary;
+    private final BitSet tagIds;
+    private final int size;
+
+    private TagSet(TagDictionary dictionary, BitSet tagIds) {
+        this.dictionary = dictionary;
+        this.tagIds = tagIds;
+        this.size = tagIds.cardinality();
+    }
+
+    /**
+     * Returns a {@code TagSet} containing the given tags, which is {@code tags} itself if it is already a
+     * {@code TagSet}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        return intern(tags, new TagDictionary());
+    }
+
+    /**
+     * Returns a {@code TagSet} containing the given tags, with ids in {@code dictionary}. This is {@code tags}
+     * itself if it is already such a set.
+     */
+    public static TagSet of(Collection<Tag> tags, TagDictionary dictionary) {
+        requireNonNull(tags);
+        requireNonNull(dictionary);
+        if (tags instanceof TagSet && ((TagSet) tags).isIn(dictionary)) {
+            return (TagSet) tags;
+        }
+        return intern(tags, dictionary);
+    }
+
+    private static TagSet intern(Collection<Tag> tags, TagDictionary dictionary) {
+        BitSet tagIds = new BitSet();
+        for (Tag tag : tags) {
+            tagIds.set(dictionary.idOf(tag));
+        }
+        return tagIds.isEmpty() ? EMPTY : new TagSet(dictionary, tagIds);
+    }
+
+    /**
+     * Returns true if the ids of this set are in {@code dictionary}. The empty set is in every dictionary.
+     */
+    public boolean isIn(TagDictionary dictionary) {
+        return size == 0 || this.dictionary == dictionary;
+    }
+
+    /**
+     * Returns true if this set contains a tag named {@code tagName}, ignoring case.
+     */
+    public boolean containsIgnoreCase(String tagName) {
+        requireNonNull(tagName);
+        return dictionary.containsIgnoreCase(tagIds, tagName);
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Tag)) {
+            return false;
+        }
+        int id = dictionary.lookUp((Tag) other);
+        return id >= 0 && tagIds.get(id);
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int nextId = tagIds.nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return nextId >= 0;
+            }
+
+            @Override
+            public Tag next() {
+                if (nextId < 0) {
+                    throw new NoSuchElementException();
+                }
+                Tag tag = dictionary.get(nextId);
+                nextId = tagIds.nextSetBit(nextId + 1);
+                return tag;
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> tags) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet && ((TagSet) other).dictionary == dictionary) {
+            return tagIds.equals(((TagSet) other).tagIds);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
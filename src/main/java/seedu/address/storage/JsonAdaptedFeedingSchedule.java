@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.feedingsession.FeedingSchedule;
+
+/**
+ * Jackson-friendly version of {@link FeedingSchedule}.
+ */
+class JsonAdaptedFeedingSchedule {
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "FeedingSchedule's %s field is missing!";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    private final String id;
+    private final String animalId;
+    private final String personId;
+    private final String start;
+    private final Integer intervalDays;
+    private final List<String> skippedDates = new ArrayList<>();
+
+    @JsonCreator
+    public JsonAdaptedFeedingSchedule(@JsonProperty("id") String id,
+                                      @JsonProperty("animalId") String animalId,
+                                      @JsonProperty("personId") String personId,
+                                      @JsonProperty("start") String start,
+                                      @JsonProperty("intervalDays") Integer intervalDays,
+                                      @JsonProperty("skippedDates") List<String> skippedDates) {
+        this.id = id;
+        this.animalId = animalId;
+        this.personId = personId;
+        this.start = start;
+        this.intervalDays = intervalDays;
+        if (skippedDates != null) {
+            this.skippedDates.addAll(skippedDates);
+        }
+    }
+
+    public JsonAdaptedFeedingSchedule(FeedingSchedule source) {
+        id = source.getId().toString();
+        animalId = source.getAnimalId().toString();
+        personId = source.getPersonId().toString();
+        start = source.getStart().format(DATE_TIME_FORMATTER);
+        intervalDays = source.getIntervalDays();
+        for (LocalDate skippedDate : source.getSkippedDates()) {
+            skippedDates.add(skippedDate.format(DATE_FORMATTER));
+        }
+    }
+
+    public FeedingSchedule toModelType() throws IllegalValueException {
+        if (id == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "id"));
+        }
+
+        if (animalId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "animalId"));
+        }
+
+        if (personId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "personId"));
+        }
+
+        if (start == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "start"));
+        }
+
+        if (intervalDays == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "intervalDays"));
+        }
+
+        if (!FeedingSchedule.isValidInterval(intervalDays)) {
+            throw new IllegalValueException(FeedingSchedule.MESSAGE_CONSTRAINTS);
+        }
+
+        final UUID modelId;
+        final UUID modelAnimalId;
+        final UUID modelPersonId;
+        final LocalDateTime modelStart;
+        final Set<LocalDate> modelSkippedDates = new TreeSet<>();
+
+        try {
+            modelId = UUID.fromString(id);
+            modelAnimalId = UUID.fromString(animalId);
+            modelPersonId = UUID.fromString(personId);
+            modelStart = LocalDateTime.parse(start, DATE_TIME_FORMATTER);
+            for (String skippedDate : skippedDates) {
+                modelSkippedDates.add(LocalDate.parse(skippedDate, DATE_FORMATTER));
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException("Corrupted date field in feeding schedule: " + e.getParsedString());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException("Invalid UUID format");
+        }
+
+        return new FeedingSchedule(modelId, modelAnimalId, modelPersonId, modelStart, intervalDays,
+                modelSkippedDates);
+    }
+}
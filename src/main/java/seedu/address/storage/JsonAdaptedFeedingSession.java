@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Optional;
 import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -22,16 +24,30 @@ class JsonAdaptedFeedingSession {
     private final String animalId;
     private final String personId;
     private final String dateTime;
+    /** How long the session lasts in minutes, or null if it has no duration. */
+    private final Long durationMinutes;
 
+    /**
+     * Constructs a {@code JsonAdaptedFeedingSession} without a duration.
+     */
+    public JsonAdaptedFeedingSession(String id, String animalId, String personId, String dateTime) {
+        this(id, animalId, personId, dateTime, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedFeedingSession} with the given feeding session details.
+     */
     @JsonCreator
     public JsonAdaptedFeedingSession(@JsonProperty("id") String id,
                                      @JsonProperty("animalId") String animalId,
                                      @JsonProperty("personId") String personId,
-                                     @JsonProperty("dateTime") String dateTime) {
+                                     @JsonProperty("dateTime") String dateTime,
+                                     @JsonProperty("durationMinutes") Long durationMinutes) {
         this.id = id;
         this.animalId = animalId;
         this.personId = personId;
         this.dateTime = dateTime;
+        this.durationMinutes = durationMinutes;
     }
 
     public JsonAdaptedFeedingSession(FeedingSession source) {
@@ -39,6 +55,7 @@ class JsonAdaptedFeedingSession {
         animalId = source.getAnimalId().toString();
         personId = source.getPersonId().toString();
         dateTime = source.getDateTime().format(DATE_TIME_FORMATTER);
+        durationMinutes = source.getDuration().map(Duration::toMinutes).orElse(null);
     }
 
     public FeedingSession toModelType() throws IllegalValueException {
@@ -70,6 +87,15 @@ class JsonAdaptedFeedingSession {
             throw new IllegalValueException("Corrupted DateTime field: " + dateTime);
         }
 
-        return new FeedingSession(modelId, modelAnimalId, modelPersonId, modelDateTime);
+        // Bounded before conversion, as Duration.ofMinutes overflows for the largest values
+        if (durationMinutes != null && (durationMinutes <= 0 || durationMinutes > Integer.MAX_VALUE)) {
+            throw new IllegalValueException(FeedingSession.MESSAGE_DURATION_CONSTRAINTS);
+        }
+        final Optional<Duration> modelDuration = Optional.ofNullable(durationMinutes).map(Duration::ofMinutes);
+        if (!FeedingSession.isValidEndTime(modelDateTime, modelDuration)) {
+            throw new IllegalValueException(FeedingSession.MESSAGE_END_TIME_CONSTRAINTS);
+        }
+
+        return new FeedingSession(modelId, modelAnimalId, modelPersonId, modelDateTime, modelDuration);
     }
 }
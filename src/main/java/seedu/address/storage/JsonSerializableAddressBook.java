@@ -13,6 +13,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.animal.Animal;
+import seedu.address.model.feedingsession.FeedingSchedule;
 import seedu.address.model.feedingsession.FeedingSession;
 import seedu.address.model.person.Person;
 
@@ -23,21 +24,30 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PHONE_OR_EMAIL =
+            "Persons list contains persons with the same phone or email.";
     public static final String MESSAGE_DUPLICATE_ANIMAL = "Animals list contains duplicate animal(s).";
     public static final String MESSAGE_DUPLICATE_FEEDING_SESSION =
             "Feeding sessions list contains duplicate session(s).";
     public static final String MESSAGE_ORPHANED_FEEDING_SESSION =
             "Feeding session references non-existent animal or person.";
+    public static final String MESSAGE_DUPLICATE_FEEDING_SCHEDULE =
+            "Feeding schedules list contains duplicate schedule(s).";
+    public static final String MESSAGE_ORPHANED_FEEDING_SCHEDULE =
+            "Feeding schedule references non-existent animal or person.";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedAnimal> animals = new ArrayList<>();
     private final List<JsonAdaptedFeedingSession> feedingSessions = new ArrayList<>();
+    private final List<JsonAdaptedFeedingSchedule> feedingSchedules = new ArrayList<>();
 
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("animals") List<JsonAdaptedAnimal> animals,
                                        @JsonProperty("feedingSessions")
-                                       List<JsonAdaptedFeedingSession> feedingSessions) {
+                                       List<JsonAdaptedFeedingSession> feedingSessions,
+                                       @JsonProperty("feedingSchedules")
+                                       List<JsonAdaptedFeedingSchedule> feedingSchedules) {
         if (persons != null) {
             this.persons.addAll(persons);
         }
@@ -47,6 +57,9 @@ class JsonSerializableAddressBook {
         if (feedingSessions != null) {
             this.feedingSessions.addAll(feedingSessions);
         }
+        if (feedingSchedules != null) {
+            this.feedingSchedules.addAll(feedingSchedules);
+        }
     }
 
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
@@ -59,6 +72,9 @@ class JsonSerializableAddressBook {
         feedingSessions.addAll(source.getFeedingSessionList().stream()
                 .map(JsonAdaptedFeedingSession::new)
                 .collect(Collectors.toList()));
+        feedingSchedules.addAll(source.getFeedingScheduleList().stream()
+                .map(JsonAdaptedFeedingSchedule::new)
+                .collect(Collectors.toList()));
     }
 
     public AddressBook toModelType() throws IllegalValueException {
@@ -79,6 +95,9 @@ class JsonSerializableAddressBook {
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
+            if (addressBook.hasPhone(person.getPhone()) || addressBook.hasEmail(person.getEmail())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PHONE_OR_EMAIL);
+            }
 
             if (hasExplicitSessions) {
                 for (String sessionId : jsonAdaptedPerson.getFeedingSessionIds()) {
@@ -116,6 +135,18 @@ class JsonSerializableAddressBook {
             addressBook.addAnimal(animal);
         }
 
+        for (JsonAdaptedFeedingSchedule jsonAdaptedSchedule : feedingSchedules) {
+            FeedingSchedule schedule = jsonAdaptedSchedule.toModelType();
+            if (addressBook.hasFeedingSchedule(schedule)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_FEEDING_SCHEDULE);
+            }
+            if (addressBook.getAnimalById(schedule.getAnimalId()) == null
+                    || addressBook.getPersonById(schedule.getPersonId()) == null) {
+                throw new IllegalValueException(MESSAGE_ORPHANED_FEEDING_SCHEDULE);
+            }
+            addressBook.addFeedingSchedule(schedule);
+        }
+
         return addressBook;
     }
 
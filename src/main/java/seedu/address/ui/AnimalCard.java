@@ -2,7 +2,7 @@ package seedu.address.ui;
 
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
-import java.util.List;
+import java.util.NavigableSet;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -10,6 +10,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.animal.Animal;
 import seedu.address.model.feedingsession.FeedingSession;
 import seedu.address.model.person.Person;
@@ -31,8 +32,7 @@ public class AnimalCard extends UiPart<Region> {
      */
 
     public final Animal animal;
-    private final List<FeedingSession> feedingSessions;
-    private final List<Person> persons;
+    private final ReadOnlyAddressBook addressBook;
 
     @FXML
     private HBox cardPane;
@@ -59,12 +59,12 @@ public class AnimalCard extends UiPart<Region> {
 
     /**
      * Creates a {@code AnimalCode} with the given {@code Animal} and name to display.
+     * Feeding sessions and feeder names are looked up in {@code addressBook}.
      */
-    public AnimalCard(Animal animal, int displayedIndex, List<FeedingSession> feedingSessions, List<Person> persons) {
+    public AnimalCard(Animal animal, int displayedIndex, ReadOnlyAddressBook addressBook) {
         super(FXML);
         this.animal = animal;
-        this.feedingSessions = feedingSessions;
-        this.persons = persons;
+        this.addressBook = addressBook;
         id.setText(displayedIndex + ". ");
         name.setText(animal.getName().fullName);
         description.setText(animal.getDescription().value);
@@ -73,25 +73,24 @@ public class AnimalCard extends UiPart<Region> {
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
 
-        displayEarliestFeedingSession(feedingSessions);
+        displayEarliestFeedingSession(addressBook.getFeedingSessionsForAnimal(animal.getId()));
     }
 
     /**
      * Displays the earliest feeding session in the feeding box.
+     *
+     * @param sessionsForAnimal Feeding sessions of this animal, earliest first.
      */
-    private void displayEarliestFeedingSession(List<FeedingSession> feedingSessions) {
-        FeedingSession earliest = animal.getEarliestFeedingSession(feedingSessions);
+    private void displayEarliestFeedingSession(NavigableSet<FeedingSession> sessionsForAnimal) {
+        FeedingSession earliest = sessionsForAnimal.isEmpty() ? null : sessionsForAnimal.first();
 
         if (earliest != null && feedingBox != null) {
             feedingBox.setVisible(true);
             feedingBox.setManaged(true);
 
             if (feederName != null) {
-                String personNameText = persons.stream()
-                    .filter(person -> person.getId().equals(earliest.getPersonId()))
-                    .findFirst()
-                    .map(person -> person.getName().fullName)
-                    .orElse("Unknown Person");
+                Person feeder = addressBook.getPersonById(earliest.getPersonId());
+                String personNameText = feeder == null ? "Unknown Person" : feeder.getName().fullName;
                 feederName.setText(personNameText);
             }
 
@@ -107,9 +106,7 @@ public class AnimalCard extends UiPart<Region> {
 
             // Set the "+N more..." label if there are additional sessions beyond the earliest one
             if (moreCount != null) {
-                long totalSessions = feedingSessions == null ? 0
-                        : feedingSessions.stream().filter(s -> s.involvesAnimal(animal.getId())).count();
-                long remaining = Math.max(0, totalSessions - 1);
+                int remaining = sessionsForAnimal.size() - 1;
                 if (remaining > 0) {
                     moreCount.setText("+" + remaining + " more...");
                     moreCount.setVisible(true);
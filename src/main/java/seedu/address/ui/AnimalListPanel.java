@@ -2,16 +2,14 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.animal.Animal;
-import seedu.address.model.feedingsession.FeedingSession;
-import seedu.address.model.person.Person;
 
 /**
  * Panel containing the list of animals.
@@ -23,33 +21,26 @@ public class AnimalListPanel extends UiPart<Region> {
     @FXML
     private ListView<Animal> animalListView;
 
-    private final ObservableList<FeedingSession> feedingSessionList;
-    private final ObservableList<Person> personList;
+    private final ReadOnlyAddressBook addressBook;
 
     /**
      * Creates a {@code AnimalListPanel} with the given {@code ObservableList}.
+     * Feeding sessions and linked contacts shown on each card are looked up in {@code addressBook}.
      */
-    public AnimalListPanel(ObservableList<Animal> animalList, ObservableList<FeedingSession> feedingSessionList,
-                          ObservableList<Person> personList) {
+    public AnimalListPanel(ObservableList<Animal> animalList, ReadOnlyAddressBook addressBook) {
         super(FXML);
-        this.feedingSessionList = feedingSessionList;
-        this.personList = personList;
+        this.addressBook = addressBook;
         animalListView.setItems(animalList);
         animalListView.setCellFactory(listView -> new AnimalListViewCell());
 
-        feedingSessionList.addListener((ListChangeListener<FeedingSession>) c -> {
-            animalListView.refresh();
-        });
-
-        personList.addListener((ListChangeListener<Person>) c -> {
-            animalListView.refresh();
-        });
+        // Cards show feeding sessions and linked contacts, so redraw them once after every change to the address book
+        addressBook.addListener(observable -> animalListView.refresh());
 
         animalListView.setOnMouseClicked(event -> {
             if (event.getClickCount() == 2) {
                 Animal selectedAnimal = animalListView.getSelectionModel().getSelectedItem();
                 if (selectedAnimal != null) {
-                    AnimalProfileWindow.openProfile(selectedAnimal, feedingSessionList, personList);
+                    AnimalProfileWindow.openProfile(selectedAnimal, addressBook);
                 }
             }
         });
@@ -67,7 +58,7 @@ public class AnimalListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                AnimalCard card = new AnimalCard(animal, getIndex() + 1, feedingSessionList, personList);
+                AnimalCard card = new AnimalCard(animal, getIndex() + 1, addressBook);
                 Region root = card.getRoot();
                 root.setMinWidth(0);
                 root.setMaxWidth(Double.MAX_VALUE);
@@ -4,7 +4,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.NavigableSet;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -17,6 +17,7 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.animal.Animal;
 import seedu.address.model.feedingsession.FeedingSession;
 import seedu.address.model.person.Person;
@@ -31,8 +32,7 @@ public class AnimalProfileWindow extends UiPart<Stage> {
     private static final List<Stage> openWindows = new ArrayList<>();
 
     private final Animal animal;
-    private final List<FeedingSession> feedingSessions;
-    private final List<Person> persons;
+    private final ReadOnlyAddressBook addressBook;
 
     @FXML private Label name;
     @FXML private Label description;
@@ -45,11 +45,10 @@ public class AnimalProfileWindow extends UiPart<Stage> {
     /**
      * Creates a new AnimalProfileWindow for the specified {@code animal}.
      */
-    public AnimalProfileWindow(Animal animal, List<FeedingSession> feedingSessions, List<Person> persons) {
+    public AnimalProfileWindow(Animal animal, ReadOnlyAddressBook addressBook) {
         super(FXML, new Stage());
         this.animal = animal;
-        this.feedingSessions = feedingSessions;
-        this.persons = persons;
+        this.addressBook = addressBook;
 
         name.setText(animal.getName().fullName);
         description.setText(animal.getDescription().value);
@@ -84,10 +83,7 @@ public class AnimalProfileWindow extends UiPart<Stage> {
 
         feedingSessionsContainer.getChildren().clear();
 
-        List<FeedingSession> sessionsForAnimal = feedingSessions.stream()
-                .filter(session -> session.involvesAnimal(animal.getId()))
-                .sorted(Comparator.comparing(FeedingSession::getDateTime))
-                .collect(Collectors.toList());
+        NavigableSet<FeedingSession> sessionsForAnimal = addressBook.getFeedingSessionsForAnimal(animal.getId());
 
         if (sessionsForAnimal.isEmpty()) {
             feedingSessionScrollPane.setVisible(false);
@@ -99,11 +95,8 @@ public class AnimalProfileWindow extends UiPart<Stage> {
         DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
 
         for (FeedingSession session : sessionsForAnimal) {
-            String personNameText = persons.stream()
-                    .filter(p -> p.getId().equals(session.getPersonId()))
-                    .findFirst()
-                    .map(p -> p.getName().fullName)
-                    .orElse("Unknown Person");
+            Person feeder = addressBook.getPersonById(session.getPersonId());
+            String personNameText = feeder == null ? "Unknown Person" : feeder.getName().fullName;
 
             Label dateLabel = new Label(session.getDateTime().format(dateFormatter));
             dateLabel.getStyleClass().add("session-date");
@@ -155,8 +148,8 @@ public class AnimalProfileWindow extends UiPart<Stage> {
     /**
      * Opens an animal profile window for the specified {@code animal}.
      */
-    public static void openProfile(Animal animal, List<FeedingSession> feedingSessions, List<Person> persons) {
-        AnimalProfileWindow window = new AnimalProfileWindow(animal, feedingSessions, persons);
+    public static void openProfile(Animal animal, ReadOnlyAddressBook addressBook) {
+        AnimalProfileWindow window = new AnimalProfileWindow(animal, addressBook);
         window.show();
     }
 
@@ -0,0 +1,51 @@
+package seedu.address.ui;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import seedu.address.logic.Messages;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.feedingsession.FeedingSession;
+
+/**
+ * Panel showing the feeding sessions that are due next across the whole shelter.
+ */
+public class DueSoonPanel extends UiPart<Region> {
+
+    public static final int SESSIONS_SHOWN = 5;
+
+    private static final String FXML = "DueSoonPanel.fxml";
+    private static final String MESSAGE_NOTHING_DUE = "No upcoming feeding sessions.";
+
+    private final ReadOnlyAddressBook addressBook;
+
+    @FXML
+    private Label dueSoonSessions;
+
+    /**
+     * Creates a {@code DueSoonPanel} showing the upcoming feeding sessions in {@code addressBook}.
+     */
+    public DueSoonPanel(ReadOnlyAddressBook addressBook) {
+        super(FXML);
+        this.addressBook = addressBook;
+
+        // Sessions are kept in time order and scheduled feedings are generated in time order, so only the first
+        // few after now are read on each refresh.
+        LiveRefresh.schedule(addressBook, this::refresh);
+    }
+
+    private void refresh() {
+        StringBuilder text = new StringBuilder();
+        Iterator<FeedingSession> upcoming = addressBook.getFeedingsFrom(LocalDateTime.now()).iterator();
+        for (int i = 0; i < SESSIONS_SHOWN && upcoming.hasNext(); i++) {
+            if (i > 0) {
+                text.append('\n');
+            }
+            text.append(Messages.format(upcoming.next(), addressBook));
+        }
+        dueSoonSessions.setText(text.length() == 0 ? MESSAGE_NOTHING_DUE : text.toString());
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.ui;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Keeps a panel that depends on the current time up to date.
+ */
+final class LiveRefresh {
+
+    private static final Duration CLOCK_TICK = Duration.minutes(1);
+
+    private LiveRefresh() {}
+
+    /**
+     * Runs {@code refresh} now, whenever {@code addressBook} changes, and every minute so that what is shown keeps up
+     * with the clock.
+     */
+    static void schedule(ReadOnlyAddressBook addressBook, Runnable refresh) {
+        addressBook.addListener(observable -> refresh.run());
+        Timeline clock = new Timeline(new KeyFrame(CLOCK_TICK, event -> refresh.run()));
+        clock.setCycleCount(Animation.INDEFINITE);
+        clock.play();
+        refresh.run();
+    }
+}
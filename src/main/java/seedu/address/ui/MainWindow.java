@@ -56,6 +56,12 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane resultDisplayPlaceholder;
 
+    @FXML
+    private StackPane dueSoonPanelPlaceholder;
+
+    @FXML
+    private StackPane statsPanelPlaceholder;
+
     @FXML
     private StackPane statusbarPlaceholder;
 
@@ -147,16 +153,20 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic.getFeedingSessionList(),
-                logic.getAnimalList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic.getAddressBook());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        animalListPanel = new AnimalListPanel(logic.getFilteredAnimalList(), logic.getFeedingSessionList(),
-                logic.getPersonList());
+        animalListPanel = new AnimalListPanel(logic.getFilteredAnimalList(), logic.getAddressBook());
         animalListPanelPlaceholder.getChildren().add(animalListPanel.getRoot());
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
+        DueSoonPanel dueSoonPanel = new DueSoonPanel(logic.getAddressBook());
+        dueSoonPanelPlaceholder.getChildren().add(dueSoonPanel.getRoot());
+
+        StatsPanel statsPanel = new StatsPanel(logic.getAddressBook());
+        statsPanelPlaceholder.getChildren().add(statsPanel.getRoot());
+
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
@@ -2,7 +2,7 @@ package seedu.address.ui;
 
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
-import java.util.List;
+import java.util.NavigableSet;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -10,6 +10,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.animal.Animal;
 import seedu.address.model.feedingsession.FeedingSession;
 import seedu.address.model.person.Person;
@@ -30,8 +31,7 @@ public class PersonCard extends UiPart<Region> {
      */
 
     public final Person person;
-    private final List<FeedingSession> feedingSessions;
-    private final List<Animal> animals;
+    private final ReadOnlyAddressBook addressBook;
 
     @FXML
     private HBox cardPane;
@@ -58,12 +58,12 @@ public class PersonCard extends UiPart<Region> {
 
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Feeding sessions and animal names are looked up in {@code addressBook}.
      */
-    public PersonCard(Person person, int displayedIndex, List<FeedingSession> feedingSessions, List<Animal> animals) {
+    public PersonCard(Person person, int displayedIndex, ReadOnlyAddressBook addressBook) {
         super(FXML);
         this.person = person;
-        this.feedingSessions = feedingSessions;
-        this.animals = animals;
+        this.addressBook = addressBook;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
@@ -72,25 +72,24 @@ public class PersonCard extends UiPart<Region> {
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
 
-        displayEarliestFeedingSession(feedingSessions);
+        displayEarliestFeedingSession(addressBook.getFeedingSessionsForPerson(person.getId()));
     }
 
     /**
      * Displays the earliest feeding session in the feeding box.
+     *
+     * @param sessionsForPerson Feeding sessions of this person, earliest first.
      */
-    private void displayEarliestFeedingSession(List<FeedingSession> feedingSessions) {
-        FeedingSession earliest = person.getEarliestFeedingSession(feedingSessions);
+    private void displayEarliestFeedingSession(NavigableSet<FeedingSession> sessionsForPerson) {
+        FeedingSession earliest = sessionsForPerson.isEmpty() ? null : sessionsForPerson.first();
 
         if (earliest != null && feedingBox != null) {
             feedingBox.setVisible(true);
             feedingBox.setManaged(true);
 
             if (animalName != null) {
-                String animalNameText = animals.stream()
-                    .filter(animal -> animal.getId().equals(earliest.getAnimalId()))
-                    .findFirst()
-                    .map(animal -> animal.getName().fullName)
-                    .orElse("Unknown Animal");
+                Animal fedAnimal = addressBook.getAnimalById(earliest.getAnimalId());
+                String animalNameText = fedAnimal == null ? "Unknown Animal" : fedAnimal.getName().fullName;
                 animalName.setText(animalNameText);
             }
 
@@ -105,9 +104,7 @@ public class PersonCard extends UiPart<Region> {
             }
 
             if (moreCount != null) {
-                long totalSessions = feedingSessions == null ? 0
-                        : feedingSessions.stream().filter(s -> s.involvesPerson(person.getId())).count();
-                long remaining = Math.max(0, totalSessions - 1);
+                int remaining = sessionsForPerson.size() - 1;
                 if (remaining > 0) {
                     moreCount.setText("+" + remaining + " more...");
                     moreCount.setVisible(true);
@@ -2,15 +2,13 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.model.animal.Animal;
-import seedu.address.model.feedingsession.FeedingSession;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 
 /**
@@ -23,33 +21,26 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
 
-    private final ObservableList<FeedingSession> feedingSessionList;
-    private final ObservableList<Animal> animalList;
+    private final ReadOnlyAddressBook addressBook;
 
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Feeding sessions and linked contacts shown on each card are looked up in {@code addressBook}.
      */
-    public PersonListPanel(ObservableList<Person> personList, ObservableList<FeedingSession> feedingSessionList,
-                          ObservableList<Animal> animalList) {
+    public PersonListPanel(ObservableList<Person> personList, ReadOnlyAddressBook addressBook) {
         super(FXML);
-        this.feedingSessionList = feedingSessionList;
-        this.animalList = animalList;
+        this.addressBook = addressBook;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
 
-        feedingSessionList.addListener((ListChangeListener<FeedingSession>) c -> {
-            personListView.refresh();
-        });
-
-        animalList.addListener((ListChangeListener<Animal>) c -> {
-            personListView.refresh();
-        });
+        // Cards show feeding sessions and linked contacts, so redraw them once after every change to the address book
+        addressBook.addListener(observable -> personListView.refresh());
 
         personListView.setOnMouseClicked(event -> {
             if (event.getClickCount() == 2) {
                 Person selectedPerson = personListView.getSelectionModel().getSelectedItem();
                 if (selectedPerson != null) {
-                    PersonProfileWindow.openProfile(selectedPerson, feedingSessionList, animalList);
+                    PersonProfileWindow.openProfile(selectedPerson, addressBook);
                 }
             }
         });
@@ -67,7 +58,7 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                PersonCard card = new PersonCard(person, getIndex() + 1, feedingSessionList, animalList);
+                PersonCard card = new PersonCard(person, getIndex() + 1, addressBook);
                 Region root = card.getRoot();
                 root.setMinWidth(0);
                 root.setMaxWidth(Double.MAX_VALUE);
@@ -4,7 +4,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.NavigableSet;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -17,6 +17,7 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.animal.Animal;
 import seedu.address.model.feedingsession.FeedingSession;
 import seedu.address.model.person.Person;
@@ -33,8 +34,7 @@ public class PersonProfileWindow extends UiPart<Stage> {
 
     /** The person whose profile is being displayed. */
     private final Person person;
-    private final List<FeedingSession> feedingSessions;
-    private final List<Animal> animals;
+    private final ReadOnlyAddressBook addressBook;
 
     // FXML UI elements
     @FXML private Label name;
@@ -52,14 +52,12 @@ public class PersonProfileWindow extends UiPart<Stage> {
      * Creates a new PersonProfileWindow instance for the specified {@code person}.
      *
      * @param person The person whose profile is to be shown.
-     * @param feedingSessions List of all feeding sessions.
-     * @param animals List of all animals.
+     * @param addressBook Address book to look up feeding sessions and animals in.
      */
-    public PersonProfileWindow(Person person, List<FeedingSession> feedingSessions, List<Animal> animals) {
+    public PersonProfileWindow(Person person, ReadOnlyAddressBook addressBook) {
         super(FXML, new Stage());
         this.person = person;
-        this.feedingSessions = feedingSessions;
-        this.animals = animals;
+        this.addressBook = addressBook;
 
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
@@ -85,10 +83,7 @@ public class PersonProfileWindow extends UiPart<Stage> {
 
         feedingSessionsContainer.getChildren().clear();
 
-        List<FeedingSession> sessionsForPerson = feedingSessions.stream()
-                .filter(session -> session.involvesPerson(person.getId()))
-                .sorted(Comparator.comparing(FeedingSession::getDateTime))
-                .collect(Collectors.toList());
+        NavigableSet<FeedingSession> sessionsForPerson = addressBook.getFeedingSessionsForPerson(person.getId());
 
         if (sessionsForPerson.isEmpty()) {
             feedingSessionScrollPane.setVisible(false);
@@ -100,11 +95,8 @@ public class PersonProfileWindow extends UiPart<Stage> {
         DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
 
         for (FeedingSession session : sessionsForPerson) {
-            String animalNameText = animals.stream()
-                    .filter(animal -> animal.getId().equals(session.getAnimalId()))
-                    .findFirst()
-                    .map(animal -> animal.getName().fullName)
-                    .orElse("Unknown Animal");
+            Animal animal = addressBook.getAnimalById(session.getAnimalId());
+            String animalNameText = animal == null ? "Unknown Animal" : animal.getName().fullName;
 
             Label dateLabel = new Label(session.getDateTime().format(dateFormatter));
             dateLabel.getStyleClass().add("session-date");
@@ -159,11 +151,10 @@ public class PersonProfileWindow extends UiPart<Stage> {
      * This method is a convenience static helper.
      *
      * @param person The person to display in the profile window.
-     * @param feedingSessions List of all feeding sessions.
-     * @param animals List of all animals.
+     * @param addressBook Address book to look up feeding sessions and animals in.
      */
-    public static void openProfile(Person person, List<FeedingSession> feedingSessions, List<Animal> animals) {
-        PersonProfileWindow window = new PersonProfileWindow(person, feedingSessions, animals);
+    public static void openProfile(Person person, ReadOnlyAddressBook addressBook) {
+        PersonProfileWindow window = new PersonProfileWindow(person, addressBook);
         window.show();
     }
 
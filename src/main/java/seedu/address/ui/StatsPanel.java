@@ -0,0 +1,64 @@
+package seedu.address.ui;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.feedingsession.FeedingStatistics;
+
+/**
+ * Panel showing how many feedings took place today and this week, and which animals have not been fed today.
+ */
+public class StatsPanel extends UiPart<Region> {
+
+    public static final int UNFED_ANIMALS_SHOWN = 5;
+
+    private static final String FXML = "StatsPanel.fxml";
+
+    private final ReadOnlyAddressBook addressBook;
+
+    @FXML
+    private Label statsSummary;
+
+    /**
+     * Creates a {@code StatsPanel} showing the feeding statistics of {@code addressBook}.
+     */
+    public StatsPanel(ReadOnlyAddressBook addressBook) {
+        super(FXML);
+        this.addressBook = addressBook;
+
+        // The statistics keep the animals not fed today up to date, so a refresh only looks up the names shown.
+        LiveRefresh.schedule(addressBook, this::refresh);
+    }
+
+    private void refresh() {
+        FeedingStatistics statistics = addressBook.getFeedingStatistics();
+        LocalDate today = LocalDate.now();
+
+        Set<UUID> unfedAnimalIds = statistics.getAnimalsNotFedOn(today);
+        int unfedCount = unfedAnimalIds.size();
+        List<String> unfedAnimals = new ArrayList<>();
+        Iterator<UUID> unfed = unfedAnimalIds.iterator();
+        while (unfedAnimals.size() < UNFED_ANIMALS_SHOWN && unfed.hasNext()) {
+            unfedAnimals.add(addressBook.getAnimalById(unfed.next()).getName().toString());
+        }
+
+        StringBuilder text = new StringBuilder()
+                .append("Feedings today: ").append(statistics.getDailyCount(today))
+                .append(", this week: ").append(statistics.getWeeklyCount(today));
+        if (unfedCount > 0) {
+            text.append("\nNot fed today: ").append(String.join(", ", unfedAnimals));
+            if (unfedCount > UNFED_ANIMALS_SHOWN) {
+                text.append(" and ").append(unfedCount - UNFED_ANIMALS_SHOWN).append(" more");
+            }
+        }
+        statsSummary.setText(text.toString());
+    }
+}
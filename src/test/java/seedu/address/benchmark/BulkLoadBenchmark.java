@@ -0,0 +1,124 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+import java.util.function.IntFunction;
+
+import seedu.address.model.Name;
+import seedu.address.model.animal.Animal;
+import seedu.address.model.animal.Description;
+import seedu.address.model.animal.Location;
+import seedu.address.model.animal.UniqueAnimalList;
+import seedu.address.model.feedingsession.FeedingSession;
+import seedu.address.model.feedingsession.UniqueFeedingSessionList;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures how long the unique lists take to replace their contents in bulk, which happens on every startup,
+ * {@code undo} and {@code redo}. The one-pass uniqueness check is compared against the pairwise check it replaced.
+ *
+ * Run with {@code ./gradlew benchmark -Pbench=BulkLoadBenchmark}.
+ */
+public class BulkLoadBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int PAIRWISE_LIMIT = 10_000;
+    private static final int RUNS = 5;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    /**
+     * Runs the benchmark and prints one row per list and size.
+     */
+    public static void main(String[] args) {
+        System.out.printf("%-16s %10s %14s %16s%n", "list", "size", "bulk load (ms)", "pairwise (ms)");
+        for (int size : SIZES) {
+            List<Person> persons = generatePersons(size);
+            List<Animal> animals = generateAnimals(size);
+            List<FeedingSession> sessions = generateSessions(size);
+
+            report("persons", size, bestOf(() -> new UniquePersonList().setPersons(persons)),
+                    pairwise(persons, size, Person::isSamePerson));
+            report("animals", size, bestOf(() -> new UniqueAnimalList().setAnimals(animals)),
+                    pairwise(animals, size, Animal::isSameAnimal));
+            report("feedingSessions", size,
+                    bestOf(() -> new UniqueFeedingSessionList().setFeedingSessions(sessions)),
+                    pairwise(sessions, size, FeedingSession::isSameFeedingSession));
+        }
+    }
+
+    private static void report(String list, int size, double bulkMillis, String pairwise) {
+        System.out.printf("%-16s %10d %14.1f %16s%n", list, size, bulkMillis, pairwise);
+    }
+
+    /**
+     * Times one run of the pairwise uniqueness check that bulk loading used to perform. Sizes above
+     * {@link #PAIRWISE_LIMIT} are extrapolated quadratically from a run on the first {@code PAIRWISE_LIMIT} elements.
+     */
+    private static <T> String pairwise(List<T> elements, int size, BiPredicate<T, T> sameIdentity) {
+        int measuredSize = Math.min(size, PAIRWISE_LIMIT);
+        List<T> sample = elements.subList(0, measuredSize);
+        long start = System.nanoTime();
+        pairwiseUnique(sample, sameIdentity);
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+        if (measuredSize == size) {
+            return String.format("%.1f", millis);
+        }
+        double scale = (double) size / measuredSize;
+        return String.format("~%.0f (est.)", millis * scale * scale);
+    }
+
+    private static <T> boolean pairwiseUnique(List<T> elements, BiPredicate<T, T> sameIdentity) {
+        for (int i = 0; i < elements.size() - 1; i++) {
+            for (int j = i + 1; j < elements.size(); j++) {
+                if (sameIdentity.test(elements.get(i), elements.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the fastest of {@link #RUNS} timed runs of {@code task} in milliseconds, after one warm-up run.
+     */
+    private static double bestOf(Runnable task) {
+        task.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+
+    private static List<Person> generatePersons(int size) {
+        return generate(size, i -> new Person(new Name("Person " + i), new Phone(String.valueOf(10_000_000 + i)),
+                new Email("person" + i + "@example.com"), Collections.emptySet(), Collections.emptySet()));
+    }
+
+    private static List<Animal> generateAnimals(int size) {
+        return generate(size, i -> new Animal(new Name("Animal " + i), new Description("Friendly"),
+                new Location("Block " + (i % 100)), Collections.emptySet(), Collections.emptySet()));
+    }
+
+    private static List<FeedingSession> generateSessions(int size) {
+        return generate(size, i -> new FeedingSession(UUID.randomUUID(), UUID.randomUUID(),
+                START.plusMinutes(i)));
+    }
+
+    private static <T> List<T> generate(int size, IntFunction<T> factory) {
+        List<T> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(factory.apply(i));
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+import seedu.address.model.Name;
+import seedu.address.model.animal.Description;
+import seedu.address.model.animal.Location;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures how long the value type validators take over one million fields, split evenly between names, phones,
+ * emails, tags, descriptions and locations, as checked when the address book is loaded. The validators are
+ * compared against the {@link String#matches(String)} based checks they replaced, which compile a pattern on
+ * every call.
+ *
+ * Run with {@code ./gradlew benchmark -Pbench=ValidationBenchmark}.
+ */
+public class ValidationBenchmark {
+
+    private static final int FIELDS = 1_000_000;
+    private static final int FIELDS_PER_TYPE = FIELDS / 6;
+    private static final int RUNS = 5;
+
+    /**
+     * Runs the benchmark and prints one row per field type, followed by the total.
+     */
+    public static void main(String[] args) {
+        List<String> names = generate(i -> "Person " + i);
+        List<String> phones = generate(i -> String.valueOf(10_000_000 + i));
+        List<String> emails = generate(i -> "person" + i + "@example.com");
+        List<String> tags = generate(i -> "tag " + (i % 50));
+        List<String> descriptions = generate(i -> "Friendly cat number " + i);
+        List<String> locations = generate(i -> "Block " + (i % 100));
+
+        System.out.printf("%-14s %10s %16s %18s%n", "field", "count", "validator (ms)", "String.matches (ms)");
+        double[] total = new double[2];
+        report("name", names, Name::isValidName,
+                s -> s.matches(Name.VALIDATION_REGEX) && s.length() <= Name.MAX_LENGTH, total);
+        report("phone", phones, Phone::isValidPhone, s -> s.matches(Phone.VALIDATION_REGEX), total);
+        report("email", emails, Email::isValidEmail,
+                s -> s.length() <= 998 && s.toLowerCase().matches(Email.VALIDATION_REGEX), total);
+        report("tag", tags, Tag::isValidTagName,
+                s -> s.matches(Tag.VALIDATION_REGEX) && s.length() <= Tag.MAX_LENGTH, total);
+        report("description", descriptions, Description::isValidDescription,
+                s -> !s.trim().isEmpty() && s.trim().length() <= Description.MAX_LENGTH, total);
+        report("location", locations, Location::isValidLocation,
+                s -> !s.trim().isEmpty() && s.trim().length() <= Location.MAX_LENGTH, total);
+        System.out.printf("%-14s %10d %16.1f %18.1f%n", "total", FIELDS_PER_TYPE * 6, total[0], total[1]);
+    }
+
+    private static void report(String field, List<String> values, Predicate<String> validator,
+            Predicate<String> baseline, double[] total) {
+        double validatorMillis = bestOf(values, validator);
+        double baselineMillis = bestOf(values, baseline);
+        total[0] += validatorMillis;
+        total[1] += baselineMillis;
+        System.out.printf("%-14s %10d %16.1f %18.1f%n", field, values.size(), validatorMillis, baselineMillis);
+    }
+
+    /**
+     * Returns the fastest of {@link #RUNS} timed runs of {@code check} over {@code values} in milliseconds, after
+     * one warm-up run.
+     *
+     * @throws AssertionError if {@code check} rejects any of {@code values}.
+     */
+    private static double bestOf(List<String> values, Predicate<String> check) {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run <= RUNS; run++) {
+            long start = System.nanoTime();
+            int valid = 0;
+            for (String value : values) {
+                if (check.test(value)) {
+                    valid++;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            if (valid != values.size()) {
+                throw new AssertionError("Benchmark values should all be valid");
+            }
+            if (run > 0) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return best / 1_000_000.0;
+    }
+
+    private static List<String> generate(IntFunction<String> factory) {
+        List<String> values = new ArrayList<>(FIELDS_PER_TYPE);
+        for (int i = 0; i < FIELDS_PER_TYPE; i++) {
+            values.add(factory.apply(i));
+        }
+        return values;
+    }
+}
@@ -1,14 +1,20 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +88,27 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void mergeSorted() {
+        Iterator<Integer> merged = CollectionUtil.mergeSorted(List.of(List.of(1, 4, 9).iterator(),
+                Collections.<Integer>emptyIterator(), List.of(2, 3, 10).iterator()), Comparator.naturalOrder());
+        List<Integer> result = new ArrayList<>();
+        merged.forEachRemaining(result::add);
+        assertEquals(List.of(1, 2, 3, 4, 9, 10), result);
+
+        // infinite iterators are only advanced as far as needed
+        Iterator<Integer> evens = Stream.iterate(0, i -> i + 2).iterator();
+        Iterator<Integer> odds = Stream.iterate(1, i -> i + 2).iterator();
+        Iterator<Integer> naturals = CollectionUtil.mergeSorted(List.of(evens, odds), Comparator.naturalOrder());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Integer.valueOf(i), naturals.next());
+        }
+
+        Iterator<Integer> empty = CollectionUtil.mergeSorted(List.of(), Comparator.<Integer>naturalOrder());
+        assertFalse(empty.hasNext());
+        assertThrows(NoSuchElementException.class, empty::next);
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -124,6 +125,46 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for levenshteinDistance --------------------------------------
+
+    @Test
+    public void levenshteinDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.levenshteinDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.levenshteinDistance("abc", null));
+    }
+
+    @Test
+    public void levenshteinDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.levenshteinDistance("", ""));
+        assertEquals(0, StringUtil.levenshteinDistance("alice", "alice"));
+        assertEquals(3, StringUtil.levenshteinDistance("", "bob"));
+        assertEquals(1, StringUtil.levenshteinDistance("alice", "alicee")); // insertion
+        assertEquals(1, StringUtil.levenshteinDistance("alice", "alie")); // deletion
+        assertEquals(1, StringUtil.levenshteinDistance("alice", "alise")); // substitution
+        assertEquals(2, StringUtil.levenshteinDistance("alice", "alcie")); // transposition
+        assertEquals(3, StringUtil.levenshteinDistance("kitten", "sitting"));
+    }
+
+    //---------------- Tests for normalizeWhitespace --------------------------------------
+
+    @Test
+    public void normalizeWhitespace_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.normalizeWhitespace(null));
+    }
+
+    @Test
+    public void normalizeWhitespace_validInputs_matchesRegexReplacement() {
+        String[] inputs = {"", "   ", "Alice", "Alice Pauline", "  Alice Pauline ", "Alice  Pauline",
+            "Alice\tPauline", "Alice \n\r Pauline", "\fAlice\u000BPauline\n", "a b c", "a \u0001 b"};
+        for (String input : inputs) {
+            assertEquals(input.trim().replaceAll("\\s+", " "), StringUtil.normalizeWhitespace(input), input);
+        }
+
+        // already normalized text is returned without copying
+        String normalized = "Alice Pauline";
+        assertTrue(normalized == StringUtil.normalizeWhitespace(normalized));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,56 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Email;
+
+public class ValidationUtilTest {
+
+    private static final String[] INPUTS = {"", " ", "a", "A", "7", " a", "a ", "a b", "a  b", "Peter Jack 2nd",
+        "peter*", "\u00e9", "a\tb", "a_b", "123", "12", "0123456789", "12 34", "+6591234567",
+        "\u0661\u0662\u0663", "abc-def", "1234567890123456789012345678901", "123456789012345678901234567890"};
+
+    @Test
+    public void isAlphanumericWords_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWords(null, 30));
+    }
+
+    @Test
+    public void isAlphanumericWords_validInputs_matchesRegex() {
+        for (String input : INPUTS) {
+            assertEquals(input.matches("[\\p{Alnum}][\\p{Alnum} ]*") && input.length() <= 30,
+                    ValidationUtil.isAlphanumericWords(input, 30), input);
+        }
+    }
+
+    @Test
+    public void isDigits_validInputs_matchesRegex() {
+        for (String input : INPUTS) {
+            assertEquals(input.matches("\\d{3,}"), ValidationUtil.isDigits(input, 3), input);
+        }
+    }
+
+    @Test
+    public void isDotAtomEmail_unquotedInputs_matchesRegex() {
+        String[] emails = {"", "@", "a@b", "a@b.c", "a@b.c.", "a@.b.c", "a@b..c", "a@-b.c", "a@b-.c", "a@b-c.d",
+            "a.b@c.d", ".a@c.d", "a.@c.d", "a..b@c.d", "!#$%&'*+-/=?^_`{|}~@c.d", "a b@c.d", "a@b@c.d",
+            "a(b)@c.d", "a@b_c.d", "123@145.678", "\u00e9@c.d"};
+        for (String email : emails) {
+            assertEquals(email.matches(Email.VALIDATION_REGEX), ValidationUtil.isDotAtomEmail(email), email);
+        }
+    }
+
+    @Test
+    public void isNonBlank_validInputs_correctResult() {
+        assertFalse(ValidationUtil.isNonBlank("", 5));
+        assertFalse(ValidationUtil.isNonBlank(" \t\n", 5));
+        assertTrue(ValidationUtil.isNonBlank("  abcde  ", 5));
+        assertFalse(ValidationUtil.isNonBlank("abcdef", 5));
+        assertTrue(ValidationUtil.isNonBlank(" a b ", 3));
+    }
+}
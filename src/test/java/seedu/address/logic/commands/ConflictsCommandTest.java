@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalFeedingSessions.getTypicalAddressBook;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.feedingsession.FeedingSession;
+import seedu.address.testutil.TypicalAnimals;
+import seedu.address.testutil.TypicalFeedingSessions;
+import seedu.address.testutil.TypicalPersons;
+
+public class ConflictsCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noOverlaps_showsNoConflicts() {
+        assertEquals(ConflictsCommand.MESSAGE_NO_CONFLICTS, new ConflictsCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_overlappingSessions_listsPairs() {
+        // Sessions loaded from storage are not checked for overlaps, so the report must find them
+        FeedingSession overlapping = new FeedingSession(TypicalAnimals.LUNA.getId(), TypicalPersons.ALICE.getId(),
+                LocalDateTime.of(2024, 1, 1, 7, 30), Optional.of(Duration.ofMinutes(45)));
+        model.addFeedingSession(overlapping);
+
+        String expectedMessage = String.format(ConflictsCommand.MESSAGE_SUCCESS, 1)
+                + "\n" + Messages.format(overlapping, model.getAddressBook())
+                + " overlaps " + Messages.format(TypicalFeedingSessions.FS1, model.getAddressBook());
+        assertEquals(expectedMessage, new ConflictsCommand().execute(model).getFeedbackToUser());
+    }
+}
@@ -6,11 +6,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalFeedingSessions.getTypicalAddressBook;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -20,6 +23,7 @@ import seedu.address.model.animal.Animal;
 import seedu.address.model.feedingsession.FeedingSession;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.TypicalAnimals;
+import seedu.address.testutil.TypicalFeedingSessions;
 import seedu.address.testutil.TypicalPersons;
 
 public class FeedCommandTest {
@@ -113,6 +117,65 @@ public class FeedCommandTest {
         assertEquals(FeedCommand.MESSAGE_DUPLICATE_FEEDING_SESSION, ex.getMessage());
     }
 
+    // Reject a session that books the same person while they are still feeding another animal
+    @Test
+    public void execute_overlappingSessionOfSamePerson_throwsCommandException() {
+        FeedCommand command = new FeedCommand(TypicalPersons.ALICE.getName(), TypicalAnimals.LUNA.getName(),
+                LocalDateTime.of(2024, 1, 1, 7, 50), Optional.of(Duration.ofMinutes(15)));
+
+        CommandException ex = assertThrows(CommandException.class, () -> command.execute(model));
+        assertEquals(String.format(FeedCommand.MESSAGE_OVERLAPPING_SESSION, TypicalPersons.ALICE.getName(),
+                Messages.format(TypicalFeedingSessions.FS1, model.getAddressBook())), ex.getMessage());
+    }
+
+    // Sessions without a duration take up the minute they start in, so two in the same minute overlap
+    @Test
+    public void execute_sameMinuteWithoutDurations_throwsCommandException() {
+        FeedCommand command = new FeedCommand(TypicalPersons.ALICE.getName(), TypicalAnimals.LUNA.getName(),
+                LocalDateTime.of(2024, 1, 1, 8, 0));
+
+        CommandException ex = assertThrows(CommandException.class, () -> command.execute(model));
+        assertEquals(String.format(FeedCommand.MESSAGE_OVERLAPPING_SESSION, TypicalPersons.ALICE.getName(),
+                Messages.format(TypicalFeedingSessions.FS1, model.getAddressBook())), ex.getMessage());
+    }
+
+    @Test
+    public void execute_nextMinuteWithoutDurations_success() throws Exception {
+        LocalDateTime feedingTime = LocalDateTime.of(2024, 1, 1, 8, 1);
+        FeedCommand command = new FeedCommand(TypicalPersons.ALICE.getName(), TypicalAnimals.LUNA.getName(),
+                feedingTime);
+
+        command.execute(model);
+
+        assertTrue(model.hasFeedingSessionByDetails(TypicalAnimals.LUNA.getId(), TypicalPersons.ALICE.getId(),
+                feedingTime));
+    }
+
+    // A session that ends exactly when another starts does not overlap it
+    @Test
+    public void execute_sessionEndingAsAnotherStarts_success() throws Exception {
+        LocalDateTime feedingTime = LocalDateTime.of(2024, 1, 1, 7, 45);
+        FeedCommand command = new FeedCommand(TypicalPersons.ALICE.getName(), TypicalAnimals.LUNA.getName(),
+                feedingTime, Optional.of(Duration.ofMinutes(15)));
+
+        command.execute(model);
+
+        assertTrue(model.hasFeedingSessionByDetails(TypicalAnimals.LUNA.getId(), TypicalPersons.ALICE.getId(),
+                feedingTime));
+    }
+
+    // Another person may feed at the same time
+    @Test
+    public void execute_sameTimeDifferentPerson_success() throws Exception {
+        FeedCommand command = new FeedCommand(TypicalPersons.BENSON.getName(), TypicalAnimals.LUNA.getName(),
+                LocalDateTime.of(2024, 1, 1, 8, 0));
+
+        command.execute(model);
+
+        assertTrue(model.hasFeedingSessionByDetails(TypicalAnimals.LUNA.getId(), TypicalPersons.BENSON.getId(),
+                LocalDateTime.of(2024, 1, 1, 8, 0)));
+    }
+
     // Test equals method
     @Test
     public void equals() {
@@ -136,6 +199,9 @@ public class FeedCommandTest {
         assertFalse(cmd1.equals(diffPerson));
         assertFalse(cmd1.equals(diffAnimal));
         assertFalse(cmd1.equals(diffTime));
+
+        // different duration
+        assertFalse(cmd1.equals(new FeedCommand(personA, animalMax, time, Optional.of(Duration.ofMinutes(10)))));
     }
 
     // Test equals method (other == this) branch
@@ -175,6 +241,7 @@ public class FeedCommandTest {
                 + "personName=" + personName
                 + ", animalName=" + animalName
                 + ", feedingTime=" + feedingTime
+                + ", duration=" + Optional.empty()
                 + "}";
 
         assertEquals(expected, cmd.toString());
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalFeedingSessions.getTypicalAddressBook;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.TypicalAnimals;
+import seedu.address.testutil.TypicalPersons;
+
+public class NextCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_sessionsAfterNow_listsEarliestFirst() {
+        Clock clock = clockAt(LocalDateTime.of(2024, 2, 15, 12, 0));
+        CommandResult result = new NextCommand(2, clock).execute(model);
+
+        String expectedMessage = String.format(NextCommand.MESSAGE_SUCCESS, 2)
+                + "\n15 Feb 2024, 12:00: " + TypicalPersons.BENSON.getName() + " fed " + TypicalAnimals.LUNA.getName()
+                + "\n20 Mar 2024, 18:30: " + TypicalPersons.CARL.getName() + " fed "
+                + TypicalAnimals.WHISKERS.getName();
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_fewerSessionsThanCount_listsAllRemaining() {
+        Clock clock = clockAt(LocalDateTime.of(2024, 4, 1, 0, 0));
+        CommandResult result = new NextCommand(NextCommand.DEFAULT_COUNT, clock).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(NextCommand.MESSAGE_SUCCESS, 2)));
+    }
+
+    @Test
+    public void execute_noSessionsAfterNow_showsNoUpcomingSessions() {
+        Clock clock = clockAt(LocalDateTime.of(2025, 1, 1, 0, 0));
+        assertEquals(NextCommand.MESSAGE_NO_UPCOMING_SESSIONS,
+                new NextCommand(1, clock).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void constructor_nonPositiveCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NextCommand(0));
+    }
+
+    @Test
+    public void equals() {
+        NextCommand command = new NextCommand(3);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new NextCommand(3, clockAt(LocalDateTime.of(2024, 1, 1, 0, 0)))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new NextCommand(4)));
+    }
+
+    private static Clock clockAt(LocalDateTime dateTime) {
+        return Clock.fixed(dateTime.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    }
+}
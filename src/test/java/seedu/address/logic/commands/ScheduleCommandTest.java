@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalFeedingSessions.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Name;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.feedingsession.FeedingSession;
+import seedu.address.testutil.TypicalAnimals;
+import seedu.address.testutil.TypicalPersons;
+
+public class ScheduleCommandTest {
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 8, 0);
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Name alice = TypicalPersons.ALICE.getName();
+    private final Name max = TypicalAnimals.MAX.getName();
+
+    @Test
+    public void execute_validSchedule_plansFeedingsWithoutStoringThem() throws Exception {
+        int storedSessions = model.getFeedingSessionList().size();
+        CommandResult result = new ScheduleCommand(alice, max, START, 1).execute(model);
+
+        assertEquals(String.format(ScheduleCommand.MESSAGE_SUCCESS, alice, max, 1, "08:00", "01 Jan 2030, 08:00"),
+                result.getFeedbackToUser());
+        assertEquals(1, model.getFeedingScheduleList().size());
+        assertEquals(storedSessions, model.getFeedingSessionList().size());
+        assertEquals(List.of(START, START.plusDays(1), START.plusDays(2)), model.getAddressBook()
+                .getFeedingsFrom(START.minusHours(1)).limit(3)
+                .map(FeedingSession::getDateTime).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void execute_feedingRecorded_notListedTwice() throws Exception {
+        new ScheduleCommand(alice, max, START, 1).execute(model);
+        new FeedCommand(alice, max, START.plusDays(1)).execute(model);
+
+        List<FeedingSession> feedings = model.getAddressBook().getFeedingsFrom(START).limit(3)
+                .collect(Collectors.toList());
+        assertEquals(List.of(START, START.plusDays(1), START.plusDays(2)),
+                feedings.stream().map(FeedingSession::getDateTime).collect(Collectors.toList()));
+        assertTrue(model.getFeedingSessionList().contains(feedings.get(1)));
+    }
+
+    @Test
+    public void execute_alreadyScheduled_throwsCommandException() throws Exception {
+        new ScheduleCommand(alice, max, START, 2).execute(model);
+        ScheduleCommand overlapping = new ScheduleCommand(alice, max, START.plusDays(4), 1);
+        CommandException ex = assertThrows(CommandException.class, () -> overlapping.execute(model));
+        assertEquals(ScheduleCommand.MESSAGE_DUPLICATE_SCHEDULE, ex.getMessage());
+    }
+
+    @Test
+    public void execute_deleteAnimal_removesItsSchedules() throws Exception {
+        new ScheduleCommand(alice, max, START, 1).execute(model);
+        model.deleteAnimal(model.getAnimalByName(max, false));
+        assertTrue(model.getFeedingScheduleList().isEmpty());
+
+        model.undo();
+        assertEquals(1, model.getFeedingScheduleList().size());
+    }
+
+    @Test
+    public void equals() {
+        ScheduleCommand command = new ScheduleCommand(alice, max, START, 1);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ScheduleCommand(alice, max, START, 1)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new ScheduleCommand(alice, max, START, 2)));
+        assertFalse(command.equals(new ScheduleCommand(alice, max, START.plusHours(1), 1)));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalFeedingSessions.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Name;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.TypicalAnimals;
+import seedu.address.testutil.TypicalPersons;
+
+public class SessionsCommandTest {
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2024, 1, 1, 8, 0);
+    private static final LocalDateTime MARCH = LocalDateTime.of(2024, 3, 20, 18, 30);
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_rangeWithBoundarySessions_listsSessionsInclusively() throws Exception {
+        CommandResult result = new SessionsCommand(JANUARY, MARCH, Optional.empty(), Optional.empty())
+                .execute(model);
+
+        String expectedMessage = String.format(SessionsCommand.MESSAGE_SUCCESS, 3,
+                "01 Jan 2024, 08:00", "20 Mar 2024, 18:30")
+                + "\n01 Jan 2024, 08:00: " + TypicalPersons.ALICE.getName() + " fed " + TypicalAnimals.MAX.getName()
+                + "\n15 Feb 2024, 12:00: " + TypicalPersons.BENSON.getName() + " fed " + TypicalAnimals.LUNA.getName()
+                + "\n20 Mar 2024, 18:30: " + TypicalPersons.CARL.getName() + " fed "
+                + TypicalAnimals.WHISKERS.getName();
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_animalAndPersonGiven_listsOnlyTheirSessions() throws Exception {
+        Name max = TypicalAnimals.MAX.getName();
+        CommandResult result = new SessionsCommand(JANUARY, MARCH, Optional.of(max),
+                Optional.of(TypicalPersons.ALICE.getName())).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(SessionsCommand.MESSAGE_SUCCESS, 1,
+                "01 Jan 2024, 08:00", "20 Mar 2024, 18:30")));
+
+        result = new SessionsCommand(JANUARY, MARCH, Optional.of(max),
+                Optional.of(TypicalPersons.BENSON.getName())).execute(model);
+        assertEquals(String.format(SessionsCommand.MESSAGE_SUCCESS, 0, "01 Jan 2024, 08:00", "20 Mar 2024, 18:30"),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_nonExistentAnimal_throwsCommandException() {
+        Name missingAnimal = new Name("Non Existent Animal");
+        SessionsCommand command = new SessionsCommand(JANUARY, MARCH, Optional.of(missingAnimal), Optional.empty());
+
+        CommandException ex = assertThrows(CommandException.class, () -> command.execute(model));
+        assertEquals(String.format(Messages.MESSAGE_ANIMAL_NOT_FOUND_FOR_FEED, missingAnimal), ex.getMessage());
+    }
+
+    @Test
+    public void constructor_fromAfterTo_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new SessionsCommand(MARCH, JANUARY, Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    public void equals() {
+        SessionsCommand command = new SessionsCommand(JANUARY, MARCH, Optional.empty(), Optional.empty());
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new SessionsCommand(JANUARY, MARCH, Optional.empty(), Optional.empty())));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new SessionsCommand(JANUARY, JANUARY, Optional.empty(), Optional.empty())));
+        assertFalse(command.equals(new SessionsCommand(JANUARY, MARCH, Optional.of(TypicalAnimals.MAX.getName()),
+                Optional.empty())));
+    }
+}
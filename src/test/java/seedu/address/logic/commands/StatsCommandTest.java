@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalFeedingSessions.getTypicalAddressBook;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Name;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.feedingsession.FeedingSession;
+import seedu.address.testutil.TypicalAnimals;
+import seedu.address.testutil.TypicalPersons;
+
+public class StatsCommandTest {
+    // A Thursday, in the week from Monday 12 February 2024, the day Luna is fed by Benson at 12:00
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 2, 15, 13, 0);
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_animal_showsCountsAndLastFeeding() throws Exception {
+        model.addFeedingSession(new FeedingSession(TypicalAnimals.LUNA.getId(), TypicalPersons.ALICE.getId(),
+                NOW.minusDays(2)));
+        StatsCommand command = new StatsCommand(Optional.of(TypicalAnimals.LUNA.getName()), Optional.empty(),
+                clockAt(NOW));
+
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, "15 Feb 2024", "12 Feb 2024")
+                + "\n" + TypicalAnimals.LUNA.getName() + ": 1 today, 2 this week, last fed 15 Feb 2024, 12:00";
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_person_showsCounts() throws Exception {
+        StatsCommand command = new StatsCommand(Optional.empty(), Optional.of(TypicalPersons.BENSON.getName()),
+                clockAt(NOW.plusDays(7)));
+
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, "22 Feb 2024", "19 Feb 2024")
+                + "\n" + TypicalPersons.BENSON.getName() + ": 0 today, 0 this week";
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_everyone_showsTotalsAndEveryAnimalAndPerson() throws Exception {
+        String result = new StatsCommand(Optional.empty(), Optional.empty(), clockAt(NOW)).execute(model)
+                .getFeedbackToUser();
+
+        assertTrue(result.contains("\nAll feedings: 1 today, 1 this week"));
+        assertTrue(result.contains("\n" + TypicalAnimals.MAX.getName() + ": 0 today, 0 this week, "
+                + "last fed 01 Jan 2024, 08:00"));
+        assertTrue(result.contains("\n" + TypicalAnimals.BELLA.getName() + ": 0 today, 0 this week, never fed"));
+        assertTrue(result.contains("\n" + TypicalPersons.BENSON.getName() + ": 1 today, 1 this week"));
+    }
+
+    @Test
+    public void execute_unknownAnimal_throwsCommandException() {
+        StatsCommand command = new StatsCommand(Optional.of(new Name("Nobody")), Optional.empty());
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand command = new StatsCommand(Optional.of(new Name("Max")), Optional.empty());
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new StatsCommand(Optional.of(new Name("Max")), Optional.empty(), clockAt(NOW))));
+        assertFalse(command.equals(new StatsCommand(Optional.empty(), Optional.empty())));
+        assertFalse(command.equals(new StatsCommand(Optional.of(new Name("Max")), Optional.of(new Name("Bob")))));
+        assertFalse(command.equals(null));
+    }
+
+    private static Clock clockAt(LocalDateTime dateTime) {
+        return Clock.fixed(dateTime.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    }
+}
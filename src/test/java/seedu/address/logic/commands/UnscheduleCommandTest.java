@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalFeedingSessions.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Name;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.feedingsession.FeedingSession;
+import seedu.address.testutil.TypicalAnimals;
+import seedu.address.testutil.TypicalPersons;
+
+public class UnscheduleCommandTest {
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 8, 0);
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Name alice = TypicalPersons.ALICE.getName();
+    private final Name max = TypicalAnimals.MAX.getName();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        new ScheduleCommand(alice, max, START, 1).execute(model);
+        new ScheduleCommand(alice, max, START.plusHours(10), 1).execute(model);
+    }
+
+    @Test
+    public void execute_noDateTime_removesAllSchedulesOfPair() throws Exception {
+        CommandResult result = new UnscheduleCommand(alice, max, Optional.empty()).execute(model);
+
+        assertEquals(String.format(UnscheduleCommand.MESSAGE_SUCCESS, 2, max, alice), result.getFeedbackToUser());
+        assertTrue(model.getFeedingScheduleList().isEmpty());
+
+        model.undo();
+        assertEquals(2, model.getFeedingScheduleList().size());
+    }
+
+    @Test
+    public void execute_dateTime_skipsOnlyThatFeeding() throws Exception {
+        LocalDateTime skipped = START.plusDays(1);
+        CommandResult result = new UnscheduleCommand(alice, max, Optional.of(skipped)).execute(model);
+
+        assertEquals(String.format(UnscheduleCommand.MESSAGE_SKIPPED, max, alice, "02 Jan 2030, 08:00"),
+                result.getFeedbackToUser());
+        assertEquals(List.of(START, START.plusHours(10), START.plusDays(1).plusHours(10), START.plusDays(2)),
+                model.getAddressBook().getFeedingsFrom(START).limit(4)
+                        .map(FeedingSession::getDateTime).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void execute_noFeedingScheduledAtDateTime_throwsCommandException() {
+        LocalDateTime notScheduled = START.plusMinutes(30);
+        UnscheduleCommand command = new UnscheduleCommand(alice, max, Optional.of(notScheduled));
+
+        CommandException ex = assertThrows(CommandException.class, () -> command.execute(model));
+        assertEquals(String.format(UnscheduleCommand.MESSAGE_NO_SCHEDULED_FEEDING, max, alice,
+                "01 Jan 2030, 08:30"), ex.getMessage());
+    }
+
+    @Test
+    public void execute_noSchedule_throwsCommandException() {
+        Name benson = TypicalPersons.BENSON.getName();
+        UnscheduleCommand command = new UnscheduleCommand(benson, max, Optional.empty());
+
+        CommandException ex = assertThrows(CommandException.class, () -> command.execute(model));
+        assertEquals(String.format(UnscheduleCommand.MESSAGE_NO_SCHEDULE, max, benson), ex.getMessage());
+    }
+
+    @Test
+    public void equals() {
+        UnscheduleCommand command = new UnscheduleCommand(alice, max, Optional.empty());
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new UnscheduleCommand(alice, max, Optional.empty())));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new UnscheduleCommand(alice, max, Optional.of(START))));
+    }
+}
@@ -18,6 +18,7 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.parser.Type;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -140,8 +141,8 @@ public class ViewCommandTest {
         String nameWithSpaces = " " + ALICE.getName().toString() + " ";
         ViewCommand viewCommand = new ViewCommand(TYPE_PERSON, nameWithSpaces);
 
-        assertCommandFailure(viewCommand, model,
-            String.format(ViewCommand.MESSAGE_PERSON_NOT_FOUND, nameWithSpaces));
+        assertCommandFailure(viewCommand, model, Messages.withSuggestions(
+            String.format(ViewCommand.MESSAGE_PERSON_NOT_FOUND, nameWithSpaces), List.of(ALICE)));
     }
 
     @Test
@@ -155,8 +156,8 @@ public class ViewCommandTest {
     public void execute_partialPersonName_throwsCommandException() {
         String partialName = "Alice"; // Only first name
         ViewCommand viewCommand = new ViewCommand(TYPE_PERSON, partialName);
-        assertCommandFailure(viewCommand, model,
-            String.format(ViewCommand.MESSAGE_PERSON_NOT_FOUND, partialName));
+        assertCommandFailure(viewCommand, model, Messages.withSuggestions(
+            String.format(ViewCommand.MESSAGE_PERSON_NOT_FOUND, partialName), List.of(ALICE)));
     }
 
     // Execute Animal Tests - Basic tests without complex animal creation
@@ -271,4 +272,11 @@ public class ViewCommandTest {
         String expected = ViewCommand.class.getCanonicalName() + "{type=" + type + ", name=" + name + "}";
         assertEquals(expected, viewCommand.toString());
     }
+
+    @Test
+    public void execute_misspeltPersonName_suggestsClosestNames() {
+        ViewCommand viewCommand = new ViewCommand(TYPE_PERSON, "Alcie Pauline");
+        assertCommandFailure(viewCommand, model, String.format(ViewCommand.MESSAGE_PERSON_NOT_FOUND, "Alcie Pauline")
+                + "\nDid you mean: Alice Pauline?");
+    }
 }
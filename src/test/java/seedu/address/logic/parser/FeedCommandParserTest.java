@@ -4,12 +4,15 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FeedCommand;
 import seedu.address.model.Name;
+import seedu.address.model.feedingsession.FeedingSession;
 
 public class FeedCommandParserTest {
 
@@ -111,4 +114,20 @@ public class FeedCommandParserTest {
         String input = " f/James Tan n/Max dt/2025-02-30 10:00"; // invalid date
         assertParseFailure(parser, input, "Date and Time should exist and must be in format: yyyy-MM-dd HH:mm");
     }
+
+    @Test
+    public void parse_durationPresent_success() {
+        String input = " f/James Tan n/Max dt/2025-12-25 09:00 dur/15";
+        FeedCommand expected = new FeedCommand(new Name("James Tan"), new Name("Max"),
+                LocalDateTime.of(2025, 12, 25, 9, 0), Optional.of(Duration.ofMinutes(15)));
+        assertParseSuccess(parser, input, expected);
+    }
+
+    @Test
+    public void parse_invalidDuration_failure() {
+        assertParseFailure(parser, " f/James Tan n/Max dt/2025-12-25 09:00 dur/0",
+                FeedingSession.MESSAGE_DURATION_CONSTRAINTS);
+        assertParseFailure(parser, " f/James Tan n/Max dt/2025-12-25 09:00 dur/ten",
+                FeedingSession.MESSAGE_DURATION_CONSTRAINTS);
+    }
 }
@@ -69,6 +69,15 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, "person n/Alice n/Bob n/Charlie n/Dave", expectedFindPersonCommand);
     }
 
+    @Test
+    public void parse_fuzzyPersonKeyword_returnsFuzzyFindPersonCommand() {
+        FindCommand<Person> expectedFindPersonCommand =
+                FindCommand.forPerson(new ContactContainsKeywordsPredicate<Person>(
+                        Arrays.asList("Alcie"), Collections.emptyList(), true));
+        assertParseSuccess(parser, "person fuzzy n/Alcie", expectedFindPersonCommand);
+        assertParseSuccess(parser, "person FUZZY n/Alcie", expectedFindPersonCommand);
+    }
+
     @Test
     public void parse_personTagsOnly_returnsFindPersonCommand() {
         FindCommand<Person> expectedFindPersonCommand =
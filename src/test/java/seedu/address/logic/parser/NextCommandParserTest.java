@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.NextCommand;
+
+public class NextCommandParserTest {
+
+    private final NextCommandParser parser = new NextCommandParser();
+
+    @Test
+    public void parse_emptyArgs_returnsDefaultCount() {
+        assertParseSuccess(parser, "  ", new NextCommand(NextCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_validCount_success() {
+        assertParseSuccess(parser, " 12 ", new NextCommand(12));
+    }
+
+    @Test
+    public void parse_invalidCount_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "-3", expectedMessage);
+        assertParseFailure(parser, "three", expectedMessage);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.UnscheduleCommand;
+import seedu.address.model.Name;
+import seedu.address.model.feedingsession.FeedingSchedule;
+
+public class ScheduleCommandParserTest {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 12, 25, 8, 0);
+    private static final Name PERSON = new Name("James Tan");
+    private static final Name ANIMAL = new Name("Max");
+
+    private final ScheduleCommandParser parser = new ScheduleCommandParser();
+    private final UnscheduleCommandParser unscheduleParser = new UnscheduleCommandParser();
+
+    @Test
+    public void parse_noInterval_dailySchedule() {
+        assertParseSuccess(parser, " n/Max f/James Tan dt/2025-12-25 08:00",
+                new ScheduleCommand(PERSON, ANIMAL, START, ScheduleCommand.DEFAULT_INTERVAL_DAYS));
+    }
+
+    @Test
+    public void parse_interval_success() {
+        assertParseSuccess(parser, " n/Max f/James Tan dt/2025-12-25 08:00 every/3",
+                new ScheduleCommand(PERSON, ANIMAL, START, 3));
+    }
+
+    @Test
+    public void parse_invalidInterval_failure() {
+        assertParseFailure(parser, " n/Max f/James Tan dt/2025-12-25 08:00 every/0",
+                FeedingSchedule.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " n/Max f/James Tan dt/2025-12-25 08:00 every/daily",
+                FeedingSchedule.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_missingDateTime_failure() {
+        assertParseFailure(parser, " n/Max f/James Tan",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parseUnschedule_optionalDateTime_success() {
+        assertParseSuccess(unscheduleParser, " n/Max f/James Tan",
+                new UnscheduleCommand(PERSON, ANIMAL, Optional.empty()));
+        assertParseSuccess(unscheduleParser, " n/Max f/James Tan dt/2025-12-25 08:00",
+                new UnscheduleCommand(PERSON, ANIMAL, Optional.of(START)));
+        assertParseFailure(unscheduleParser, " n/Max",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnscheduleCommand.MESSAGE_USAGE));
+    }
+}
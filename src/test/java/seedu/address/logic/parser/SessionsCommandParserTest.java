@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SessionsCommand;
+import seedu.address.model.Name;
+
+public class SessionsCommandParserTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 12, 24, 6, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 12, 24, 9, 0);
+
+    private final SessionsCommandParser parser = new SessionsCommandParser();
+
+    @Test
+    public void parse_rangeOnly_success() {
+        assertParseSuccess(parser, " from/2025-12-24 06:00 to/2025-12-24 09:00",
+                new SessionsCommand(FROM, TO, Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " f/James Tan to/2025-12-24 09:00 n/Max from/2025-12-24 06:00",
+                new SessionsCommand(FROM, TO, Optional.of(new Name("Max")), Optional.of(new Name("James Tan"))));
+    }
+
+    @Test
+    public void parse_missingTo_failure() {
+        assertParseFailure(parser, " from/2025-12-24 06:00 n/Max",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SessionsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_nonEmptyPreamble_failure() {
+        assertParseFailure(parser, " Max from/2025-12-24 06:00 to/2025-12-24 09:00",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SessionsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fromAfterTo_failure() {
+        assertParseFailure(parser, " from/2025-12-24 09:00 to/2025-12-24 06:00", SessionsCommand.MESSAGE_INVALID_RANGE);
+    }
+}
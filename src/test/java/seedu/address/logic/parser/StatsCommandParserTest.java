@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.Name;
+
+public class StatsCommandParserTest {
+
+    private final StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsStatsOfEveryone() {
+        assertParseSuccess(parser, "  ", new StatsCommand(Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_names_returnsStatsOfThem() {
+        assertParseSuccess(parser, " n/Max f/James Tan",
+                new StatsCommand(Optional.of(new Name("Max")), Optional.of(new Name("James Tan"))));
+    }
+
+    @Test
+    public void parse_preamble_failure() {
+        assertParseFailure(parser, " Max",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalFeedingSessions.FS1;
+import static seedu.address.testutil.TypicalFeedingSessions.FS2;
+import static seedu.address.testutil.TypicalFeedingSessions.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TypicalAnimals;
+import seedu.address.testutil.TypicalPersons;
+
+public class AddressBookSnapshotTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+
+    @Test
+    public void lookups_matchAddressBook() {
+        assertEquals(TypicalPersons.ALICE, snapshot.getPersonById(TypicalPersons.ALICE.getId()));
+        assertEquals(TypicalAnimals.MAX, snapshot.getAnimalById(TypicalAnimals.MAX.getId()));
+        assertEquals(List.of(FS1), List.copyOf(snapshot.getFeedingSessionsForPerson(TypicalPersons.ALICE.getId())));
+        assertEquals(List.of(FS2), List.copyOf(snapshot.getFeedingSessionsForAnimal(TypicalAnimals.LUNA.getId())));
+        assertEquals(List.copyOf(addressBook.getFeedingSessionsFrom(FS2.getDateTime())),
+                List.copyOf(snapshot.getFeedingSessionsFrom(FS2.getDateTime())));
+        assertEquals(List.of(FS1, FS2), List.copyOf(snapshot.getFeedingSessionsBetween(FS1.getDateTime(),
+                FS2.getDateTime())));
+        assertEquals(List.of(), snapshot.getOverlappingFeedingSessions());
+    }
+
+    @Test
+    public void addressBookChangedAfterwards_snapshotUnchanged() {
+        addressBook.removeFeedingSession(FS1);
+        addressBook.removePerson(TypicalPersons.ALICE);
+
+        assertEquals(TypicalPersons.ALICE, snapshot.getPersonById(TypicalPersons.ALICE.getId()));
+        assertEquals(List.of(FS1), List.copyOf(snapshot.getFeedingSessionsForPerson(TypicalPersons.ALICE.getId())));
+        assertEquals(1, snapshot.getFeedingStatistics().getDailyCount(FS1.getDateTime().toLocalDate()));
+        assertNull(addressBook.getPersonById(TypicalPersons.ALICE.getId()));
+    }
+
+    @Test
+    public void lists_cannotBeModified() {
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () ->
+                snapshot.getFeedingSessionsForPerson(TypicalPersons.ALICE.getId()).clear());
+    }
+}
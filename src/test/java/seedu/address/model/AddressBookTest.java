@@ -2,23 +2,39 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAnimals.LUNA;
+import static seedu.address.testutil.TypicalAnimals.WHISKERS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.animal.Animal;
+import seedu.address.model.feedingsession.FeedingSchedule;
+import seedu.address.model.feedingsession.FeedingSession;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -86,12 +102,98 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_noChangeInBetween_returnsSameSnapshot() {
+        addressBook.addPerson(ALICE);
+        assertSame(addressBook.getSnapshot(), addressBook.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_addressBookChangedAfterwards_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+
+        addressBook.removePerson(ALICE);
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertNotSame(snapshot, addressBook.getSnapshot());
+        assertEquals(Collections.emptyList(), addressBook.getSnapshot().getPersonList());
+    }
+
+    @Test
+    public void batch_severalChanges_notifiesListenersOnce() {
+        List<Observable> notifications = new ArrayList<>();
+        addressBook.addListener(notifications::add);
+
+        addressBook.batch(() -> {
+            addressBook.addPerson(ALICE);
+            addressBook.addPerson(BOB);
+            addressBook.removePerson(ALICE);
+        });
+        assertEquals(List.of(addressBook), notifications);
+
+        addressBook.batch(() -> { });
+        assertEquals(1, notifications.size());
+
+        addressBook.removePerson(BOB);
+        assertEquals(2, notifications.size());
+    }
+
+    @Test
+    public void getFeedingStatistics_sessionAdded_updatedBeforeListenersNotified() {
+        LocalDateTime time = LocalDateTime.of(2024, 12, 4, 8, 0);
+        UUID animalId = UUID.randomUUID();
+        List<Integer> countsSeen = new ArrayList<>();
+        addressBook.getFeedingStatistics();
+        addressBook.addListener(observable -> countsSeen.add(
+                addressBook.getFeedingStatistics().getDailyCountForAnimal(animalId, time.toLocalDate())));
+
+        addressBook.addFeedingSession(new FeedingSession(animalId, ALICE.getId(), time));
+
+        assertEquals(List.of(1), countsSeen);
+        assertSame(addressBook.getFeedingStatistics(), addressBook.getFeedingStatistics());
+    }
+
+    @Test
+    public void getFeedingStatistics_animalsAddedAndRemoved_animalsNotFedFollow() {
+        LocalDateTime time = LocalDateTime.of(2024, 12, 4, 8, 0);
+        addressBook.addAnimal(WHISKERS);
+        Set<UUID> unfed = addressBook.getFeedingStatistics().getAnimalsNotFedOn(time.toLocalDate());
+
+        addressBook.addAnimal(LUNA);
+        addressBook.addFeedingSession(new FeedingSession(LUNA.getId(), ALICE.getId(), time));
+        assertEquals(Set.of(WHISKERS.getId()), unfed);
+
+        addressBook.removeAnimal(WHISKERS);
+        assertEquals(Set.of(), unfed);
+    }
+
+    @Test
+    public void removeFeedingSession_mostSessionsRemoved_linksRenumberedAndKept() {
+        LocalDateTime time = LocalDateTime.of(2024, 12, 4, 8, 0);
+        addressBook.addPerson(ALICE);
+        FeedingSession kept = new FeedingSession(LUNA.getId(), ALICE.getId(), time);
+        addressBook.addFeedingSession(kept);
+        addressBook.setPerson(ALICE, ALICE.addFeedingSessionId(kept.getId()));
+
+        for (int i = 1; i <= 100; i++) {
+            FeedingSession removed = new FeedingSession(LUNA.getId(), ALICE.getId(), time.plusHours(i));
+            addressBook.addFeedingSession(removed);
+            addressBook.removeFeedingSession(removed);
+        }
+
+        Person alice = addressBook.getPersonById(ALICE.getId());
+        assertEquals(Set.of(kept.getId()), alice.getFeedingSessionIds());
+        assertEquals(List.of(kept), List.copyOf(addressBook.getFeedingSessionsForPerson(ALICE.getId())));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName()
                 + "{persons=" + addressBook.getPersonList()
                 + ", animals=" + addressBook.getAnimalList()
-                + ", feedingSessions=" + addressBook.getFeedingSessionList() + "}";
+                + ", feedingSessions=" + addressBook.getFeedingSessionList()
+                + ", feedingSchedules=" + addressBook.getFeedingScheduleList() + "}";
         assertEquals(expected, addressBook.toString());
     }
 
@@ -103,6 +205,7 @@ public class AddressBookTest {
         private final ObservableList<Animal> animals = FXCollections.observableArrayList();
         private final ObservableList<seedu.address.model.feedingsession.FeedingSession> feedingSessions =
                 FXCollections.observableArrayList();
+        private final ObservableList<FeedingSchedule> feedingSchedules = FXCollections.observableArrayList();
 
         AddressBookStub(Collection<Person> persons) {
             this.persons.setAll(persons);
@@ -122,6 +225,72 @@ public class AddressBookTest {
         public ObservableList<seedu.address.model.feedingsession.FeedingSession> getFeedingSessionList() {
             return feedingSessions;
         }
+
+        @Override
+        public ObservableList<FeedingSchedule> getFeedingScheduleList() {
+            return feedingSchedules;
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getPersonById(UUID id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Animal getAnimalById(UUID id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public NavigableSet<seedu.address.model.feedingsession.FeedingSession> getFeedingSessionsBetween(
+                java.time.LocalDateTime from, java.time.LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public NavigableSet<seedu.address.model.feedingsession.FeedingSession> getFeedingSessionsFrom(
+                java.time.LocalDateTime from) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public NavigableSet<seedu.address.model.feedingsession.FeedingSession> getFeedingSessionsForAnimal(
+                UUID animalId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public NavigableSet<seedu.address.model.feedingsession.FeedingSession> getFeedingSessionsForPerson(
+                UUID personId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public seedu.address.model.feedingsession.FeedingStatistics getFeedingStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Map.Entry<seedu.address.model.feedingsession.FeedingSession,
+                seedu.address.model.feedingsession.FeedingSession>> getOverlappingFeedingSessions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Stream<seedu.address.model.feedingsession.FeedingSession> getScheduledFeedingsFrom(
+                java.time.LocalDateTime from) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
@@ -328,6 +328,28 @@ public class ContactContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new AnimalBuilder().withName("Whiskers").build()));
     }
 
+    @Test
+    public void test_fuzzyNameKeywordWithTypo_returnsTrue() {
+        ContactContainsKeywordsPredicate<Person> predicate =
+                new ContactContainsKeywordsPredicate<>(List.of("Alcie"), List.of(), true);
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Carol").build()));
+
+        // not fuzzy -> typos do not match
+        assertFalse(new ContactContainsKeywordsPredicate<Person>(List.of("Alcie"), List.of())
+                .test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void usingIndexes_fuzzyNameKeyword_matchesSameContacts() {
+        ModelManager modelManager = new ModelManager();
+        Person alice = new PersonBuilder().withName("Alice Bob").build();
+        modelManager.addPerson(alice);
+        modelManager.updateFilteredPersonList(
+                new ContactContainsKeywordsPredicate<>(List.of("Alcie"), List.of(), true));
+        assertEquals(List.of(alice), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         List<String> nameKeywords = List.of("keyword1", "keyword2");
@@ -336,7 +358,7 @@ public class ContactContainsKeywordsPredicateTest {
                 new ContactContainsKeywordsPredicate<>(nameKeywords, tagKeywords);
 
         String expected = ContactContainsKeywordsPredicate.class.getCanonicalName()
-                + "{nameKeywords=" + nameKeywords + ", tagKeywords=" + tagKeywords + "}";
+                + "{nameKeywords=" + nameKeywords + ", tagKeywords=" + tagKeywords + ", fuzzy=false}";
         assertEquals(expected, predicate.toString());
     }
 }
@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzyNameIndexTest {
+
+    private final FuzzyNameIndex<Person> index = new FuzzyNameIndex<>();
+
+    @Test
+    public void search_negativeDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.search("alice", -1));
+    }
+
+    @Test
+    public void search_emptyIndex_returnsEmptyList() {
+        assertTrue(index.search("alice", 2).isEmpty());
+    }
+
+    @Test
+    public void search_typoInFullName_findsPerson() {
+        index.add(ALICE);
+        index.add(BENSON);
+        assertEquals(List.of(ALICE), index.search("Alcie  PAULINE", 2));
+        assertTrue(index.search("Alcie Pauline", 1).isEmpty());
+    }
+
+    @Test
+    public void search_typoInOneWord_findsPerson() {
+        index.add(ALICE);
+        index.add(BENSON);
+        assertEquals(List.of(BENSON), index.search("bensen", 1));
+    }
+
+    @Test
+    public void search_severalMatches_rankedByDistanceThenName() {
+        Person carla = new PersonBuilder().withName("Carla").withPhone("91234567").withEmail("carla@example.com")
+                .build();
+        Person carol = new PersonBuilder().withName("Carol").withPhone("91234568").withEmail("carol@example.com")
+                .build();
+        index.add(carol);
+        index.add(carla);
+        index.add(CARL);
+        assertEquals(List.of(CARL, carla, carol), index.search("carl", 2));
+    }
+
+    @Test
+    public void remove_manyPersons_searchOnlyFindsRemaining() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+        index.remove(ALICE);
+        index.remove(CARL);
+
+        assertTrue(index.search("alice", 2).isEmpty());
+        assertEquals(List.of(BENSON), index.search("benson meier", 0));
+
+        index.add(ALICE);
+        assertEquals(List.of(ALICE), index.search("alice", 0));
+    }
+
+    @Test
+    public void getMatches_indexChanges_reflectsChanges() {
+        Set<Person> matches = index.getMatches("bensen", 1);
+        assertTrue(matches.isEmpty());
+
+        index.add(BENSON);
+        assertTrue(matches.contains(BENSON));
+
+        index.clear();
+        assertFalse(matches.contains(BENSON));
+    }
+
+    @Test
+    public void maxDistanceFor() {
+        assertEquals(1, FuzzyNameIndex.maxDistanceFor("Max"));
+        assertEquals(1, FuzzyNameIndex.maxDistanceFor("Luna"));
+        assertEquals(2, FuzzyNameIndex.maxDistanceFor("Alice"));
+    }
+}
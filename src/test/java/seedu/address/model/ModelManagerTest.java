@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -10,12 +11,18 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.Observable;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalFeedingSessions;
 
 public class ModelManagerTest {
 
@@ -413,4 +420,124 @@ public class ModelManagerTest {
         assertTrue(updatedBob.getFeedingSessionIds().isEmpty(),
                 "Bob should have no feeding sessions after Buddy is deleted");
     }
+
+    @Test
+    public void undoRedo_deletePersonWithFeedingSessions_restoresExactState() {
+        modelManager = new ModelManager(TypicalFeedingSessions.getTypicalAddressBook(), new UserPrefs());
+        AddressBook original = new AddressBook(modelManager.getAddressBook());
+        Person target = modelManager.getPersonById(
+                modelManager.getFeedingSessionList().get(0).getPersonId());
+
+        modelManager.deletePerson(target);
+        AddressBook afterDelete = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.undo();
+        assertEquals(original, modelManager.getAddressBook());
+
+        modelManager.redo();
+        assertEquals(afterDelete, modelManager.getAddressBook());
+
+        modelManager.undo();
+        assertEquals(original, modelManager.getAddressBook());
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void undo_clearedAddressBook_restoresContents() {
+        modelManager = new ModelManager(TypicalFeedingSessions.getTypicalAddressBook(), new UserPrefs());
+        AddressBook original = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.saveState();
+        modelManager.setAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+
+        modelManager.undo();
+        assertEquals(original, modelManager.getAddressBook());
+        assertTrue(modelManager.canRedo());
+    }
+
+    @Test
+    public void setAddressBook_stepLargerThanByteBudget_notUndoable() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryBytes(64);
+        modelManager = new ModelManager(TypicalFeedingSessions.getTypicalAddressBook(), userPrefs);
+
+        modelManager.saveState();
+        modelManager.setAddressBook(new AddressBook());
+
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void transaction_severalChanges_singleUndoStepAndNotification() {
+        List<Observable> notifications = new ArrayList<>();
+        modelManager.getAddressBook().addListener(notifications::add);
+
+        modelManager.transaction(() -> {
+            modelManager.addPerson(ALICE);
+            modelManager.addPerson(BENSON);
+        });
+        assertEquals(1, notifications.size());
+
+        modelManager.undo();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void transaction_mutationsThrow_changesRevertedAndNoUndoStep() {
+        modelManager.addPerson(ALICE);
+        AddressBook before = new AddressBook(modelManager.getAddressBook());
+
+        assertThrows(IllegalStateException.class, () -> modelManager.transaction(() -> {
+            modelManager.addPerson(BENSON);
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(before, modelManager.getAddressBook());
+        modelManager.undo();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void updateFilteredPersonList_tagPredicate_followsLaterEdits() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonList(new ContactContainsKeywordsPredicate<>(List.of(), List.of("OWESMONEY")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        Person owingAlice = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        modelManager.setPerson(ALICE, owingAlice);
+        assertEquals(List.of(owingAlice, BENSON), modelManager.getFilteredPersonList());
+
+        Person paidBenson = new PersonBuilder(BENSON).withTags().build();
+        modelManager.setPerson(BENSON, paidBenson);
+        assertEquals(List.of(owingAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_namePredicate_followsLaterEdits() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonList(new ContactContainsKeywordsPredicate<>(List.of("MEIER", "z")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(renamedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getPersonByName_personHiddenByFilter_dependsOnIsShownOnly() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        Name aliceName = new Name(ALICE.getName().fullName.toLowerCase());
+        assertEquals(ALICE, modelManager.getPersonByName(aliceName, true));
+
+        modelManager.updateFilteredPersonList(new ContactContainsKeywordsPredicate<>(List.of("Meier")));
+        assertNull(modelManager.getPersonByName(aliceName, true));
+        assertEquals(ALICE, modelManager.getPersonByName(aliceName, false));
+        assertEquals(BENSON, modelManager.getPersonByName(BENSON.getName(), true));
+    }
 }
@@ -0,0 +1,149 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class UndoHistoryTest {
+
+    private final List<String> log = new ArrayList<>();
+
+    @Test
+    public void constructor_negativeLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistory(-1, 100));
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistory(1, -1));
+    }
+
+    @Test
+    public void push_beyondMaxDepth_evictsOldest() {
+        UndoHistory history = new UndoHistory(2, Long.MAX_VALUE);
+        history.push(stateNamed("first", 10));
+        history.push(stateNamed("second", 10));
+        history.push(stateNamed("third", 10));
+
+        assertEquals(2, history.getDepth());
+        history.undo();
+        history.undo();
+        assertFalse(history.canUndo());
+        assertEquals(List.of("undo third", "undo second"), log);
+    }
+
+    @Test
+    public void push_beyondByteBudget_evictsOldestUntilWithinBudget() {
+        UndoHistory history = new UndoHistory(10, 250);
+        history.push(stateNamed("first", 100));
+        history.push(stateNamed("second", 100));
+        history.push(stateNamed("third", 100));
+        history.push(new State());
+
+        assertEquals(3, history.getDepth());
+        assertEquals(200, history.getFootprint());
+    }
+
+    @Test
+    public void record_intoNewestStepBeyondByteBudget_evictsOldest() {
+        UndoHistory history = new UndoHistory(10, 250);
+        history.push(stateNamed("first", 100));
+        State second = new State();
+        history.push(second);
+        second.record(() -> log.add("undo second"), () -> log.add("redo second"), 200);
+
+        assertEquals(1, history.getDepth());
+        assertEquals(200, history.getFootprint());
+        history.undo();
+        assertFalse(history.canUndo());
+        assertEquals(List.of("undo second"), log);
+    }
+
+    @Test
+    public void record_singleStepLargerThanByteBudget_evictsStep() {
+        UndoHistory history = new UndoHistory(10, 250);
+        State state = new State();
+        history.push(state);
+        state.record(() -> log.add("undo first"), () -> log.add("redo first"), 300);
+
+        assertFalse(history.canUndo());
+        assertEquals(0, history.getFootprint());
+
+        // Changes recorded into a discarded step no longer count towards the footprint
+        state.record(() -> { }, () -> { }, 100);
+        assertEquals(0, history.getFootprint());
+    }
+
+    @Test
+    public void push_zeroDepth_keepsNothing() {
+        UndoHistory history = new UndoHistory(0, Long.MAX_VALUE);
+        history.push(stateNamed("first", 10));
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoRedo_movesStateBetweenStacks() {
+        UndoHistory history = new UndoHistory(5, Long.MAX_VALUE);
+        State state = stateNamed("first", 10);
+        history.push(state);
+
+        history.undo();
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+        assertEquals(10, history.getFootprint());
+
+        assertSame(state, history.redo());
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+        assertEquals(List.of("undo first", "redo first"), log);
+    }
+
+    @Test
+    public void push_afterUndo_discardsRedoableSteps() {
+        UndoHistory history = new UndoHistory(5, Long.MAX_VALUE);
+        history.push(stateNamed("first", 10));
+        history.undo();
+        history.push(stateNamed("second", 10));
+
+        assertFalse(history.canRedo());
+        assertEquals(10, history.getFootprint());
+    }
+
+    @Test
+    public void setLimits_lowerDepth_evictsOldest() {
+        UndoHistory history = new UndoHistory(5, Long.MAX_VALUE);
+        history.push(stateNamed("first", 10));
+        history.push(stateNamed("second", 10));
+        history.setLimits(1, Long.MAX_VALUE);
+
+        assertEquals(1, history.getDepth());
+        history.undo();
+        assertEquals(List.of("undo second"), log);
+    }
+
+    @Test
+    public void setLimits_redoableStepsOverByteBudget_evictsFurthestRedoableSteps() {
+        UndoHistory history = new UndoHistory(5, Long.MAX_VALUE);
+        history.push(stateNamed("first", 100));
+        history.push(stateNamed("second", 100));
+        history.push(stateNamed("third", 100));
+        history.undo();
+        history.undo();
+        history.setLimits(5, 150);
+
+        assertFalse(history.canUndo());
+        assertEquals(100, history.getFootprint());
+        history.redo();
+        assertFalse(history.canRedo());
+        assertEquals(List.of("undo third", "undo second", "redo second"), log);
+    }
+
+    private State stateNamed(String name, long bytes) {
+        State state = new State();
+        state.record(() -> log.add("undo " + name), () -> log.add("redo " + name), bytes);
+        return state;
+    }
+}
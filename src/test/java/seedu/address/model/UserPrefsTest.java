@@ -18,4 +18,11 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryLimits_negativeValues_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryDepth(-1));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryBytes(-1));
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.model.animal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAnimals.MAX;
@@ -10,9 +11,11 @@ import static seedu.address.testutil.TypicalAnimals.WHISKERS;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.Name;
 import seedu.address.model.animal.exceptions.AnimalNotFoundException;
 import seedu.address.model.animal.exceptions.DuplicateAnimalException;
 import seedu.address.testutil.AnimalBuilder;
@@ -160,6 +163,48 @@ public class UniqueAnimalListTest {
         assertThrows(DuplicateAnimalException.class, () -> uniqueAnimalList.setAnimals(listWithDuplicateAnimals));
     }
 
+    @Test
+    public void getById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueAnimalList.getById(null));
+    }
+
+    @Test
+    public void getById_animalInList_returnsAnimal() {
+        uniqueAnimalList.add(MAX);
+        assertEquals(MAX, uniqueAnimalList.getById(MAX.getId()));
+        assertNull(uniqueAnimalList.getById(UUID.randomUUID()));
+    }
+
+    @Test
+    public void getById_afterSetAnimal_returnsEditedAnimal() {
+        uniqueAnimalList.add(WHISKERS);
+        uniqueAnimalList.setAnimal(WHISKERS, MAX);
+        assertEquals(MAX, uniqueAnimalList.getById(MAX.getId()));
+        assertNull(uniqueAnimalList.getById(WHISKERS.getId()));
+    }
+
+    @Test
+    public void getByName_nameDiffersInCaseAndSpacing_returnsAnimal() {
+        uniqueAnimalList.add(WHISKERS);
+        Name name = new Name("  " + WHISKERS.getName().fullName.toUpperCase() + " ");
+        assertEquals(WHISKERS, uniqueAnimalList.getByName(name));
+        assertNull(uniqueAnimalList.getByName(MAX.getName()));
+
+        uniqueAnimalList.setAnimal(WHISKERS, MAX);
+        assertNull(uniqueAnimalList.getByName(name));
+        assertEquals(MAX, uniqueAnimalList.getByName(MAX.getName()));
+    }
+
+    @Test
+    public void getById_afterRemoveAndSetAnimals_reflectsContents() {
+        uniqueAnimalList.add(WHISKERS);
+        uniqueAnimalList.remove(WHISKERS);
+        assertNull(uniqueAnimalList.getById(WHISKERS.getId()));
+
+        uniqueAnimalList.setAnimals(Collections.singletonList(MAX));
+        assertEquals(MAX, uniqueAnimalList.getById(MAX.getId()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
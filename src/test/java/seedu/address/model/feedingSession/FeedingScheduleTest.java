@@ -0,0 +1,95 @@
+package seedu.address.model.feedingsession;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class FeedingScheduleTest {
+    private static final UUID ANIMAL_ID = UUID.randomUUID();
+    private static final UUID PERSON_ID = UUID.randomUUID();
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    private final FeedingSchedule everyTwoDays = new FeedingSchedule(ANIMAL_ID, PERSON_ID, START, 2);
+
+    @Test
+    public void constructor_nonPositiveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FeedingSchedule(ANIMAL_ID, PERSON_ID, START, 0));
+    }
+
+    @Test
+    public void occursAt() {
+        assertTrue(everyTwoDays.occursAt(START));
+        assertTrue(everyTwoDays.occursAt(START.plusDays(4)));
+        assertFalse(everyTwoDays.occursAt(START.minusDays(2)));
+        assertFalse(everyTwoDays.occursAt(START.plusDays(1)));
+        assertFalse(everyTwoDays.occursAt(START.plusDays(2).plusMinutes(1)));
+        assertFalse(everyTwoDays.skipping(START.plusDays(2)).occursAt(START.plusDays(2)));
+    }
+
+    @Test
+    public void getOccurrencesFrom_beforeStart_startsAtStart() {
+        assertEquals(List.of(START, START.plusDays(2), START.plusDays(4)),
+                firstDateTimes(everyTwoDays.getOccurrencesFrom(START.minusYears(1)), 3));
+    }
+
+    @Test
+    public void getOccurrencesFrom_betweenOccurrences_startsAtNextOccurrence() {
+        // later on the day of an occurrence
+        assertEquals(List.of(START.plusDays(4), START.plusDays(6)),
+                firstDateTimes(everyTwoDays.getOccurrencesFrom(START.plusDays(2).plusHours(1)), 2));
+        // exactly at an occurrence
+        assertEquals(List.of(START.plusDays(2)),
+                firstDateTimes(everyTwoDays.getOccurrencesFrom(START.plusDays(2)), 1));
+        // earlier on the day after an occurrence
+        assertEquals(List.of(START.plusDays(4)),
+                firstDateTimes(everyTwoDays.getOccurrencesFrom(START.plusDays(3).minusHours(1)), 1));
+    }
+
+    @Test
+    public void getOccurrencesFrom_skippedDates_leavesThemOut() {
+        FeedingSchedule skipping = everyTwoDays.skipping(START.plusDays(2)).skipping(START.plusDays(4));
+        assertEquals(List.of(START, START.plusDays(6)), firstDateTimes(skipping.getOccurrencesFrom(START), 2));
+        assertEquals(Set.of(START.plusDays(2).toLocalDate(), START.plusDays(4).toLocalDate()),
+                skipping.getSkippedDates());
+        assertThrows(IllegalArgumentException.class, () -> skipping.skipping(START.plusDays(2)));
+    }
+
+    @Test
+    public void getOccurrencesFrom_generatedTwice_sameSessions() {
+        FeedingSession first = everyTwoDays.getOccurrencesFrom(START).next();
+        FeedingSession again = everyTwoDays.getOccurrenceAt(START);
+        assertEquals(first, again);
+        assertEquals(ANIMAL_ID, first.getAnimalId());
+        assertEquals(PERSON_ID, first.getPersonId());
+        assertNotEquals(first, new FeedingSchedule(ANIMAL_ID, PERSON_ID, START, 2).getOccurrenceAt(START));
+    }
+
+    @Test
+    public void equals() {
+        FeedingSchedule copy = new FeedingSchedule(everyTwoDays.getId(), ANIMAL_ID, PERSON_ID, START, 2, Set.of());
+        assertTrue(everyTwoDays.equals(copy));
+        assertTrue(everyTwoDays.isSameFeedingSchedule(copy.skipping(START)));
+        assertFalse(everyTwoDays.equals(copy.skipping(START)));
+        assertFalse(everyTwoDays.equals(null));
+        assertFalse(everyTwoDays.isSameFeedingSchedule(new FeedingSchedule(ANIMAL_ID, PERSON_ID, START, 2)));
+    }
+
+    private static List<LocalDateTime> firstDateTimes(Iterator<FeedingSession> occurrences, int count) {
+        List<LocalDateTime> dateTimes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            dateTimes.add(occurrences.next().getDateTime());
+        }
+        return dateTimes;
+    }
+}
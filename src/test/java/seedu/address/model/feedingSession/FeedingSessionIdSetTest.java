@@ -0,0 +1,126 @@
+package seedu.address.model.feedingsession;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class FeedingSessionIdSetTest {
+
+    private static final UUID FIRST_ID = UUID.randomUUID();
+    private static final UUID SECOND_ID = UUID.randomUUID();
+
+    @Test
+    public void of_duplicateIds_keepsOne() {
+        FeedingSessionIdSet set = FeedingSessionIdSet.of(List.of(FIRST_ID, SECOND_ID, FIRST_ID));
+        assertEquals(Set.of(FIRST_ID, SECOND_ID), set);
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    public void of_feedingSessionIdSet_returnsSameSet() {
+        FeedingSessionIdSet set = FeedingSessionIdSet.of(Set.of(FIRST_ID));
+        assertSame(set, FeedingSessionIdSet.of(set));
+        assertSame(FeedingSessionIdSet.empty(), FeedingSessionIdSet.of(Set.of()));
+    }
+
+    @Test
+    public void contains_neverLinkedId_returnsFalse() {
+        FeedingSessionIdSet set = FeedingSessionIdSet.of(Set.of(FIRST_ID));
+        assertTrue(set.contains(FIRST_ID));
+        assertFalse(set.contains(UUID.randomUUID()));
+        assertFalse(set.contains("not an ID"));
+    }
+
+    @Test
+    public void withAndWithout_doNotModifyOriginal() {
+        FeedingSessionIdSet original = FeedingSessionIdSet.of(Set.of(FIRST_ID));
+        FeedingSessionIdSet added = original.with(SECOND_ID);
+        assertEquals(Set.of(FIRST_ID, SECOND_ID), added);
+        assertEquals(Set.of(FIRST_ID), original);
+
+        assertEquals(Set.of(SECOND_ID), added.without(FIRST_ID));
+        assertSame(added, added.with(FIRST_ID));
+        assertSame(added, added.without(UUID.randomUUID()));
+        assertSame(FeedingSessionIdSet.empty(), original.without(FIRST_ID));
+    }
+
+    @Test
+    public void equalsAndHashCode_matchOtherSets() {
+        FeedingSessionIdSet set = FeedingSessionIdSet.of(Set.of(FIRST_ID, SECOND_ID));
+        Set<UUID> hashSet = new HashSet<>(List.of(SECOND_ID, FIRST_ID));
+
+        assertEquals(hashSet, set);
+        assertEquals(set, hashSet);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+        assertEquals(set, FeedingSessionIdSet.empty().with(SECOND_ID).with(FIRST_ID));
+    }
+
+    @Test
+    public void modification_throwsUnsupportedOperationException() {
+        FeedingSessionIdSet set = FeedingSessionIdSet.of(Set.of(FIRST_ID));
+        assertThrows(UnsupportedOperationException.class, () -> set.add(SECOND_ID));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove(FIRST_ID));
+    }
+
+    @Test
+    public void withAndWithout_randomOperations_matchHashSet() {
+        Random random = new Random(24);
+        UUID[] ids = new UUID[50];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID();
+        }
+
+        FeedingSessionIdSet set = FeedingSessionIdSet.empty();
+        Set<UUID> expected = new HashSet<>();
+        for (int step = 0; step < 2000; step++) {
+            UUID id = ids[random.nextInt(ids.length)];
+            if (random.nextBoolean()) {
+                set = set.with(id);
+                expected.add(id);
+            } else {
+                set = set.without(id);
+                expected.remove(id);
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        assertEquals(expected, new HashSet<>(set));
+        assertEquals(expected.hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void withAndWithout_manyIds_matchSetBuiltAtOnce() {
+        List<UUID> ids = new ArrayList<>();
+        FeedingSessionIdSet set = FeedingSessionIdSet.empty();
+        for (int i = 0; i < 3000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            set = set.with(id);
+        }
+        assertEquals(FeedingSessionIdSet.of(ids), set);
+        assertEquals(new HashSet<>(ids), new HashSet<>(set));
+
+        List<UUID> remaining = new ArrayList<>(ids.subList(2000, 3000));
+        for (UUID id : ids.subList(0, 2000)) {
+            set = set.without(id);
+        }
+        assertEquals(FeedingSessionIdSet.of(remaining), set);
+        assertFalse(set.contains(ids.get(0)));
+        assertTrue(set.contains(ids.get(2999)));
+
+        for (UUID id : remaining) {
+            set = set.without(id);
+        }
+        assertSame(FeedingSessionIdSet.empty(), set);
+    }
+}
@@ -6,7 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -198,4 +200,38 @@ public class FeedingSessionTest {
                 VALID_SESSION_ID, VALID_ANIMAL_ID, VALID_PERSON_ID, VALID_DATE_TIME);
         assertEquals(expected, session.toString());
     }
+
+    @Test
+    public void constructor_invalidDuration_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FeedingSession(VALID_ANIMAL_ID, VALID_PERSON_ID,
+                VALID_DATE_TIME, Optional.of(Duration.ZERO)));
+    }
+
+    @Test
+    public void getEndTime() {
+        FeedingSession withoutDuration = new FeedingSession(VALID_ANIMAL_ID, VALID_PERSON_ID, VALID_DATE_TIME);
+        assertEquals(VALID_DATE_TIME.plus(FeedingSession.DEFAULT_OCCUPIED_DURATION), withoutDuration.getEndTime());
+
+        FeedingSession withDuration = new FeedingSession(VALID_ANIMAL_ID, VALID_PERSON_ID, VALID_DATE_TIME,
+                Optional.of(Duration.ofMinutes(20)));
+        assertEquals(VALID_DATE_TIME.plusMinutes(20), withDuration.getEndTime());
+    }
+
+    @Test
+    public void overlaps() {
+        FeedingSession session = new FeedingSession(VALID_ANIMAL_ID, VALID_PERSON_ID, VALID_DATE_TIME,
+                Optional.of(Duration.ofMinutes(20)));
+
+        // same minute, even without a duration
+        assertTrue(session.overlaps(new FeedingSession(VALID_ANIMAL_ID, VALID_PERSON_ID, VALID_DATE_TIME)));
+        // starts during the session
+        assertTrue(session.overlaps(new FeedingSession(VALID_ANIMAL_ID, VALID_PERSON_ID,
+                VALID_DATE_TIME.plusMinutes(19))));
+        // starts as the session ends
+        assertFalse(session.overlaps(new FeedingSession(VALID_ANIMAL_ID, VALID_PERSON_ID,
+                VALID_DATE_TIME.plusMinutes(20))));
+        // ends as the session starts
+        assertFalse(session.overlaps(new FeedingSession(VALID_ANIMAL_ID, VALID_PERSON_ID,
+                VALID_DATE_TIME.minusMinutes(10), Optional.of(Duration.ofMinutes(10)))));
+    }
 }
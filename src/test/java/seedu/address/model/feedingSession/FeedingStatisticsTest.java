@@ -0,0 +1,129 @@
+package seedu.address.model.feedingsession;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class FeedingStatisticsTest {
+
+    private static final UUID ANIMAL_ID_1 = UUID.randomUUID();
+    private static final UUID ANIMAL_ID_2 = UUID.randomUUID();
+    private static final UUID PERSON_ID_1 = UUID.randomUUID();
+    private static final UUID PERSON_ID_2 = UUID.randomUUID();
+    // A Wednesday, in the week from Monday 2 December 2024
+    private static final LocalDate WEDNESDAY = LocalDate.of(2024, 12, 4);
+
+    private final UniqueFeedingSessionList sessions = new UniqueFeedingSessionList();
+
+    @Test
+    public void getWeekStart_anyDay_returnsMonday() {
+        assertEquals(LocalDate.of(2024, 12, 2), FeedingStatistics.getWeekStart(WEDNESDAY));
+        assertEquals(LocalDate.of(2024, 12, 2), FeedingStatistics.getWeekStart(LocalDate.of(2024, 12, 2)));
+        assertEquals(LocalDate.of(2024, 12, 2), FeedingStatistics.getWeekStart(LocalDate.of(2024, 12, 8)));
+    }
+
+    @Test
+    public void constructor_existingSessions_countsThem() {
+        sessions.setFeedingSessions(List.of(
+                sessionAt(ANIMAL_ID_1, PERSON_ID_1, WEDNESDAY.atTime(8, 0)),
+                sessionAt(ANIMAL_ID_1, PERSON_ID_2, WEDNESDAY.atTime(18, 0)),
+                sessionAt(ANIMAL_ID_2, PERSON_ID_1, WEDNESDAY.plusDays(1).atTime(8, 0)),
+                sessionAt(ANIMAL_ID_2, PERSON_ID_1, WEDNESDAY.plusDays(7).atTime(8, 0))));
+
+        FeedingStatistics statistics = new FeedingStatistics(sessions);
+
+        assertEquals(2, statistics.getDailyCount(WEDNESDAY));
+        assertEquals(3, statistics.getWeeklyCount(WEDNESDAY));
+        assertEquals(2, statistics.getDailyCountForAnimal(ANIMAL_ID_1, WEDNESDAY));
+        assertEquals(0, statistics.getDailyCountForAnimal(ANIMAL_ID_2, WEDNESDAY));
+        assertEquals(1, statistics.getWeeklyCountForAnimal(ANIMAL_ID_2, WEDNESDAY));
+        assertEquals(1, statistics.getDailyCountForPerson(PERSON_ID_1, WEDNESDAY));
+        assertEquals(2, statistics.getWeeklyCountForPerson(PERSON_ID_1, WEDNESDAY));
+        assertEquals(0, statistics.getWeeklyCountForPerson(UUID.randomUUID(), WEDNESDAY));
+    }
+
+    @Test
+    public void onChanged_sessionsAddedRemovedAndReplaced_countsFollowList() {
+        FeedingStatistics statistics = new FeedingStatistics(sessions);
+        sessions.asUnmodifiableObservableList().addListener(statistics);
+        FeedingSession morning = sessionAt(ANIMAL_ID_1, PERSON_ID_1, WEDNESDAY.atTime(8, 0));
+        FeedingSession evening = sessionAt(ANIMAL_ID_1, PERSON_ID_1, WEDNESDAY.atTime(18, 0));
+
+        sessions.add(morning);
+        sessions.add(evening);
+        assertEquals(2, statistics.getDailyCountForAnimal(ANIMAL_ID_1, WEDNESDAY));
+
+        sessions.setFeedingSession(evening, new FeedingSession(evening.getId(), ANIMAL_ID_2, PERSON_ID_2,
+                WEDNESDAY.plusDays(1).atTime(18, 0)));
+        assertEquals(1, statistics.getDailyCountForAnimal(ANIMAL_ID_1, WEDNESDAY));
+        assertEquals(1, statistics.getWeeklyCountForPerson(PERSON_ID_2, WEDNESDAY));
+
+        sessions.remove(morning);
+        assertEquals(0, statistics.getDailyCount(WEDNESDAY));
+        assertEquals(1, statistics.getWeeklyCount(WEDNESDAY));
+
+        sessions.setFeedingSessions(List.of());
+        assertEquals(0, statistics.getWeeklyCount(WEDNESDAY));
+    }
+
+    @Test
+    public void getLastFeedingTime_pastAndFutureSessions_ignoresFuture() {
+        FeedingStatistics statistics = new FeedingStatistics(sessions);
+        sessions.asUnmodifiableObservableList().addListener(statistics);
+        FeedingSession latestPast = sessionAt(ANIMAL_ID_1, PERSON_ID_1, WEDNESDAY.atTime(8, 0));
+        sessions.add(sessionAt(ANIMAL_ID_1, PERSON_ID_2, WEDNESDAY.minusDays(1).atTime(8, 0)));
+        sessions.add(latestPast);
+        sessions.add(sessionAt(ANIMAL_ID_1, PERSON_ID_1, WEDNESDAY.atTime(18, 0)));
+        LocalDateTime noon = WEDNESDAY.atTime(12, 0);
+
+        assertEquals(Optional.of(latestPast.getDateTime()), statistics.getLastFeedingTime(ANIMAL_ID_1, noon));
+        assertEquals(Optional.empty(), statistics.getLastFeedingTime(ANIMAL_ID_2, noon));
+
+        sessions.remove(latestPast);
+        assertEquals(Optional.of(WEDNESDAY.minusDays(1).atTime(8, 0)),
+                statistics.getLastFeedingTime(ANIMAL_ID_1, noon));
+    }
+
+    @Test
+    public void getAnimalsNotFedOn_sessionsAndAnimalsChange_followsChanges() {
+        FeedingStatistics statistics = new FeedingStatistics(sessions, List.of(ANIMAL_ID_1, ANIMAL_ID_2));
+        sessions.asUnmodifiableObservableList().addListener(statistics);
+        FeedingSession morning = sessionAt(ANIMAL_ID_1, PERSON_ID_1, WEDNESDAY.atTime(8, 0));
+        Set<UUID> unfed = statistics.getAnimalsNotFedOn(WEDNESDAY);
+        assertEquals(Set.of(ANIMAL_ID_1, ANIMAL_ID_2), unfed);
+
+        sessions.add(morning);
+        sessions.add(sessionAt(ANIMAL_ID_2, PERSON_ID_1, WEDNESDAY.plusDays(1).atTime(8, 0)));
+        assertEquals(Set.of(ANIMAL_ID_2), unfed);
+
+        UUID newAnimalId = UUID.randomUUID();
+        statistics.addAnimal(newAnimalId);
+        statistics.removeAnimal(ANIMAL_ID_2);
+        assertEquals(Set.of(newAnimalId), unfed);
+
+        sessions.remove(morning);
+        assertEquals(Set.of(ANIMAL_ID_1, newAnimalId), unfed);
+    }
+
+    @Test
+    public void getAnimalsNotFedOn_differentDay_recomputed() {
+        sessions.add(sessionAt(ANIMAL_ID_1, PERSON_ID_1, WEDNESDAY.atTime(8, 0)));
+        sessions.add(sessionAt(ANIMAL_ID_2, PERSON_ID_1, WEDNESDAY.plusDays(1).atTime(8, 0)));
+        FeedingStatistics statistics = new FeedingStatistics(sessions, List.of(ANIMAL_ID_1, ANIMAL_ID_2));
+
+        assertEquals(Set.of(ANIMAL_ID_2), statistics.getAnimalsNotFedOn(WEDNESDAY));
+        assertEquals(Set.of(ANIMAL_ID_1), statistics.getAnimalsNotFedOn(WEDNESDAY.plusDays(1)));
+        assertEquals(Set.of(), new FeedingStatistics(sessions).getAnimalsNotFedOn(WEDNESDAY));
+    }
+
+    private static FeedingSession sessionAt(UUID animalId, UUID personId, LocalDateTime dateTime) {
+        return new FeedingSession(animalId, personId, dateTime);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.feedingsession;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class SessionIntervalTreeTest {
+
+    private static final UUID ANIMAL_ID = UUID.randomUUID();
+    private static final UUID PERSON_ID = UUID.randomUUID();
+    private static final LocalDateTime START = LocalDateTime.of(2024, 11, 4, 8, 0);
+
+    private final SessionIntervalTree tree = new SessionIntervalTree();
+
+    @Test
+    public void findFirstOverlap_emptyTree_returnsNull() {
+        assertTrue(tree.isEmpty());
+        assertNull(tree.findFirstOverlap(START, START.plusHours(1)));
+    }
+
+    @Test
+    public void findFirstOverlap_longSessionStartedEarlier_returnsIt() {
+        FeedingSession longSession = sessionAt(0, 120);
+        tree.add(longSession);
+        tree.add(sessionAt(30, 10));
+        tree.add(sessionAt(200, 10));
+
+        assertEquals(longSession, tree.findFirstOverlap(START.plusMinutes(100), START.plusMinutes(110)));
+        assertNull(tree.findFirstOverlap(START.plusMinutes(120), START.plusMinutes(200)));
+    }
+
+    @Test
+    public void remove_lastSession_treeIsEmpty() {
+        FeedingSession session = sessionAt(0, 10);
+        tree.add(session);
+        tree.remove(session);
+
+        assertTrue(tree.isEmpty());
+        assertNull(tree.findFirstOverlap(START, START.plusMinutes(10)));
+    }
+
+    @Test
+    public void findFirstOverlap_randomAddsAndRemoves_matchesLinearScan() {
+        Random random = new Random(21);
+        List<FeedingSession> sessions = new ArrayList<>();
+        for (int step = 0; step < 2000; step++) {
+            if (!sessions.isEmpty() && random.nextInt(3) == 0) {
+                tree.remove(sessions.remove(random.nextInt(sessions.size())));
+            } else {
+                FeedingSession session = sessionAt(random.nextInt(1000), random.nextInt(60));
+                tree.add(session);
+                sessions.add(session);
+            }
+
+            LocalDateTime queryStart = START.plusMinutes(random.nextInt(1000));
+            LocalDateTime queryEnd = queryStart.plusMinutes(1 + random.nextInt(30));
+            FeedingSession expected = sessions.stream()
+                    .filter(session -> FeedingSession.overlaps(session.getDateTime(), session.getEndTime(),
+                            queryStart, queryEnd))
+                    .min(FeedingSession.CHRONOLOGICAL_ORDER)
+                    .orElse(null);
+            assertEquals(expected, tree.findFirstOverlap(queryStart, queryEnd));
+        }
+    }
+
+    /**
+     * Returns a session starting {@code offsetMinutes} after {@code START}, lasting {@code durationMinutes}, or with
+     * no duration if that is zero.
+     */
+    private static FeedingSession sessionAt(int offsetMinutes, int durationMinutes) {
+        Optional<Duration> duration = durationMinutes == 0 ? Optional.empty()
+                : Optional.of(Duration.ofMinutes(durationMinutes));
+        return new FeedingSession(ANIMAL_ID, PERSON_ID, START.plusMinutes(offsetMinutes), duration);
+    }
+}
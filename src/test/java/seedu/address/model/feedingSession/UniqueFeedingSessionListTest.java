@@ -2,18 +2,29 @@ package seedu.address.model.feedingsession;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.feedingsession.exceptions.DuplicateFeedingSessionException;
 import seedu.address.model.feedingsession.exceptions.FeedingSessionNotFoundException;
 
@@ -89,6 +100,30 @@ public class UniqueFeedingSessionListTest {
         assertTrue(uniqueFeedingSessionList.containsByDetails(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1));
     }
 
+    @Test
+    public void getByDetails_afterSetFeedingSession_followsEditedDetails() {
+        FeedingSession session = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
+        FeedingSession edited = new FeedingSession(session.getId(), ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_2);
+        uniqueFeedingSessionList.add(session);
+        uniqueFeedingSessionList.setFeedingSession(session, edited);
+
+        assertNull(uniqueFeedingSessionList.getByDetails(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1));
+        assertEquals(edited, uniqueFeedingSessionList.getByDetails(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_2));
+    }
+
+    @Test
+    public void getByDetails_sessionsWithSameDetails_findsRemainingSessionAfterRemoval() {
+        FeedingSession session1 = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
+        FeedingSession session2 = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
+        uniqueFeedingSessionList.setFeedingSessions(Arrays.asList(session1, session2));
+
+        uniqueFeedingSessionList.remove(session1);
+        assertEquals(session2, uniqueFeedingSessionList.getByDetails(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1));
+
+        uniqueFeedingSessionList.remove(session2);
+        assertFalse(uniqueFeedingSessionList.containsByDetails(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1));
+    }
+
     @Test
     public void containsByDetails_noMatchingSession_returnsFalse() {
         FeedingSession session = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
@@ -98,6 +133,52 @@ public class UniqueFeedingSessionListTest {
         assertFalse(uniqueFeedingSessionList.containsByDetails(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_2));
     }
 
+    @Test
+    public void getSessionsBetween_sessionsOnBoundaries_includesBothEnds() {
+        FeedingSession early = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
+        FeedingSession earlyToo = new FeedingSession(ANIMAL_ID_2, PERSON_ID_2, DATE_TIME_1);
+        FeedingSession late = new FeedingSession(ANIMAL_ID_1, PERSON_ID_2, DATE_TIME_2);
+        FeedingSession later = new FeedingSession(ANIMAL_ID_2, PERSON_ID_1, DATE_TIME_2.plusMinutes(1));
+        uniqueFeedingSessionList.setFeedingSessions(Arrays.asList(later, early, late, earlyToo));
+
+        assertEquals(List.of(late), List.copyOf(uniqueFeedingSessionList.getSessionsBetween(DATE_TIME_2,
+                DATE_TIME_2)));
+        assertEquals(3, uniqueFeedingSessionList.getSessionsBetween(DATE_TIME_1, DATE_TIME_2).size());
+        assertEquals(later, uniqueFeedingSessionList.getSessionsBetween(DATE_TIME_1, DATE_TIME_2.plusHours(1)).last());
+
+        uniqueFeedingSessionList.remove(late);
+        assertEquals(2, uniqueFeedingSessionList.getSessionsBetween(DATE_TIME_1, DATE_TIME_2).size());
+        assertThrows(IllegalArgumentException.class, () ->
+                uniqueFeedingSessionList.getSessionsBetween(DATE_TIME_2, DATE_TIME_1));
+    }
+
+    @Test
+    public void getSessionsBetween_rangeEndingAtLatestTime_returnsSessions() {
+        LocalDateTime lastMinute = LocalDateTime.MAX.minus(FeedingSession.DEFAULT_OCCUPIED_DURATION);
+        FeedingSession last = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, lastMinute);
+        uniqueFeedingSessionList.add(last);
+
+        assertEquals(List.of(last), List.copyOf(uniqueFeedingSessionList.getSessionsBetween(lastMinute,
+                LocalDateTime.MAX)));
+        assertEquals(List.of(last), List.copyOf(uniqueFeedingSessionList.getSessionsBetween(LocalDateTime.MAX
+                .minusYears(1), lastMinute)));
+    }
+
+    @Test
+    public void getSessionsFrom_sessionAddedAndRemoved_viewFollowsList() {
+        FeedingSession early = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
+        FeedingSession late = new FeedingSession(ANIMAL_ID_2, PERSON_ID_2, DATE_TIME_2);
+        uniqueFeedingSessionList.add(late);
+        NavigableSet<FeedingSession> upcoming = uniqueFeedingSessionList.getSessionsFrom(DATE_TIME_1);
+
+        uniqueFeedingSessionList.add(early);
+        assertEquals(List.of(early, late), List.copyOf(upcoming));
+        assertEquals(List.of(late), List.copyOf(uniqueFeedingSessionList.getSessionsFrom(DATE_TIME_2)));
+
+        uniqueFeedingSessionList.remove(early);
+        assertEquals(late, upcoming.first());
+    }
+
     @Test
     public void getById_nullUuid_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueFeedingSessionList.getById(null));
@@ -115,6 +196,20 @@ public class UniqueFeedingSessionListTest {
         assertNull(uniqueFeedingSessionList.getById(UUID.randomUUID()));
     }
 
+    @Test
+    public void getById_afterRemoveAndSetFeedingSessions_reflectsContents() {
+        FeedingSession session = new FeedingSession(SESSION_ID, ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
+        FeedingSession otherSession = new FeedingSession(ANIMAL_ID_2, PERSON_ID_2, DATE_TIME_2);
+        uniqueFeedingSessionList.add(session);
+        uniqueFeedingSessionList.remove(session);
+        assertNull(uniqueFeedingSessionList.getById(SESSION_ID));
+        assertFalse(uniqueFeedingSessionList.contains(session));
+
+        uniqueFeedingSessionList.setFeedingSessions(Collections.singletonList(otherSession));
+        assertEquals(otherSession, uniqueFeedingSessionList.getById(otherSession.getId()));
+        assertNull(uniqueFeedingSessionList.getById(SESSION_ID));
+    }
+
     @Test
     public void add_nullFeedingSession_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueFeedingSessionList.add(null));
@@ -351,4 +446,169 @@ public class UniqueFeedingSessionListTest {
         }
         assertEquals(2, count);
     }
+
+    @Test
+    public void getSessionsForAnimal_multipleSessions_returnsEarliestFirst() {
+        FeedingSession later = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_2);
+        FeedingSession earlier = new FeedingSession(ANIMAL_ID_1, PERSON_ID_2, DATE_TIME_1);
+        FeedingSession otherAnimal = new FeedingSession(ANIMAL_ID_2, PERSON_ID_1, DATE_TIME_1);
+        uniqueFeedingSessionList.add(later);
+        uniqueFeedingSessionList.add(otherAnimal);
+        uniqueFeedingSessionList.add(earlier);
+
+        assertEquals(Arrays.asList(earlier, later),
+                List.copyOf(uniqueFeedingSessionList.getSessionsForAnimal(ANIMAL_ID_1)));
+        assertEquals(Arrays.asList(otherAnimal, later),
+                List.copyOf(uniqueFeedingSessionList.getSessionsForPerson(PERSON_ID_1)));
+        assertTrue(uniqueFeedingSessionList.getSessionsForAnimal(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    public void getSessionsForPerson_afterSetAndRemove_reflectsContents() {
+        FeedingSession session = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
+        FeedingSession reassigned = new FeedingSession(session.getId(), ANIMAL_ID_1, PERSON_ID_2, DATE_TIME_2);
+        uniqueFeedingSessionList.add(session);
+        uniqueFeedingSessionList.setFeedingSession(session, reassigned);
+
+        assertTrue(uniqueFeedingSessionList.getSessionsForPerson(PERSON_ID_1).isEmpty());
+        assertEquals(DATE_TIME_2, uniqueFeedingSessionList.getSessionsForPerson(PERSON_ID_2).first().getDateTime());
+
+        uniqueFeedingSessionList.remove(reassigned);
+        assertTrue(uniqueFeedingSessionList.getSessionsForPerson(PERSON_ID_2).isEmpty());
+        assertTrue(uniqueFeedingSessionList.getSessionsForAnimal(ANIMAL_ID_1).isEmpty());
+    }
+
+    @Test
+    public void getSessionsForAnimal_modifyView_throwsUnsupportedOperationException() {
+        FeedingSession session = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
+        uniqueFeedingSessionList.add(session);
+        assertThrows(UnsupportedOperationException.class, () ->
+                uniqueFeedingSessionList.getSessionsForAnimal(ANIMAL_ID_1).pollFirst());
+    }
+
+    @Test
+    public void removeIf_matchingSessions_removedInSingleChange() {
+        FeedingSession first = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
+        FeedingSession kept = new FeedingSession(ANIMAL_ID_2, PERSON_ID_1, DATE_TIME_1);
+        FeedingSession last = new FeedingSession(ANIMAL_ID_1, PERSON_ID_2, DATE_TIME_2);
+        uniqueFeedingSessionList.setFeedingSessions(Arrays.asList(first, kept, last));
+        int[] changes = new int[1];
+        uniqueFeedingSessionList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<FeedingSession>) change -> changes[0]++);
+
+        SortedMap<Integer, FeedingSession> removed =
+                uniqueFeedingSessionList.removeIf(session -> session.involvesAnimal(ANIMAL_ID_1));
+
+        assertEquals(1, changes[0]);
+        assertEquals(Arrays.asList(0, 2), List.copyOf(removed.keySet()));
+        assertEquals(Collections.singletonList(kept), uniqueFeedingSessionList.asUnmodifiableObservableList());
+        assertFalse(uniqueFeedingSessionList.contains(first.getId()));
+        assertTrue(uniqueFeedingSessionList.getSessionsForAnimal(ANIMAL_ID_1).isEmpty());
+        assertNull(uniqueFeedingSessionList.getByDetails(ANIMAL_ID_1, PERSON_ID_2, DATE_TIME_2));
+    }
+
+    @Test
+    public void removeIf_noMatchingSessions_listUnchanged() {
+        FeedingSession session = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
+        uniqueFeedingSessionList.add(session);
+        assertTrue(uniqueFeedingSessionList.removeIf(s -> s.involvesPerson(PERSON_ID_2)).isEmpty());
+        assertEquals(Collections.singletonList(session), uniqueFeedingSessionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void insertAll_removedSessions_restoresOriginalOrderAndIndexes() {
+        FeedingSession first = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
+        FeedingSession kept = new FeedingSession(ANIMAL_ID_2, PERSON_ID_1, DATE_TIME_1);
+        FeedingSession last = new FeedingSession(ANIMAL_ID_1, PERSON_ID_2, DATE_TIME_2);
+        List<FeedingSession> original = Arrays.asList(first, kept, last);
+        uniqueFeedingSessionList.setFeedingSessions(original);
+        SortedMap<Integer, FeedingSession> removed =
+                uniqueFeedingSessionList.removeIf(session -> session.involvesAnimal(ANIMAL_ID_1));
+        int[] changes = new int[1];
+        uniqueFeedingSessionList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<FeedingSession>) change -> changes[0]++);
+
+        uniqueFeedingSessionList.insertAll(removed);
+
+        assertEquals(1, changes[0]);
+        assertEquals(original, uniqueFeedingSessionList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(first, last),
+                List.copyOf(uniqueFeedingSessionList.getSessionsForAnimal(ANIMAL_ID_1)));
+        assertEquals(last, uniqueFeedingSessionList.getByDetails(ANIMAL_ID_1, PERSON_ID_2, DATE_TIME_2));
+    }
+
+    @Test
+    public void insertAll_sessionAlreadyInList_throwsDuplicateFeedingSessionException() {
+        FeedingSession session = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
+        uniqueFeedingSessionList.add(session);
+        assertThrows(DuplicateFeedingSessionException.class, () ->
+                uniqueFeedingSessionList.insertAll(new TreeMap<>(Map.of(0, session))));
+    }
+
+    @Test
+    public void getOverlappingSessionForPerson_sessionAddedAndRemoved_followsList() {
+        FeedingSession session = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1,
+                Optional.of(Duration.ofMinutes(30)));
+        uniqueFeedingSessionList.add(session);
+
+        assertEquals(session, uniqueFeedingSessionList.getOverlappingSessionForPerson(PERSON_ID_1,
+                DATE_TIME_1.plusMinutes(29), DATE_TIME_1.plusMinutes(45)));
+        assertNull(uniqueFeedingSessionList.getOverlappingSessionForPerson(PERSON_ID_1,
+                DATE_TIME_1.plusMinutes(30), DATE_TIME_1.plusMinutes(45)));
+        assertNull(uniqueFeedingSessionList.getOverlappingSessionForPerson(PERSON_ID_2,
+                DATE_TIME_1, DATE_TIME_1.plusMinutes(45)));
+
+        uniqueFeedingSessionList.remove(session);
+        assertNull(uniqueFeedingSessionList.getOverlappingSessionForPerson(PERSON_ID_1,
+                DATE_TIME_1, DATE_TIME_1.plusMinutes(45)));
+    }
+
+    @Test
+    public void getOverlappingSessions_overlapsOfSamePersonOnly_returnsPairsInOrder() {
+        FeedingSession long1 = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1,
+                Optional.of(Duration.ofMinutes(90)));
+        FeedingSession sameMinute = new FeedingSession(ANIMAL_ID_2, PERSON_ID_1, DATE_TIME_1);
+        FeedingSession otherPerson = new FeedingSession(ANIMAL_ID_2, PERSON_ID_2, DATE_TIME_1);
+        FeedingSession later = new FeedingSession(ANIMAL_ID_2, PERSON_ID_1, DATE_TIME_2);
+        FeedingSession afterEnd = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1.plusMinutes(90));
+        uniqueFeedingSessionList.setFeedingSessions(Arrays.asList(afterEnd, later, otherPerson, sameMinute, long1));
+
+        FeedingSession first = FeedingSession.CHRONOLOGICAL_ORDER.compare(long1, sameMinute) < 0 ? long1 : sameMinute;
+        FeedingSession second = first == long1 ? sameMinute : long1;
+        assertEquals(List.of(Map.entry(first, second), Map.entry(long1, later)),
+                uniqueFeedingSessionList.getOverlappingSessions());
+    }
+
+    @Test
+    public void renumber_linksToSessionsInList_sharesSurrogates() {
+        FeedingSession session = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1);
+        uniqueFeedingSessionList.add(session);
+        FeedingSessionIdSet links = FeedingSessionIdSet.of(Set.of(session.getId()));
+
+        FeedingSessionIdSet renumbered = uniqueFeedingSessionList.renumber(links);
+        assertEquals(links, renumbered);
+        assertSame(renumbered, uniqueFeedingSessionList.renumber(renumbered));
+        assertSame(FeedingSessionIdSet.empty(), uniqueFeedingSessionList.renumber(FeedingSessionIdSet.empty()));
+    }
+
+    @Test
+    public void renumberIfSparse_mostSessionsRemoved_startsNewRegistryOnce() {
+        List<FeedingSession> sessions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            FeedingSession session = new FeedingSession(ANIMAL_ID_1, PERSON_ID_1, DATE_TIME_1.plusHours(i));
+            sessions.add(session);
+            uniqueFeedingSessionList.add(session);
+        }
+        FeedingSessionIdSet links = uniqueFeedingSessionList.renumber(
+                FeedingSessionIdSet.of(Set.of(sessions.get(99).getId())));
+        assertFalse(uniqueFeedingSessionList.renumberIfSparse());
+
+        sessions.subList(0, 90).forEach(uniqueFeedingSessionList::remove);
+        assertTrue(uniqueFeedingSessionList.renumberIfSparse());
+        assertFalse(uniqueFeedingSessionList.renumberIfSparse());
+
+        FeedingSessionIdSet renumbered = uniqueFeedingSessionList.renumber(links);
+        assertNotSame(links, renumbered);
+        assertEquals(links, renumbered);
+    }
 }
@@ -0,0 +1,49 @@
+package seedu.address.model.feedingsession;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class UuidIntMapTest {
+
+    private final UuidIntMap map = new UuidIntMap(0);
+
+    @Test
+    public void get_absentKey_returnsAbsent() {
+        assertEquals(UuidIntMap.ABSENT, map.get(1, 2));
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        map.put(1, 2, 3);
+        map.put(1, 2, -4);
+        assertEquals(-4, map.get(1, 2));
+    }
+
+    @Test
+    public void put_manyKeys_matchHashMap() {
+        Random random = new Random(7);
+        UUID[] keys = new UUID[300];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = UUID.randomUUID();
+        }
+
+        Map<UUID, Integer> expected = new HashMap<>();
+        for (int step = 0; step < 5000; step++) {
+            UUID key = keys[random.nextInt(keys.length)];
+            int value = random.nextInt();
+            map.put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+            expected.put(key, value);
+        }
+
+        for (UUID key : keys) {
+            long value = map.get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+            assertEquals(expected.containsKey(key) ? (long) expected.get(key) : UuidIntMap.ABSENT, value);
+        }
+    }
+}
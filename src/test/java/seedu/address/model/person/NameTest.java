@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -62,4 +63,10 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid PersonName")));
     }
+
+    @Test
+    public void getNormalizedName() {
+        assertEquals("peter jack", new Name("  Peter   JACK ").getNormalizedName());
+        assertEquals(new Name("peter jack").hashCode(), new Name("Peter  Jack").hashCode());
+    }
 }
@@ -2,21 +2,28 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.exceptions.DuplicateEmailException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.DuplicatePhoneException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -60,6 +67,36 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseAndSpacing_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceDifferentCase = new PersonBuilder(ALICE).withName("alice  PAULINE").build();
+        assertTrue(uniquePersonList.containsPerson(aliceDifferentCase));
+    }
+
+    @Test
+    public void containsPhoneAndEmail_personInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.containsPhone(ALICE.getPhone()));
+        assertTrue(uniquePersonList.containsEmail(ALICE.getEmail()));
+        assertFalse(uniquePersonList.containsPhone(BOB.getPhone()));
+        assertFalse(uniquePersonList.containsEmail(BOB.getEmail()));
+    }
+
+    @Test
+    public void add_duplicatePhone_throwsDuplicatePhoneException() {
+        uniquePersonList.add(ALICE);
+        Person samePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        assertThrows(DuplicatePhoneException.class, () -> uniquePersonList.add(samePhone));
+    }
+
+    @Test
+    public void add_duplicateEmail_throwsDuplicateEmailException() {
+        uniquePersonList.add(ALICE);
+        Person sameEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        assertThrows(DuplicateEmailException.class, () -> uniquePersonList.add(sameEmail));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -113,6 +150,31 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasPhoneOfAnotherPerson_throwsDuplicatePhoneException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        assertThrows(DuplicatePhoneException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasEmailOfAnotherPerson_throwsDuplicateEmailException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(BOB.getEmail().value).build();
+        assertThrows(DuplicateEmailException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonChangesPhone_releasesOldPhone() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertFalse(uniquePersonList.containsPhone(ALICE.getPhone()));
+        assertTrue(uniquePersonList.containsPhone(BOB.getPhone()));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -166,12 +228,84 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePhones_throwsDuplicatePhoneException() {
+        Person samePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        assertThrows(DuplicatePhoneException.class, () -> uniquePersonList.setPersons(Arrays.asList(ALICE, samePhone)));
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void setPersons_listWithDuplicateEmails_throwsDuplicateEmailException() {
+        Person sameEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        assertThrows(DuplicateEmailException.class, () -> uniquePersonList.setPersons(Arrays.asList(ALICE, sameEmail)));
+    }
+
+    @Test
+    public void getById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.getById(null));
+    }
+
+    @Test
+    public void getById_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getById(ALICE.getId()));
+        assertNull(uniquePersonList.getById(UUID.randomUUID()));
+    }
+
+    @Test
+    public void getById_afterSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(editedAlice, uniquePersonList.getById(ALICE.getId()));
+    }
+
+    @Test
+    public void getById_afterRemoveAndSetPersons_reflectsContents() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertNull(uniquePersonList.getById(ALICE.getId()));
+
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(BOB, uniquePersonList.getById(BOB.getId()));
+        assertNull(uniquePersonList.getById(ALICE.getId()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void add_personsWithSameTag_shareInternedTag() {
+        Person alice = new PersonBuilder(ALICE).withTags("friends").build();
+        Person benson = new PersonBuilder(BENSON).withTags("friends").build();
+        uniquePersonList.add(alice);
+        uniquePersonList.add(benson);
+
+        List<Person> persons = uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(List.of(alice, benson), persons);
+        assertSame(onlyTag(persons.get(0)), onlyTag(persons.get(1)));
+    }
+
+    @Test
+    public void setPersons_personsWithSameTag_shareInternedTag() {
+        Person alice = new PersonBuilder(ALICE).withTags("friends").build();
+        Person benson = new PersonBuilder(BENSON).withTags("friends").build();
+        uniquePersonList.setPersons(List.of(alice, benson));
+
+        List<Person> persons = uniquePersonList.asUnmodifiableObservableList();
+        assertSame(onlyTag(persons.get(0)), onlyTag(persons.get(1)));
+        assertTrue(persons.get(1).hasTagIgnoreCase("FRIENDS"));
+    }
+
+    private static Tag onlyTag(Person person) {
+        assertEquals(1, person.getTags().size());
+        return person.getTags().iterator().next();
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
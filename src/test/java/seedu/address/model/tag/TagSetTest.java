@@ -0,0 +1,86 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+    }
+
+    @Test
+    public void of_tagSet_returnsSameInstance() {
+        TagSet tags = TagSet.of(Set.of(new Tag("friends")));
+        assertSame(tags, TagSet.of(tags));
+    }
+
+    @Test
+    public void of_equalTagsInOneDictionary_sharesInternedInstances() {
+        TagDictionary dictionary = new TagDictionary();
+        Tag first = TagSet.of(Set.of(new Tag("colleagues")), dictionary).iterator().next();
+        Tag second = TagSet.of(Set.of(new Tag("colleagues")), dictionary).iterator().next();
+        assertSame(first, second);
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    public void of_tagSetInOtherDictionary_reinternsTags() {
+        TagSet tags = TagSet.of(Set.of(new Tag("friends")));
+        TagDictionary dictionary = new TagDictionary();
+        TagSet interned = TagSet.of(tags, dictionary);
+
+        assertTrue(interned.isIn(dictionary));
+        assertFalse(tags.isIn(dictionary));
+        assertEquals(tags, interned);
+        assertSame(interned, TagSet.of(interned, dictionary));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tags = TagSet.of(Set.of(new Tag("friends"), new Tag("owesMoney")));
+        assertTrue(tags.contains(new Tag("friends")));
+        assertFalse(tags.contains(new Tag("Friends")));
+        assertFalse(tags.contains(new Tag("neverUsedAnywhere")));
+        assertFalse(tags.contains("friends"));
+        assertEquals(2, tags.size());
+    }
+
+    @Test
+    public void containsIgnoreCase() {
+        TagSet tags = TagSet.of(Set.of(new Tag("Friends")));
+        assertTrue(tags.containsIgnoreCase("friends"));
+        assertTrue(tags.containsIgnoreCase("FRIENDS"));
+        assertFalse(tags.containsIgnoreCase("friend"));
+        assertFalse(TagSet.of(Set.of()).containsIgnoreCase("friends"));
+    }
+
+    @Test
+    public void equals() {
+        Set<Tag> hashSet = new HashSet<>(Set.of(new Tag("friends"), new Tag("husband")));
+        TagSet tags = TagSet.of(hashSet);
+
+        assertEquals(hashSet, tags);
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+        assertEquals(tags, TagSet.of(Set.of(new Tag("husband"), new Tag("friends"))));
+        assertFalse(tags.equals(TagSet.of(Set.of(new Tag("friends")))));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(Set.of(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(new Tag("husband")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+    }
+}
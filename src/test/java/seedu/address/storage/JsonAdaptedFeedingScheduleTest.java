@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.JsonAdaptedFeedingSchedule.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.feedingsession.FeedingSchedule;
+
+public class JsonAdaptedFeedingScheduleTest {
+    private static final String ID = UUID.randomUUID().toString();
+    private static final String ANIMAL_ID = UUID.randomUUID().toString();
+    private static final String PERSON_ID = UUID.randomUUID().toString();
+    private static final String START = "2025-01-01T08:00:00";
+
+    @Test
+    public void toModelType_validSchedule_returnsSchedule() throws Exception {
+        FeedingSchedule source = new FeedingSchedule(UUID.randomUUID(), UUID.randomUUID(),
+                LocalDateTime.of(2025, 1, 1, 8, 0), 2)
+                .skipping(LocalDateTime.of(2025, 1, 5, 8, 0));
+        assertEquals(source, new JsonAdaptedFeedingSchedule(source).toModelType());
+    }
+
+    @Test
+    public void toModelType_missingStart_throwsIllegalValueException() {
+        JsonAdaptedFeedingSchedule adapted =
+                new JsonAdaptedFeedingSchedule(ID, ANIMAL_ID, PERSON_ID, null, 1, List.of());
+        assertThrows(IllegalValueException.class, String.format(MISSING_FIELD_MESSAGE_FORMAT, "start"),
+                adapted::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidInterval_throwsIllegalValueException() {
+        JsonAdaptedFeedingSchedule adapted =
+                new JsonAdaptedFeedingSchedule(ID, ANIMAL_ID, PERSON_ID, START, 0, List.of());
+        assertThrows(IllegalValueException.class, FeedingSchedule.MESSAGE_CONSTRAINTS, adapted::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidSkippedDate_throwsIllegalValueException() {
+        JsonAdaptedFeedingSchedule adapted =
+                new JsonAdaptedFeedingSchedule(ID, ANIMAL_ID, PERSON_ID, START, 1, List.of("2025-02-30"));
+        assertThrows(IllegalValueException.class, adapted::toModelType);
+    }
+}
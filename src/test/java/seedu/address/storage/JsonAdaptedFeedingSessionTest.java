@@ -6,8 +6,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.storage.JsonAdaptedFeedingSession.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -106,4 +108,43 @@ public class JsonAdaptedFeedingSessionTest {
         String expectedMessage = "Corrupted DateTime field: " + corrupted;
         assertThrows(IllegalValueException.class, expectedMessage, adapted::toModelType);
     }
+
+    @Test
+    public void toModelType_withDuration_keepsDuration() throws Exception {
+        FeedingSession source = new FeedingSession(UUID.randomUUID(), UUID.randomUUID(),
+                LocalDateTime.of(2025, 1, 1, 10, 15), Optional.of(Duration.ofMinutes(20)));
+
+        assertEquals(Optional.of(Duration.ofMinutes(20)),
+                new JsonAdaptedFeedingSession(source).toModelType().getDuration());
+    }
+
+    @Test
+    public void toModelType_invalidDuration_throwsIllegalValueException() {
+        JsonAdaptedFeedingSession adapted = new JsonAdaptedFeedingSession(UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(), UUID.randomUUID().toString(), "2025-01-01T10:15:00", 0L);
+        assertThrows(IllegalValueException.class, FeedingSession.MESSAGE_DURATION_CONSTRAINTS,
+                adapted::toModelType);
+    }
+
+    @Test
+    public void toModelType_durationBeyondIntRange_throwsIllegalValueException() {
+        JsonAdaptedFeedingSession adapted = new JsonAdaptedFeedingSession(UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(), UUID.randomUUID().toString(), "2025-01-01T10:15:00", Long.MAX_VALUE);
+        assertThrows(IllegalValueException.class, FeedingSession.MESSAGE_DURATION_CONSTRAINTS,
+                adapted::toModelType);
+    }
+
+    @Test
+    public void toModelType_endTimeBeyondMaximum_throwsIllegalValueException() {
+        JsonAdaptedFeedingSession adapted = new JsonAdaptedFeedingSession(UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                LocalDateTime.MAX.minusMinutes(30).format(FMT), 60L);
+        assertThrows(IllegalValueException.class, FeedingSession.MESSAGE_END_TIME_CONSTRAINTS,
+                adapted::toModelType);
+
+        JsonAdaptedFeedingSession withoutDuration = new JsonAdaptedFeedingSession(UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(), UUID.randomUUID().toString(), LocalDateTime.MAX.format(FMT));
+        assertThrows(IllegalValueException.class, FeedingSession.MESSAGE_END_TIME_CONSTRAINTS,
+                withoutDuration::toModelType);
+    }
 }